@@ -0,0 +1,51 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import controller.game.RandomGames;
+import model.game.FutoshikiBoard;
+import model.game.FutoshikiGenerator;
+
+/**
+ * Benchmarks de generación: {@link FutoshikiGenerator#generateGame(int, String, long)}
+ * y {@link RandomGames#generarJuegoAleatorio()}. Las semillas avanzan desde
+ * {@link PuzzleCorpus#SEED}, así que cada ejecución genera las mismas partidas.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneratorBenchmark {
+    @Param({"3", "4", "5", "6", "7", "8", "9", "10"})
+    private int size;
+
+    @Param({"Facil", "Intermedio", "Dificil"})
+    private String difficulty;
+
+    private long seed = PuzzleCorpus.SEED;
+
+    @Benchmark
+    public FutoshikiBoard generateGame() {
+        return FutoshikiGenerator.generateGame(size, difficulty, seed++);
+    }
+
+    @Benchmark
+    public int[][] generarJuegoAleatorio() {
+        RandomGames games = new RandomGames(size, seed++);
+        games.generarJuegoAleatorio();
+        return games.getTabla();
+    }
+}
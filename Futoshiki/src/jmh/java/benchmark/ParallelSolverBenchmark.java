@@ -0,0 +1,77 @@
+package benchmark;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.game.FutoshikiBoard;
+import model.solver.FutoshikiSolver;
+import model.solver.ParallelSolver;
+import util.constants.GameConstants;
+
+/**
+ * Benchmarks de {@link ParallelSolver} sobre las partidas difíciles de 9x9 y
+ * 10x10, con pools de distinta cantidad de hilos. {@link #sequentialCountToTwo()}
+ * es la referencia con un solo {@link FutoshikiSolver}; comparar cada
+ * {@code parallelism} contra ella muestra cómo escala la búsqueda.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelSolverBenchmark {
+    @Param({"9", "10"})
+    private int size;
+
+    @Param({"1", "2", "4", "8", "16"})
+    private int parallelism;
+
+    private FutoshikiBoard[] boards;
+    private ForkJoinPool pool;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        boards = PuzzleCorpus.boards(size, GameConstants.LEVEL_HARD);
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int sequentialCountToTwo() {
+        return FutoshikiSolver.fromBoard(nextBoard()).countSolutions(2);
+    }
+
+    @Benchmark
+    public int[][] parallelSolve() {
+        return new ParallelSolver(FutoshikiSolver.fromBoard(nextBoard()), pool).solve();
+    }
+
+    @Benchmark
+    public int parallelCountToTwo() {
+        return new ParallelSolver(FutoshikiSolver.fromBoard(nextBoard()), pool).countSolutions(2);
+    }
+
+    private FutoshikiBoard nextBoard() {
+        next = (next + 1) % boards.length;
+        return boards[next];
+    }
+}
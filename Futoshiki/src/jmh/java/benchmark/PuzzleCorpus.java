@@ -0,0 +1,46 @@
+package benchmark;
+
+import model.game.FutoshikiBoard;
+import model.game.FutoshikiGenerator;
+import model.solver.FutoshikiSolver;
+
+/**
+ * Corpus de partidas con semilla fija para los benchmarks.
+ *
+ * Cada partida se genera con {@link FutoshikiGenerator#generateGame(int, String, long)}
+ * a partir de {@link #SEED}, así que el corpus es el mismo en cada ejecución.
+ */
+public final class PuzzleCorpus {
+    /** Semilla base del corpus */
+    public static final long SEED = 2024L;
+    /** Partidas por cada tamaño y dificultad */
+    public static final int PUZZLES_PER_SET = 16;
+
+    private PuzzleCorpus() {
+    }
+
+    /**
+     * Construye el conjunto de partidas de un tamaño y dificultad.
+     *
+     * @param size Tamaño del tablero (3-10).
+     * @param difficulty Dificultad ("Facil", "Intermedio", "Dificil").
+     * @return Las partidas del conjunto.
+     */
+    public static FutoshikiBoard[] boards(int size, String difficulty) {
+        FutoshikiBoard[] boards = new FutoshikiBoard[PUZZLES_PER_SET];
+        for (int i = 0; i < boards.length; i++) {
+            boards[i] = FutoshikiGenerator.generateGame(size, difficulty, SEED + i);
+        }
+        return boards;
+    }
+
+    /**
+     * Obtiene la solución de una partida del corpus.
+     *
+     * @param board La partida.
+     * @return La cuadrícula resuelta.
+     */
+    public static int[][] solution(FutoshikiBoard board) {
+        return FutoshikiSolver.fromBoard(board).solve();
+    }
+}
@@ -0,0 +1,117 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import controller.game.Resolvedor;
+import model.game.FutoshikiBoard;
+import model.solver.FutoshikiSolver;
+import util.constants.GameConstants;
+
+/**
+ * Benchmarks de resolución: el motor de propagación, el conteo de soluciones,
+ * {@link FutoshikiBoard#solve()} y {@link Resolvedor#isSolvable()}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolverBenchmark {
+    @Param({"3", "4", "5", "6", "7", "8", "9", "10"})
+    private int size;
+
+    @Param({"Facil", "Intermedio", "Dificil"})
+    private String difficulty;
+
+    private FutoshikiBoard[] boards;
+    private int[][][] grids;
+    private String[][][] desVer;
+    private String[][][] desHor;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        boards = PuzzleCorpus.boards(size, difficulty);
+        grids = new int[boards.length][][];
+        desVer = new String[boards.length][][];
+        desHor = new String[boards.length][][];
+        for (int k = 0; k < boards.length; k++) {
+            toResolvedor(k, boards[k]);
+        }
+    }
+
+    @Benchmark
+    public int[][] solverSolve() {
+        return FutoshikiSolver.fromBoard(nextBoard()).solve();
+    }
+
+    @Benchmark
+    public int solverCountToTwo() {
+        return FutoshikiSolver.fromBoard(nextBoard()).countSolutions(2);
+    }
+
+    @Benchmark
+    public boolean boardSolve() {
+        FutoshikiBoard board = nextBoard();
+        board.clearNonConstantCells();
+        return board.solve();
+    }
+
+    @Benchmark
+    public boolean resolvedorIsSolvable() {
+        int k = nextIndex();
+        int[][] grid = new int[size][];
+        for (int i = 0; i < size; i++) {
+            grid[i] = grids[k][i].clone();
+        }
+        return new Resolvedor(grid, desVer[k], desHor[k]).isSolvable();
+    }
+
+    private FutoshikiBoard nextBoard() {
+        return boards[nextIndex()];
+    }
+
+    private int nextIndex() {
+        next = (next + 1) % boards.length;
+        return next;
+    }
+
+    // Resolvedor usa la convención de RandomGames: "mef"/"maf" en vertical y "mec"/"mac" en horizontal
+    private void toResolvedor(int k, FutoshikiBoard board) {
+        grids[k] = new int[size][size];
+        desVer[k] = new String[size - 1][size];
+        desHor[k] = new String[size][size - 1];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                if (board.isConstant(i, j)) {
+                    grids[k][i][j] = board.getValue(i, j);
+                }
+                if (j < size - 1) {
+                    desHor[k][i][j] = symbol(board.getRightRelation(i, j), "mec", "mac");
+                }
+                if (i < size - 1) {
+                    desVer[k][i][j] = symbol(board.getBottomRelation(i, j), "mef", "maf");
+                }
+            }
+        }
+    }
+
+    private static String symbol(int relation, String lesser, String greater) {
+        if (relation == GameConstants.INEQUALITY_LESSER) return lesser;
+        if (relation == GameConstants.INEQUALITY_GREATER) return greater;
+        return " ";
+    }
+}
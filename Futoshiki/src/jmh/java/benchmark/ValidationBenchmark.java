@@ -0,0 +1,118 @@
+package benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.game.FutoshikiBoard;
+import util.validators.BoardValidator;
+
+/**
+ * Benchmarks de validación de jugadas y de verificación de tablero completo,
+ * sobre partidas del corpus a medio llenar con su solución.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+    private static final int MOVES = 1024;
+
+    @Param({"3", "4", "5", "6", "7", "8", "9", "10"})
+    private int size;
+
+    @Param({"Facil", "Intermedio", "Dificil"})
+    private String difficulty;
+
+    private FutoshikiBoard[] halfFilled;
+    private FutoshikiBoard[] solved;
+    private int[] moveBoard;
+    private int[] moveRow;
+    private int[] moveCol;
+    private int[] moveValue;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        FutoshikiBoard[] corpus = PuzzleCorpus.boards(size, difficulty);
+        halfFilled = PuzzleCorpus.boards(size, difficulty);
+        solved = PuzzleCorpus.boards(size, difficulty);
+        Random random = new Random(PuzzleCorpus.SEED);
+
+        for (int k = 0; k < corpus.length; k++) {
+            int[][] solution = PuzzleCorpus.solution(corpus[k]);
+            solved[k].solve();
+            for (int i = 0; i < size; i++) {
+                for (int j = 0; j < size; j++) {
+                    if (random.nextBoolean()) {
+                        halfFilled[k].setCellValue(i, j, solution[i][j]);
+                    }
+                }
+            }
+        }
+
+        moveBoard = new int[MOVES];
+        moveRow = new int[MOVES];
+        moveCol = new int[MOVES];
+        moveValue = new int[MOVES];
+        for (int m = 0; m < MOVES; m++) {
+            moveBoard[m] = random.nextInt(corpus.length);
+            moveRow[m] = random.nextInt(size);
+            moveCol[m] = random.nextInt(size);
+            moveValue[m] = 1 + random.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public int checkMove() {
+        int m = nextMove();
+        return halfFilled[moveBoard[m]].checkMove(moveRow[m], moveCol[m], moveValue[m]);
+    }
+
+    @Benchmark
+    public String validateMoveMessage() {
+        int m = nextMove();
+        return BoardValidator.validateMove(halfFilled[moveBoard[m]], moveRow[m], moveCol[m], moveValue[m]);
+    }
+
+    @Benchmark
+    public boolean setAndClearCell() {
+        int m = nextMove();
+        FutoshikiBoard board = halfFilled[moveBoard[m]];
+        int previous = board.getValue(moveRow[m], moveCol[m]);
+        boolean placed = board.setCellValue(moveRow[m], moveCol[m], moveValue[m]);
+        board.clearCell(moveRow[m], moveCol[m]);
+        if (previous != 0) {
+            board.setCellValue(moveRow[m], moveCol[m], previous);
+        }
+        return placed;
+    }
+
+    @Benchmark
+    public boolean isBoardCompleteSolved() {
+        return solved[nextMove() % solved.length].isBoardComplete();
+    }
+
+    @Benchmark
+    public boolean isBoardCompletePartial() {
+        return halfFilled[nextMove() % halfFilled.length].isBoardComplete();
+    }
+
+    private int nextMove() {
+        next = (next + 1) & (MOVES - 1);
+        return next;
+    }
+}
@@ -1,14 +1,19 @@
 package controller.config;
 
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+
 import model.config.Configuration;
 import persistence.ConfigurationManager;
 import view.dialogs.ConfigurationDialog;
 import view.game.MainWindow;
+import util.log.Logs;
 
 /**
  * Controlador para gestionar la configuración de la aplicación.
  */
 public class ConfigurationController {
+    private static final Logger LOG = Logs.get(ConfigurationController.class);
     private Configuration config;
     private MainWindow mainWindow;
 
@@ -19,7 +24,6 @@ public class ConfigurationController {
      * @param mainWindow La ventana principal de la aplicación.
      */
     public ConfigurationController(Configuration config, MainWindow mainWindow) {
-        System.out.println("ConfigurationController: Constructor iniciado");
         this.mainWindow = mainWindow;
         
         // Cargar configuración guardada o usar la proporcionada como default
@@ -57,7 +61,7 @@ public class ConfigurationController {
      * Muestra el diálogo de configuración y guarda los cambios si se confirman.
      */
     public void showConfigDialog() {
-        System.out.println("ConfigurationController: Mostrando diálogo de configuración");
+        LOG.log(Level.DEBUG, "Mostrando diálogo de configuración");
 
         // Crear y mostrar el diálogo de configuración
         ConfigurationDialog dialog = new ConfigurationDialog(mainWindow);
@@ -65,11 +69,10 @@ public class ConfigurationController {
         dialog.setVisible(true);
         
         if (dialog.isConfirmed()) {
-            System.out.println("ConfigurationController: Configuración confirmada, guardando...");
+            LOG.log(Level.DEBUG, "Configuración confirmada, guardando...");
             config = dialog.getConfiguration();
             mainWindow.setConfiguration(config);
             ConfigurationManager.saveConfiguration(config);
-            System.out.println("ConfigurationController: Configuración guardada");
         }
     }
 
@@ -79,7 +82,7 @@ public class ConfigurationController {
      * @param newConfig La nueva configuración a establecer.
      */
     public void updateConfiguration(Configuration newConfig) {
-        System.out.println("ConfigurationController: Actualizando configuración");
+        LOG.log(Level.DEBUG, "Actualizando configuración");
         this.config = newConfig;
         mainWindow.setConfiguration(config);
         ConfigurationManager.saveConfiguration(config);
@@ -1,37 +1,54 @@
 package controller.game;
 
+import java.io.IOException;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Random;
 import java.util.Stack;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import javax.swing.JOptionPane;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
 
-import org.w3c.dom.Element;
 
 import controller.config.ConfigurationController;
 import controller.timer.TimerController;
 import model.config.Configuration;
 import model.game.FutoshikiBoard;
-import model.game.FutoshikiGenerator;
 import model.game.GameScore;
 import model.game.GameState;
 import model.game.Move;
+import model.solver.FutoshikiSolver;
+import model.solver.SearchMonitor;
+import persistence.AutoSaver;
+import persistence.BinaryCatalog;
+import persistence.FileTimings;
+import persistence.GameCatalog;
 import persistence.GameSaver;
 import persistence.Top10Manager;
 import persistence.XMLHandler;
-import persistence.XMLHandler.GameData;
+import util.constants.FileConstants;
+import util.constants.GameConstants;
 import util.constants.MessageConstants;
+import util.log.Logs;
+import util.validators.BoardValidator;
 import view.dialogs.GameSetupDialog;
+import view.dialogs.SolveProgressDialog;
 import view.game.MainWindow;
 
 /**
  * Controlador del juego Futoshiki.
  */
 public class GameController {
+    private static final Logger LOG = Logs.get(GameController.class);
     private GameState gameState;
     private MainWindow view;
-    private Map<String, List<GameData>> availableGames;
+    private GameCatalog gameCatalog;
     private Random random;
     private Configuration config;
     private Stack<Move> moves;
@@ -41,12 +58,17 @@ public class GameController {
     private String selectedDifficulty;
     private boolean isMultiNivel;
     private boolean isGameStarted;
-    private List<GameData> gamesForSize;
+    private int gamesForSize;
     private Top10Manager top10Manager;
-    private long startTime;
     private ConfigurationController configController;
     private boolean canPlay;
     private TimerController timerController;
+    private PuzzleSupply puzzleSupply;
+    private AutoSaver autoSaver;
+    // Ranura de la que se cargó o en la que se guardó la partida actual, o -1 si es nueva
+    private int gameSlot = -1;
+    // Búsqueda de la solución en curso (null si no hay)
+    private SolveWorker solveWorker;
 
     /**
      * Constructor del GameController.
@@ -60,46 +82,62 @@ public class GameController {
         this.view = view;
         this.configController = configController;
         this.random = new Random();
-        this.moves = new Stack<>();
-        this.redoMoves = new Stack<>();
+        // Las jugadas viven en el estado del juego para poder guardarlas con él
+        this.moves = gameState.getMoves();
+        this.redoMoves = gameState.getUndoneMoves();
         this.selectedDigit = 0;
         this.isGameStarted = false;
-        this.top10Manager = new Top10Manager();
+        this.top10Manager = Top10Manager.getInstance();
         this.canPlay = true;
         
         // Inicializar la configuración con la del ConfigurationController
         this.config = configController.getConfiguration();
         
         loadAvailableGames();
+        
+        // Generar partidas de 6x6 en adelante en segundo plano
+        this.puzzleSupply = new PuzzleSupply(config.getPuzzleQueueDepth(), config.getPuzzleWorkers());
+        puzzleSupply.prefillAll(6, GameConstants.MAX_GRID_SIZE);
+        
+        // Guardar cada jugada en segundo plano, en la ranura del guardado automático
+        this.autoSaver = new AutoSaver(TimeUnit.SECONDS.toMillis(config.getAutosaveInterval()));
+        
+        // Al cerrar la aplicación se detiene la generación y se registran sus estadísticas
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "futoshiki-shutdown"));
+        
         this.timerController = new TimerController(view, this);
     }
 
     /**
-     * Carga los juegos disponibles desde el XML.
+     * Abre el catálogo binario de juegos, convirtiéndolo desde el XML si hace falta.
+     * Si no se puede, indexa el XML directamente. Las partidas se cargan al pedirlas.
      */
     private void loadAvailableGames() {
-        this.availableGames = XMLHandler.loadGames();
+        try {
+            this.gameCatalog = BinaryCatalog.openOrConvert(FileConstants.GAMES_FILE, FileConstants.GAMES_CATALOG_FILE);
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "No se pudo abrir el catálogo binario, se usa el XML", e);
+            this.gameCatalog = XMLHandler.indexGames();
+        }
     }
 
     /**
      * Inicia un nuevo juego.
      */
     public void startGame() {
-        System.out.println("=== INICIO DE STARTGAME ===");
         view.stopTimer();
         view.restartTimer();
         GameSetupDialog dialog = new GameSetupDialog(view);
         dialog.setVisible(true);
         
         if (dialog.isConfirmed()) {
+            gameSlot = -1;
             selectedDifficulty = dialog.getSelectedDifficulty();
             selectedSize = dialog.getSelectedSize();
             isMultiNivel = dialog.isMultiNivel();
             
-            System.out.println("Configuración seleccionada:");
-            System.out.println("- Tamaño: " + selectedSize);
-            System.out.println("- Dificultad: " + selectedDifficulty);
-            System.out.println("- Multinivel: " + isMultiNivel);
+            LOG.log(Level.DEBUG, () -> "Configuración seleccionada: " + selectedSize + "x" + selectedSize +
+                    ", " + selectedDifficulty + ", multinivel " + isMultiNivel);
 
             // Actualizar la configuración existente en lugar de crear una nueva
             config.setGridSize(selectedSize);
@@ -124,41 +162,24 @@ public class GameController {
             view.getDigitPanel().setMaxDigits(selectedSize);
             view.setLevel(selectedDifficulty);
             
-            // PRINT 1: Antes de inicializar
-            System.out.println("\nEstado antes de inicializar juego:");
-            System.out.println("- isGameStarted: " + isGameStarted);
-            System.out.println("- isPlayable: " + view.getGameBoard().isPlayable());
-
             if (selectedSize >= 6) {
-                System.out.println("\n=== INICIANDO JUEGO GENERADO ===");
-                FutoshikiBoard board = FutoshikiGenerator.generateGame(selectedSize, selectedDifficulty);
-                gameState.setBoard(board);
-                gameState.setDifficulty(selectedDifficulty);
-                isGameStarted = true;
-                
-                // PRINT 2: Después de generar tablero
-                System.out.println("\nTablero generado:");
-                System.out.println("- Tamaño: " + board.getSize());
-                System.out.println("- Estado isGameStarted: " + isGameStarted);
-                
-                // Habilitar jugabilidad
-                view.getGameBoard().setPlayable(true);
-                view.enableGameButtons(true);
-                
-                // PRINT 3: Después de habilitar jugabilidad
-                System.out.println("\nEstado después de habilitar jugabilidad:");
-                System.out.println("- isPlayable: " + view.getGameBoard().isPlayable());
-                
-                // Actualizar visualización
-                view.getGameBoard().updateBoard(board);
-                
-                // PRINT 4: Estado final
-                System.out.println("\nEstado final del juego:");
-                System.out.println("- isGameStarted: " + isGameStarted);
-                System.out.println("- isPlayable: " + view.getGameBoard().isPlayable());
+                withGeneratedBoard(selectedSize, selectedDifficulty, board -> {
+                    gameState.setBoard(board);
+                    gameState.setDifficulty(selectedDifficulty);
+                    isGameStarted = true;
+                    
+                    LOG.log(Level.DEBUG, () -> "Iniciando juego generado " + board.getPuzzleId());
+                    
+                    // Habilitar jugabilidad
+                    view.setLevel(selectedDifficulty);
+                    view.getGameBoard().setPlayable(true);
+                    view.enableGameButtons(true);
+                    
+                    // Actualizar visualización
+                    view.getGameBoard().updateBoard(board);
+                });
             } else {
-                List<GameData> availableGamesForConfig = availableGames.get(selectedDifficulty);
-                if (availableGamesForConfig == null || availableGamesForConfig.isEmpty()) {
+                if (gameCatalog.count(selectedDifficulty) == 0) {
                     JOptionPane.showMessageDialog(view, 
                         MessageConstants.INFO_NO_GAMES_FOR_LEVEL,
                         "Error", 
@@ -166,11 +187,9 @@ public class GameController {
                     return;
                 }
 
-                gamesForSize = availableGamesForConfig.stream()
-                    .filter(game -> game.getTamano() == selectedSize)
-                    .toList();
+                gamesForSize = gameCatalog.count(selectedDifficulty, selectedSize);
 
-                if (gamesForSize.isEmpty()) {
+                if (gamesForSize == 0) {
                     JOptionPane.showMessageDialog(view,
                         "NO HAY PARTIDAS PARA ESTE TAMAÑO DE TABLERO",
                         "Error",
@@ -187,51 +206,50 @@ public class GameController {
     /**
      * Inicializa un nuevo juego con los parámetros dados.
      * 
-     * @param gamesForSize Lista de juegos disponibles para el tamaño seleccionado.
+     * @param gamesForSize Cantidad de juegos disponibles para el tamaño seleccionado.
      * @param difficulty Dificultad seleccionada.
      * @param size Tamaño del tablero.
      * @param dialog Diálogo de configuración del juego.
      */
-    private void initializeNewGame(List<GameData> gamesForSize, String difficulty, int size, GameSetupDialog dialog) {
-        FutoshikiBoard board;
-        
+    private void initializeNewGame(int gamesForSize, String difficulty, int size, GameSetupDialog dialog) {
         // IMPORTANTE: Detener y reiniciar timer antes de empezar
         view.stopTimer();
         view.restartTimer();
         
-        startTime = System.currentTimeMillis();
-        System.out.println("Inicializando nuevo juego:");
-        System.out.println("- Tamaño: " + size + "x" + size);
-        System.out.println("- Dificultad: " + difficulty);
-        System.out.println("- Tiempo inicial: " + startTime);
+        LOG.log(Level.DEBUG, () -> "Inicializando nuevo juego " + size + "x" + size + ", " + difficulty);
 
         if (size >= 6) {
-            System.out.println("Generando tablero " + size + "x" + size);
-            board = FutoshikiGenerator.generateGame(size, difficulty);
-            System.out.println("Tablero generado, actualizando vista...");
-            
-            // Verificar que el tablero se generó correctamente
-            if (board != null) {
-                // Imprimir estado del tablero para debug
-                System.out.println("Estado del tablero generado:");
-                for (int i = 0; i < size; i++) {
-                    for (int j = 0; j < size; j++) {
-                        if (board.isConstant(i, j)) {
-                            System.out.print("[" + board.getValue(i, j) + "] ");
-                        } else {
-                            System.out.print(board.getValue(i, j) + " ");
+            withGeneratedBoard(size, difficulty, board -> {
+                // Registrar el estado del tablero para debug
+                if (LOG.isLoggable(Level.TRACE)) {
+                    StringBuilder text = new StringBuilder("Estado del tablero generado:");
+                    for (int i = 0; i < size; i++) {
+                        text.append('\n');
+                        for (int j = 0; j < size; j++) {
+                            if (board.isConstant(i, j)) {
+                                text.append("[").append(board.getValue(i, j)).append("] ");
+                            } else {
+                                text.append(board.getValue(i, j)).append(" ");
+                            }
                         }
                     }
-                    System.out.println();
+                    LOG.log(Level.TRACE, text.toString());
                 }
-            }
+                beginGame(board, difficulty);
+            });
         } else {
             // Seleccionar partida aleatoria del XML para tamaños 3x3 a 5x5
-            GameData selectedGame = gamesForSize.get(random.nextInt(gamesForSize.size()));
-            board = createBoard(selectedGame);
+            beginGame(gameCatalog.getBoard(difficulty, size, random.nextInt(gamesForSize)), difficulty);
         }
+    }
 
-        
+    /**
+     * Empieza a jugar un tablero ya elegido.
+     * 
+     * @param board El tablero a jugar.
+     * @param difficulty Dificultad del tablero.
+     */
+    private void beginGame(FutoshikiBoard board, String difficulty) {
         // Configurar estado del juego
         gameState.setBoard(board);
         gameState.setDifficulty(difficulty);
@@ -255,49 +273,10 @@ public class GameController {
         timerController.setValores(config); // Asegurarse que el timer tenga la configuración correcta
         view.startTimer();
         
-        // Verificación
-        System.out.println("Juego inicializado. Estado del timer:");
-        System.out.println("- Tiempo inicial: " + startTime);
-        System.out.println("- Tiempo actual: " + System.currentTimeMillis());
-        System.out.println("- Diferencia: " + (System.currentTimeMillis() - startTime) + "ms");
-        System.out.println("Estado final de inicialización:");
-        System.out.println("- Juego iniciado: " + isGameStarted);
-        System.out.println("- Tablero jugable: " + view.getGameBoard().isPlayable());
-        System.out.println("- Tamaño del tablero: " + board.getSize());
-        System.out.println("Timer iniciado. Configuración:");
-        System.out.println("- Tipo: " + config.getTimerType());
-        System.out.println("- Horas: " + config.getTimerHours());
-        System.out.println("- Minutos: " + config.getTimerMinutes());
-        System.out.println("- Segundos: " + config.getTimerSeconds());
-    }
-
-    /**
-     * Crea un tablero de Futoshiki a partir de los datos del juego.
-     * 
-     * @param gameData Datos del juego.
-     * @return El tablero de Futoshiki creado.
-     */
-    private FutoshikiBoard createBoard(GameData gameData) {
-        FutoshikiBoard board = new FutoshikiBoard(gameData.getTamano());
-
-        // Colocar constantes
-        gameData.getConstantes().forEach((pos, valor) -> {
-            String[] coords = pos.split(",");
-            int row = Integer.parseInt(coords[0]);
-            int col = Integer.parseInt(coords[1]);
-            board.setConstant(row, col, valor);
-        });
-
-        // Colocar desigualdades
-        gameData.getDesigualdades().forEach(inequality -> {
-            board.setInequality(
-                inequality.getType(),
-                inequality.getRow1(),
-                inequality.getCol1()
-            );
-        });
-
-        return board;
+        LOG.log(Level.DEBUG, () -> "Juego inicializado: tablero " + board.getSize() + "x" + board.getSize() +
+                ", jugable " + view.getGameBoard().isPlayable() +
+                ", timer " + config.getTimerType() + " " + config.getTimerHours() + ":" +
+                config.getTimerMinutes() + ":" + config.getTimerSeconds());
     }
 
     /**
@@ -308,26 +287,19 @@ public class GameController {
      */
     public void handleCellClick(int row, int col) 
     {
-        System.out.println("\nGameController - handleCellClick iniciado:");
-        System.out.println("  Posición: " + row + "," + col);
-        System.out.println("  isGameStarted: " + isGameStarted);
-        System.out.println("  selectedDigit: " + selectedDigit);
-        System.out.println("  eraserSelected: " + view.getDigitPanel().isEraserSelected());
+        LOG.log(Level.DEBUG, () -> "Click en celda [" + row + "," + col + "], juego iniciado " + isGameStarted +
+                ", dígito " + selectedDigit + ", borrador " + view.getDigitPanel().isEraserSelected());
 
         if (!isGameStarted) {
-            System.out.println("  El juego no ha comenzado, saliendo de handleCellClick.");
             return;
         }
 
         FutoshikiBoard board = gameState.getBoard();
-        System.out.println("  Valor actual en celda: " + board.getValue(row, col));
-        System.out.println("  Es celda constante: " + board.isConstant(row, col));
-        System.out.println("  Borrador seleccionado: " + view.getDigitPanel().isEraserSelected());
         
         // Verificar si es celda constante
 
         if (board.isConstant(row, col)) {
-            System.out.println("  Error: Intento de modificar una celda constante.");
+            LOG.log(Level.DEBUG, "Intento de modificar una celda constante");
             JOptionPane.showMessageDialog(view,
                 MessageConstants.ERROR_CONSTANT_CELL,
                 "Error",
@@ -337,29 +309,27 @@ public class GameController {
 
         // Manejar borrado
         boolean isErasing = view.getDigitPanel().isEraserSelected();
-        System.out.println("Modo borrador: " + isErasing);
         
         if (isErasing) 
         {
             int currentValue = board.getValue(row, col);
             if (currentValue > 0) {
-                System.out.println("  Borrando valor en celda: " + currentValue);
                 moves.push(new Move(row, col, 0, currentValue));
                 redoMoves.clear();
                 board.clearCell(row, col);
                 updateGameBoard();
-                System.out.println("Celda borrada en posición: " + row + "," + col);
+                markDirty();
+                LOG.log(Level.DEBUG, () -> "Valor " + currentValue + " borrado en [" + row + "," + col + "]");
             } else {
-                System.out.println("  No hay valor para borrar en la celda.");
+                LOG.log(Level.DEBUG, "No hay valor para borrar en la celda");
             }
             return;
         }
 
-        System.out.println("GameController - Procesando jugada normal");
         // Si no hay dígito seleccionado y no es borrado, mostrar error
 
         if (selectedDigit == 0) {
-            System.out.println("  Error: No hay dígito seleccionado.");
+            LOG.log(Level.DEBUG, "No hay dígito seleccionado");
             JOptionPane.showMessageDialog(view,
                 MessageConstants.ERROR_NO_DIGIT_SELECTED,
                 "Error",
@@ -370,7 +340,6 @@ public class GameController {
         // Manejar colocación de dígito
         int previousValue = board.getValue(row, col);
 
-        System.out.println("  Intentando colocar dígito: " + selectedDigit + " en celda con valor previo: " + previousValue);
         String error = validateMove(row, col, selectedDigit);
         if (board.setCellValue(row, col, selectedDigit)) 
         {
@@ -380,16 +349,18 @@ public class GameController {
             moves.push(new Move(row, col, selectedDigit, previousValue));
             redoMoves.clear();
             updateGameBoard();
+            markDirty();
             }
 
-            System.out.println("  Dígito colocado exitosamente.");
+            LOG.log(Level.DEBUG, () -> "Dígito " + selectedDigit + " colocado en [" + row + "," + col +
+                    "], valor previo " + previousValue);
 
             if (board.isBoardComplete()) {
-                System.out.println("  El tablero está completo. Juego terminado.");
+                LOG.log(Level.INFO, "El tablero está completo. Juego terminado");
                 handleGameCompletion();
             }
         } else {
-            System.out.println("  Error al validar la jugada: " + error);
+            LOG.log(Level.DEBUG, () -> "Jugada inválida: " + error);
             JOptionPane.showMessageDialog(view, error, "Error", JOptionPane.ERROR_MESSAGE);
             view.getGameBoard().showError(row, col);
         }
@@ -405,67 +376,7 @@ public class GameController {
      * @return Mensaje de error si la jugada no es válida, de lo contrario null.
      */
     private String validateMove(int row, int col, int value) {
-        FutoshikiBoard board = gameState.getBoard();
-        
-        // Validar fila
-        for (int i = 0; i < board.getSize(); i++) {
-            if (i != col && board.getValue(row, i) == value) {
-                return MessageConstants.ERROR_DUPLICATE_ROW;
-            }
-        }
-        
-        // Validar columna
-        for (int i = 0; i < board.getSize(); i++) {
-            if (i != row && board.getValue(i, col) == value) {
-                return MessageConstants.ERROR_DUPLICATE_COLUMN;
-            }
-        }
-        
-        // Validar desigualdades a la derecha
-        String rightIneq = board.getRightInequality(row, col);
-        if (!rightIneq.equals(" ")) {
-            int rightValue = board.getValue(row, col + 1);
-            if (rightValue != 0) {
-                if (rightIneq.equals(">") && value <= rightValue) {
-                    return MessageConstants.ERROR_GREATER_CONSTRAINT;
-                }
-                if (rightIneq.equals("<") && value >= rightValue) {
-                    return MessageConstants.ERROR_LESSER_CONSTRAINT;
-                }
-            }
-        }
-        
-        // Validar desigualdades a la izquierda
-        if (col > 0) {
-            String leftIneq = board.getRightInequality(row, col - 1);
-            if (!leftIneq.equals(" ")) {
-                int leftValue = board.getValue(row, col - 1);
-                if (leftValue != 0) {
-                    if (leftIneq.equals(">") && leftValue <= value) {
-                        return MessageConstants.ERROR_GREATER_CONSTRAINT;
-                    }
-                    if (leftIneq.equals("<") && leftValue >= value) {
-                        return MessageConstants.ERROR_LESSER_CONSTRAINT;
-                    }
-                }
-            }
-        }
-        
-        // Validar desigualdades abajo
-        String bottomIneq = board.getBottomInequality(row, col);
-        if (!bottomIneq.equals(" ")) {
-            int bottomValue = board.getValue(row + 1, col);
-            if (bottomValue != 0) {
-                if (bottomIneq.equals("v") && value <= bottomValue) {
-                    return MessageConstants.ERROR_GREATER_CONSTRAINT;
-                }
-                if (bottomIneq.equals("^") && value >= bottomValue) {
-                    return MessageConstants.ERROR_LESSER_CONSTRAINT;
-                }
-            }
-        }
-        
-        return null;
+        return BoardValidator.validateMove(gameState.getBoard(), row, col, value);
     }
 
     /**
@@ -498,6 +409,7 @@ public class GameController {
             // Guardar el movimiento para poder rehacerlo
             redoMoves.push(new Move(move.getRow(), move.getColumn(), currentValue, move.getPreviousValue()));
             updateGameBoard();
+            markDirty();
         } else {
             JOptionPane.showMessageDialog(view,
                 MessageConstants.INFO_NO_MORE_MOVES,
@@ -523,6 +435,7 @@ public class GameController {
             // Agregar a la pila de deshacer
             moves.push(new Move(move.getRow(), move.getColumn(), move.getValue(), currentValue));
             updateGameBoard();
+            markDirty();
         }
     }
 
@@ -540,6 +453,7 @@ public class GameController {
             moves.clear();
             redoMoves.clear();
             updateGameBoard();
+            markDirty();
             restartTimer();
         }
     }
@@ -552,7 +466,97 @@ public class GameController {
             return;
         }
 
-        boolean saved = GameSaver.saveGame(gameState, view.getPlayerName(), config, view.getTimer());
+        int slot = chooseSaveSlot();
+        if (slot < 0) {
+            return;
+        }
+
+        // Se codifica aquí y se escribe en el hilo de guardado
+        byte[] data;
+        try {
+            data = GameSaver.encodeGame(gameState, view.getPlayerName(), config, view.getTimer());
+        } catch (IOException e) {
+            LOG.log(Level.ERROR, "Error al codificar la partida", e);
+            showSaveResult(false);
+            return;
+        }
+        gameSlot = slot;
+        autoSaver.saveNow(view.getPlayerName(), slot, data)
+            .thenAccept(saved -> SwingUtilities.invokeLater(() -> showSaveResult(saved)));
+    }
+
+    /**
+     * Pide la ranura donde guardar la partida, indicando cuáles están ocupadas.
+     * Reemplazar otra partida guardada se confirma antes.
+     *
+     * @return La ranura elegida, o -1 si se canceló.
+     */
+    private int chooseSaveSlot() {
+        List<Integer> saved = GameSaver.getSavedSlots(view.getPlayerName());
+        String[] options = new String[GameConstants.SAVE_SLOTS];
+        int selected = gameSlot;
+        for (int slot = 0; slot < options.length; slot++) {
+            options[slot] = slotName(slot) + (saved.contains(slot) ? " (ocupada)" : " (vacía)");
+            if (selected < 0 && !saved.contains(slot)) {
+                selected = slot;
+            }
+        }
+
+        Object choice = JOptionPane.showInputDialog(view,
+            "Seleccione la ranura donde guardar la partida:",
+            "Guardar juego",
+            JOptionPane.QUESTION_MESSAGE,
+            null,
+            options,
+            options[Math.max(selected, GameConstants.DEFAULT_SAVE_SLOT)]);
+        if (choice == null) {
+            return -1;
+        }
+
+        int slot = Arrays.asList(options).indexOf(choice);
+        if (saved.contains(slot) && slot != gameSlot) {
+            int option = JOptionPane.showConfirmDialog(view,
+                "La " + slotName(slot).toLowerCase() + " ya tiene una partida guardada.\n¿Desea reemplazarla?",
+                "Guardar juego",
+                JOptionPane.YES_NO_OPTION);
+            if (option != JOptionPane.YES_OPTION) {
+                return -1;
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Pide cuál de las partidas guardadas cargar. El guardado automático, si
+     * hay, aparece primero.
+     *
+     * @param slots Las ranuras con partida guardada.
+     * @return La ranura elegida, o -1 si se canceló.
+     */
+    private int chooseLoadSlot(List<Integer> slots) {
+        String[] options = new String[slots.size()];
+        for (int i = 0; i < options.length; i++) {
+            int slot = slots.get(i);
+            options[i] = slot == GameConstants.AUTOSAVE_SLOT
+                ? "Partida sin terminar (guardado automático)"
+                : slotName(slot);
+        }
+
+        Object choice = JOptionPane.showInputDialog(view,
+            "Seleccione la partida que desea cargar:",
+            "Cargar juego",
+            JOptionPane.QUESTION_MESSAGE,
+            null,
+            options,
+            options[0]);
+        return choice == null ? -1 : slots.get(Arrays.asList(options).indexOf(choice));
+    }
+
+    private static String slotName(int slot) {
+        return "Ranura " + (slot + 1);
+    }
+
+    private void showSaveResult(boolean saved) {
         if (saved) {
             JOptionPane.showMessageDialog(view,
                 "Juego guardado exitosamente",
@@ -566,6 +570,30 @@ public class GameController {
         }
     }
 
+    /**
+     * Entrega la partida al guardado automático después de una jugada.
+     * Solo se codifica en memoria; la escritura ocurre en segundo plano, en una
+     * ranura aparte de las que elige el jugador al guardar.
+     */
+    private void markDirty() {
+        if (!isGameStarted) {
+            return;
+        }
+        try {
+            autoSaver.submit(view.getPlayerName(), GameConstants.AUTOSAVE_SLOT,
+                GameSaver.encodeGame(gameState, view.getPlayerName(), config, view.getTimer()));
+        } catch (IOException e) {
+            LOG.log(Level.ERROR, "Error al codificar la partida", e);
+        }
+    }
+
+    /**
+     * Borra el guardado automático cuando la partida ya no se puede continuar.
+     */
+    private void discardAutosave() {
+        autoSaver.discard(view.getPlayerName(), GameConstants.AUTOSAVE_SLOT);
+    }
+
     /**
      * Carga un juego guardado.
      */
@@ -574,7 +602,20 @@ public class GameController {
             return;
         }
         
-        GameState savedGame = GameSaver.loadGame(view.getPlayerName());
+        List<Integer> slots = GameSaver.getSavedSlots(view.getPlayerName());
+        if (GameSaver.hasGameSaved(view.getPlayerName(), GameConstants.AUTOSAVE_SLOT)) {
+            slots.add(0, GameConstants.AUTOSAVE_SLOT);
+        }
+
+        GameState savedGame = null;
+        int slot = -1;
+        if (!slots.isEmpty()) {
+            slot = slots.size() == 1 ? slots.get(0) : chooseLoadSlot(slots);
+            if (slot < 0) {
+                return;
+            }
+            savedGame = GameSaver.loadGame(view.getPlayerName(), slot);
+        }
         if (savedGame != null) {
             // Verificar que el tamaño sea válido (3-10)
             int savedSize = savedGame.getBoard().getSize();
@@ -598,17 +639,20 @@ public class GameController {
                 return;
             }
 
+            // El guardado automático no es una ranura del jugador
+            gameSlot = slot == GameConstants.AUTOSAVE_SLOT ? -1 : slot;
             this.gameState = savedGame;
+            this.moves = savedGame.getMoves();
+            this.redoMoves = savedGame.getUndoneMoves();
             view.setLevel(savedGame.getDifficulty());
             view.getGameBoard().updateBoard(gameState.getBoard());
             
-            // Obtener los valores guardados del timer desde el XML
-            Element timerElement = savedGame.getTimerElement();
-            if (timerElement != null) {
-                int hours = Integer.parseInt(timerElement.getAttribute("hours"));
-                int minutes = Integer.parseInt(timerElement.getAttribute("minutes"));
-                int seconds = Integer.parseInt(timerElement.getAttribute("seconds"));
-                String timerType = timerElement.getAttribute("type");
+            // Obtener los valores guardados del timer
+            if (savedGame.hasSavedTimer()) {
+                int hours = savedGame.getTimerHours();
+                int minutes = savedGame.getTimerMinutes();
+                int seconds = savedGame.getTimerSeconds();
+                String timerType = savedGame.getTimerType();
                 
                 // Actualizar el timer en la vista
                 view.getTimer().setHoursPassed(hours);
@@ -643,6 +687,7 @@ public class GameController {
             
         if (option == JOptionPane.YES_OPTION) {
             isGameStarted = false;
+            discardAutosave();
             view.enableGameButtons(false);
             view.getGameBoard().setPlayable(false);
             startGame();
@@ -662,26 +707,130 @@ public class GameController {
             "Confirmar solución",
             JOptionPane.YES_NO_OPTION);
             
-        if (option == JOptionPane.YES_OPTION) {
-            FutoshikiBoard board = gameState.getBoard();
-            boolean solved = board.solve();
-            
-            if (solved) {
-                updateGameBoard();
-                JOptionPane.showMessageDialog(view,
-                    "¡Juego resuelto!",
-                    "Solución",
-                    JOptionPane.INFORMATION_MESSAGE);
+        if (option == JOptionPane.YES_OPTION && solveWorker == null) {
+            startSolving(gameState.getBoard());
+        }
+    }
+
+    /**
+     * Busca la solución en segundo plano. Mientras tanto el tablero y los
+     * botones de la partida quedan deshabilitados y el reloj en pausa; si la
+     * búsqueda tarda, se muestra su avance con la opción de cancelarla.
+     *
+     * @param board El tablero a resolver.
+     */
+    private void startSolving(FutoshikiBoard board) {
+        long budgetMillis = TimeUnit.SECONDS.toMillis(config.getSolveTimeLimit());
+        view.stopTimer();
+        view.disableGameActions();
+        view.getGameBoard().setPlayable(false);
+
+        SolveProgressDialog[] dialog = new SolveProgressDialog[1];
+        Timer showDialog = new Timer(GameConstants.SOLVE_DIALOG_DELAY_MS, null);
+        solveWorker = new SolveWorker(FutoshikiSolver.fromBoard(board), budgetMillis, new SolveWorker.Listener() {
+            @Override
+            public void onProgress(SearchMonitor monitor) {
+                if (dialog[0] != null) {
+                    dialog[0].setProgress(monitor.getNodes(), monitor.getNodesPerSecond(), monitor.getElapsedNanos());
+                }
+            }
+
+            @Override
+            public void onFinished(int[][] solution, SearchMonitor monitor) {
+                showDialog.stop();
+                if (dialog[0] != null) {
+                    dialog[0].dispose();
+                }
+                solveWorker = null;
+                finishSolving(board, solution, monitor);
+            }
+        });
+
+        SolveWorker worker = solveWorker;
+        showDialog.addActionListener(e -> {
+            if (!worker.isDone()) {
+                dialog[0] = new SolveProgressDialog(view, budgetMillis, worker::requestCancel);
+                dialog[0].setVisible(true);
+            }
+        });
+        showDialog.setRepeats(false);
+        showDialog.start();
+        worker.execute();
+    }
+
+    /**
+     * Aplica el resultado de la búsqueda de la solución, de una sola vez.
+     */
+    private void finishSolving(FutoshikiBoard board, int[][] solution, SearchMonitor monitor) {
+        if (board != gameState.getBoard()) {
+            // La partida cambió mientras se buscaba
+            return;
+        }
+
+        if (solution != null) {
+            board.applySolution(solution);
+            updateGameBoard();
+            isGameStarted = false;
+            discardAutosave();
+            view.enableGameButtons(false);
+            JOptionPane.showMessageDialog(view,
+                "¡Juego resuelto!",
+                "Solución",
+                JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+
+        // Sin solución: la partida sigue donde estaba
+        view.enableGameButtons(true);
+        view.getGameBoard().setPlayable(true);
+        view.startTimer();
+        if (monitor.isCancelled()) {
+            return;
+        }
+        if (monitor.isTimedOut()) {
+            JOptionPane.showMessageDialog(view,
+                "No se encontró la solución en " + config.getSolveTimeLimit() + " segundos",
+                "Solución",
+                JOptionPane.WARNING_MESSAGE);
+        } else {
+            JOptionPane.showMessageDialog(view,
+                "No se encontró solución para este juego",
+                "Error",
+                JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * Pide un tablero generado a la reserva y continúa con él en el hilo de
+     * eventos. Si no había uno listo, mientras se genera la ventana lo indica y
+     * la partida queda deshabilitada; el hilo de eventos no espera.
+     * 
+     * @param size Tamaño del tablero.
+     * @param difficulty Dificultad del tablero.
+     * @param onReady Recibe el tablero, en el hilo de eventos.
+     */
+    private void withGeneratedBoard(int size, String difficulty, Consumer<FutoshikiBoard> onReady) {
+        CompletableFuture<FutoshikiBoard> pending = puzzleSupply.take(size, difficulty);
+        if (pending.isDone() && !pending.isCompletedExceptionally()) {
+            onReady.accept(pending.join());
+            return;
+        }
+
+        view.setGenerating(true);
+        pending.whenComplete((board, error) -> SwingUtilities.invokeLater(() -> {
+            view.setGenerating(false);
+            if (error != null) {
+                LOG.log(Level.ERROR, "Error al generar la partida", error);
                 isGameStarted = false;
                 view.enableGameButtons(false);
-                view.getGameBoard().setPlayable(false);
-            } else {
                 JOptionPane.showMessageDialog(view,
-                    "No se encontró solución para este juego",
+                    "No se pudo generar la partida",
                     "Error",
                     JOptionPane.ERROR_MESSAGE);
+                return;
             }
-        }
+            onReady.accept(board);
+        }));
     }
 
     /**
@@ -708,28 +857,20 @@ public class GameController {
      * Maneja la finalización del juego.
      */
     private void handleGameCompletion() {
-        long currentTime = System.currentTimeMillis();
-        System.out.println("\n=== VERIFICACIÓN TIEMPO FINAL ===");
-        System.out.println("Start time: " + startTime);
-        System.out.println("Current time: " + currentTime);
-        System.out.println("Diferencia en ms: " + (currentTime - startTime));
-        
-        // Verificar que startTime sea válido
-        if (startTime <= 0) {
-            System.err.println("ADVERTENCIA: startTime no inicializado correctamente");
-            startTime = currentTime - 1000; // Asignar 1 segundo por defecto
-        }
+        discardAutosave();
+
+        // Tiempo exacto del reloj monotónico, no lo que muestra la pantalla
+        long elapsedNanos = view.getTimer().getElapsedNanos();
         
-        int totalSeconds = (int)((currentTime - startTime) / 1000);
-        System.out.println("Tiempo total en segundos: " + totalSeconds);
+        int totalSeconds = (int) TimeUnit.NANOSECONDS.toSeconds(elapsedNanos);
 
         // Convertir a formato legible
         int hours = totalSeconds / 3600;
         int minutes = (totalSeconds % 3600) / 60;
         int seconds = totalSeconds % 60;
         
-        System.out.println("Tiempo formateado: " + 
-            String.format("%02d:%02d:%02d", hours, minutes, seconds));
+        LOG.log(Level.INFO, () -> "Tiempo final: " + String.format("%02d:%02d:%02d", hours, minutes, seconds) +
+                " (" + elapsedNanos + " ns)");
 
         int size = gameState.getBoard().getSize();
         
@@ -745,7 +886,7 @@ public class GameController {
             
             boolean added = top10Manager.addScore(newScore);
             if (!added) {
-                System.err.println("Error al guardar el score en el Top 10");
+                LOG.log(Level.ERROR, "Error al guardar el score en el Top 10");
             }
         }
 
@@ -770,39 +911,38 @@ public class GameController {
                 // Determinar si usar XML o generador basado en el tamaño
                 if (size <= 5) {
                     // Usar juegos del XML para tamaños 3x3 a 5x5
-                    List<GameData> availableGamesForConfig = availableGames.get(nextLevel);
-                    if (availableGamesForConfig != null && !availableGamesForConfig.isEmpty()) {
-                        gamesForSize = availableGamesForConfig.stream()
-                            .filter(game -> game.getTamano() == size)
-                            .toList();
-                        
-                        if (!gamesForSize.isEmpty()) {
-                            selectedDifficulty = nextLevel;
-                            initializeNewGame(gamesForSize, nextLevel, size, new GameSetupDialog(view));
-                            return;
-                        }
+                    gamesForSize = gameCatalog.count(nextLevel, size);
+                    if (gamesForSize > 0) {
+                        selectedDifficulty = nextLevel;
+                        initializeNewGame(gamesForSize, nextLevel, size, new GameSetupDialog(view));
+                        return;
                     }
                 } else {
                     // Usar generador para tamaños 6x6 en adelante
-                    System.out.println("Generando nuevo juego " + size + "x" + size + " de dificultad " + nextLevel);
-                    FutoshikiBoard newBoard = FutoshikiGenerator.generateGame(size, nextLevel);
-                    
-                    // Actualizar estado
-                    selectedDifficulty = nextLevel;
-                    gameState.setBoard(newBoard);
-                    gameState.setDifficulty(nextLevel);
-                    
-                    // Actualizar vista
-                    view.setLevel(nextLevel);
-                    view.getGameBoard().updateBoard(newBoard);
-                    
-                    // Reiniciar timer y estructuras de control
-                    moves.clear();
-                    redoMoves.clear();
-                    startTime = System.currentTimeMillis();
-                    if(!config.getTimerType().equals("Temporizador")) {
-                        view.restartTimer();
+                    if (LOG.isLoggable(Level.DEBUG)) {
+                        LOG.log(Level.DEBUG, "Generando nuevo juego " + size + "x" + size + " de dificultad " + nextLevel);
                     }
+                    String level = nextLevel;
+                    withGeneratedBoard(size, level, newBoard -> {
+                        // Actualizar estado
+                        selectedDifficulty = level;
+                        gameState.setBoard(newBoard);
+                        gameState.setDifficulty(level);
+                        
+                        // Actualizar vista
+                        view.setLevel(level);
+                        view.getGameBoard().updateBoard(newBoard);
+                        view.getGameBoard().setPlayable(true);
+                        view.enableGameButtons(true);
+                        
+                        // Reiniciar timer y estructuras de control
+                        moves.clear();
+                        redoMoves.clear();
+                        view.getTimer().startLevel();
+                        if(!config.getTimerType().equals("Temporizador")) {
+                            view.restartTimer();
+                        }
+                    });
                     return;
                 }
             }
@@ -857,6 +997,26 @@ public class GameController {
         view.getGameBoard().updateBoard(board);
     }
 
+    /**
+     * Obtiene la reserva de partidas generadas en segundo plano.
+     * 
+     * @return La reserva de partidas.
+     */
+    public PuzzleSupply getPuzzleSupply() {
+        return puzzleSupply;
+    }
+
+    /**
+     * Detiene la generación en segundo plano y registra las estadísticas de la
+     * sesión: las de la reserva de partidas y los tiempos de archivo. Se ejecuta al cerrar la aplicación; el registro se vacía al
+     * final para que las estadísticas no se pierdan.
+     */
+    private void shutdown() {
+        puzzleSupply.shutdown();
+        FileTimings.logTimings();
+        Logs.flush();
+    }
+
     /**
      * Verifica si el juego ha comenzado.
      * 
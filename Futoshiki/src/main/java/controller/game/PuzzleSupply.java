@@ -0,0 +1,308 @@
+package controller.game;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import model.game.FutoshikiBoard;
+import model.game.FutoshikiGenerator;
+import util.constants.GameConstants;
+import util.log.Logs;
+
+/**
+ * Reserva de partidas generadas por adelantado.
+ *
+ * Mantiene una cola acotada de tableros listos por cada combinación de tamaño y
+ * dificultad. Hilos de fondo la rellenan, de modo que al empezar un juego nuevo
+ * se entrega un tablero de inmediato y la reposición ocurre fuera del hilo de
+ * Swing. Si la cola está vacía el tablero se genera en un hilo aparte, para no
+ * esperar detrás del llenado, y se cuenta como fallo.
+ */
+public class PuzzleSupply {
+    private static final Logger LOG = Logs.get(PuzzleSupply.class);
+    private final int queueDepth;
+    private final ExecutorService workers;
+    private final ExecutorService onDemand;
+    private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor de PuzzleSupply con la profundidad de cola y cantidad de hilos por defecto.
+     */
+    public PuzzleSupply() {
+        this(GameConstants.DEFAULT_PUZZLE_QUEUE_DEPTH, GameConstants.DEFAULT_PUZZLE_WORKERS);
+    }
+
+    /**
+     * Constructor de PuzzleSupply.
+     *
+     * @param queueDepth Cantidad de tableros listos por tamaño y dificultad.
+     * @param workerCount Cantidad de hilos que generan tableros.
+     */
+    public PuzzleSupply(int queueDepth, int workerCount) {
+        this.queueDepth = Math.max(1, queueDepth);
+        this.workers = Executors.newFixedThreadPool(Math.max(1, workerCount),
+            new WorkerFactory("puzzle-supply-", Thread.MIN_PRIORITY));
+        this.onDemand = Executors.newSingleThreadExecutor(new WorkerFactory("puzzle-demand-", Thread.NORM_PRIORITY));
+    }
+
+    /**
+     * Entrega un tablero para el tamaño y dificultad pedidos y programa su reposición.
+     * Nunca genera en el hilo que llama: si hay un tablero listo el resultado ya
+     * está completo, y si no, se completa cuando termina de generarse.
+     *
+     * @param size Tamaño del tablero.
+     * @param difficulty Dificultad ("Facil", "Intermedio", "Dificil").
+     * @return El tablero nuevo, ya disponible o por generar.
+     */
+    public CompletableFuture<FutoshikiBoard> take(int size, String difficulty) {
+        Slot slot = slot(size, difficulty);
+        FutoshikiBoard board = slot.queue.poll();
+        slot.served.increment();
+        CompletableFuture<FutoshikiBoard> result;
+        if (board != null) {
+            result = CompletableFuture.completedFuture(board);
+            LOG.log(Level.DEBUG, () -> "Tablero entregado de la reserva: " + slot.snapshot());
+        } else {
+            slot.misses.increment();
+            LOG.log(Level.INFO, () -> "Sin tableros listos, se genera uno: " + slot.snapshot());
+            result = CompletableFuture.supplyAsync(slot::generate, onDemand)
+                .whenComplete((generated, error) -> {
+                    if (error != null) {
+                        slot.failures.increment();
+                    }
+                });
+        }
+        refill(slot);
+        return result;
+    }
+
+    /**
+     * Programa el llenado de la cola de un tamaño y dificultad.
+     *
+     * @param size Tamaño del tablero.
+     * @param difficulty Dificultad del tablero.
+     */
+    public void prefill(int size, String difficulty) {
+        refill(slot(size, difficulty));
+    }
+
+    /**
+     * Programa el llenado de las colas de todas las dificultades para un rango de tamaños.
+     *
+     * @param minSize Tamaño mínimo.
+     * @param maxSize Tamaño máximo.
+     */
+    public void prefillAll(int minSize, int maxSize) {
+        String[] difficulties = {
+            GameConstants.LEVEL_EASY, GameConstants.LEVEL_MEDIUM, GameConstants.LEVEL_HARD
+        };
+        for (int size = minSize; size <= maxSize; size++) {
+            for (String difficulty : difficulties) {
+                prefill(size, difficulty);
+            }
+        }
+    }
+
+    /**
+     * Obtiene las estadísticas de llenado de un tamaño y dificultad.
+     *
+     * @param size Tamaño del tablero.
+     * @param difficulty Dificultad del tablero.
+     * @return Una copia de las estadísticas actuales.
+     */
+    public Stats getStats(int size, String difficulty) {
+        return slot(size, difficulty).snapshot();
+    }
+
+    /**
+     * Obtiene las estadísticas de llenado de todas las colas usadas hasta ahora.
+     *
+     * @return Una copia de las estadísticas actuales.
+     */
+    public List<Stats> getAllStats() {
+        List<Stats> stats = new ArrayList<>();
+        for (Slot slot : slots.values()) {
+            stats.add(slot.snapshot());
+        }
+        return stats;
+    }
+
+    /**
+     * Registra las estadísticas de todas las colas con nivel INFO.
+     */
+    public void logStats() {
+        if (LOG.isLoggable(Level.INFO)) {
+            for (Stats stats : getAllStats()) {
+                LOG.log(Level.INFO, "{0}", stats);
+            }
+        }
+    }
+
+    /**
+     * Obtiene la cantidad de tableros listos por tamaño y dificultad.
+     *
+     * @return La profundidad de las colas.
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * Detiene los hilos de generación y registra las estadísticas. Los tableros
+     * ya generados siguen disponibles, pero una cola vacía ya no se puede llenar.
+     */
+    public void shutdown() {
+        if (workers.isShutdown()) {
+            return;
+        }
+        workers.shutdownNow();
+        onDemand.shutdownNow();
+        logStats();
+    }
+
+    private Slot slot(int size, String difficulty) {
+        return slots.computeIfAbsent(size + ":" + difficulty, key -> new Slot(size, difficulty, queueDepth));
+    }
+
+    private void refill(Slot slot) {
+        if (workers.isShutdown() || slot.queue.remainingCapacity() == 0) {
+            return;
+        }
+        if (slot.refilling.compareAndSet(false, true)) {
+            workers.execute(() -> {
+                boolean failed = false;
+                try {
+                    while (slot.queue.remainingCapacity() > 0 && !Thread.currentThread().isInterrupted()) {
+                        slot.queue.offer(slot.generate());
+                    }
+                } catch (RuntimeException e) {
+                    failed = true;
+                    slot.failures.increment();
+                    LOG.log(Level.ERROR, "Error al generar partidas en segundo plano", e);
+                } finally {
+                    slot.refilling.set(false);
+                }
+
+                // Un take() pudo vaciar la cola mientras se marcaba el fin del llenado
+                if (!failed) {
+                    refill(slot);
+                }
+            });
+        }
+    }
+
+    // Cola y contadores de una combinación de tamaño y dificultad
+    private static class Slot {
+        private final int size;
+        private final String difficulty;
+        private final BlockingQueue<FutoshikiBoard> queue;
+        private final AtomicBoolean refilling = new AtomicBoolean();
+        private final LongAdder generated = new LongAdder();
+        private final LongAdder served = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder generationNanos = new LongAdder();
+
+        Slot(int size, String difficulty, int depth) {
+            this.size = size;
+            this.difficulty = difficulty;
+            this.queue = new ArrayBlockingQueue<>(depth);
+        }
+
+        FutoshikiBoard generate() {
+            long start = System.nanoTime();
+            FutoshikiBoard board = FutoshikiGenerator.generateGame(size, difficulty);
+            generationNanos.add(System.nanoTime() - start);
+            generated.increment();
+            return board;
+        }
+
+        Stats snapshot() {
+            return new Stats(size, difficulty, queue.size(), generated.sum(), served.sum(),
+                misses.sum(), failures.sum(), generationNanos.sum());
+        }
+    }
+
+    /**
+     * Estadísticas de llenado de una cola de partidas.
+     */
+    public static class Stats {
+        private final int size;
+        private final String difficulty;
+        private final int available;
+        private final long generated;
+        private final long served;
+        private final long misses;
+        private final long failures;
+        private final long generationNanos;
+
+        Stats(int size, String difficulty, int available, long generated, long served,
+              long misses, long failures, long generationNanos) {
+            this.size = size;
+            this.difficulty = difficulty;
+            this.available = available;
+            this.generated = generated;
+            this.served = served;
+            this.misses = misses;
+            this.failures = failures;
+            this.generationNanos = generationNanos;
+        }
+
+        // Getters
+        public int getSize() { return size; }
+        public String getDifficulty() { return difficulty; }
+        public int getAvailable() { return available; }
+        public long getGenerated() { return generated; }
+        public long getServed() { return served; }
+        public long getMisses() { return misses; }
+        public long getFailures() { return failures; }
+
+        /**
+         * Obtiene el tiempo promedio de generación de un tablero.
+         *
+         * @return El promedio en milisegundos, o 0 si aún no se generó ninguno.
+         */
+        public double getAverageGenerationMillis() {
+            return generated == 0 ? 0 : generationNanos / 1_000_000.0 / generated;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%dx%d %s: listos=%d generados=%d entregados=%d fallos=%d errores=%d promedio=%.2fms",
+                size, size, difficulty, available, generated, served, misses, failures,
+                getAverageGenerationMillis());
+        }
+    }
+
+    // Hilos de fondo para que no impidan cerrar la aplicación
+    private static class WorkerFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+        private final String prefix;
+        private final int priority;
+
+        WorkerFactory(String prefix, int priority) {
+            this.prefix = prefix;
+            this.priority = priority;
+        }
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(priority);
+            return thread;
+        }
+    }
+}
@@ -1,20 +1,39 @@
 package controller.game;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+import model.solver.ClueMinimizer;
+import model.solver.FutoshikiSolver;
+import util.log.Logs;
 
 public class RandomGames
 {
+    private static final Logger LOG = Logs.get(RandomGames.class);
     private int[][]tabla;
     private String[][] desigualdadesVerticales;
     private String[][] desigualdesdesHorizanteles;
     private int tamano;
-    private Random rndNumber = new Random();
+    private SplittableRandom rndNumber;
 
     public RandomGames(int tamano)
+    {
+        this(tamano, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Constructor de RandomGames con una semilla explícita: la misma semilla genera siempre el mismo juego.
+     *
+     * @param tamano Tamaño del tablero.
+     * @param semilla Semilla de generación.
+     */
+    public RandomGames(int tamano, long semilla)
     {
         this.tamano = tamano;
+        this.rndNumber = new SplittableRandom(semilla);
         tabla = new int[tamano][tamano];
         desigualdadesVerticales = new String[tamano-1][tamano];
         desigualdesdesHorizanteles = new String[tamano][tamano-1];
@@ -54,42 +73,16 @@ public class RandomGames
     public boolean generarJuegoAleatorio()
     {
 
-        do
-        {
-            limpiarTabla(0,0);
-            generacionAleatoria(0,0);
-            generacionDesigualdades(0,0);
-
-        }while(!desarmarTabla(0,0));
+        limpiarTabla(0,0);
+        generacionAleatoria(0,0);
+        desarmarTabla();
 
-        System.out.println("Se logro!");
+        LOG.log(Level.DEBUG, "Se logro!");
         return true;
 
 
     }
 
-    private boolean solve()
-    {
-        Resolvedor solver = new Resolvedor(tabla, desigualdadesVerticales, desigualdesdesHorizanteles);
-        return solver.isSolvable();
-    }
-
-    private boolean generacionDesigualdades(int row, int col)
-    {
-        if (row == tamano)
-        {
-            System.out.print("Nao se puede");
-            return solve();
-        }
-
-        int nextRow = col == tamano - 1 ? row + 1 : row;
-        int nextCol = (col + 1) % tamano;
-        if (row > 0) desigualdadesVerticales[row - 1][col] = tabla[row - 1][col] < tabla[row][col] ? "mef" : "maf";
-        if (col > 0) desigualdesdesHorizanteles[row][col - 1] = tabla[row][col - 1] < tabla[row][col] ? "mec" : "mac";
-
-        return generacionDesigualdades(nextRow, nextCol);
-    }
-
     private boolean generacionAleatoria(int row, int col) {
         if (row == tamano) {
             return true;
@@ -100,7 +93,12 @@ public class RandomGames
 
         List<Integer> numbers = new ArrayList<>();
         for (int i = 1; i <= tamano; i++) numbers.add(i);
-        Collections.shuffle(numbers);
+        for (int i = numbers.size() - 1; i > 0; i--) {
+            Integer temp = numbers.get(i);
+            int j = rndNumber.nextInt(i + 1);
+            numbers.set(i, numbers.get(j));
+            numbers.set(j, temp);
+        }
 
         for (int num : numbers) {
             if (isSafe(row, col, num)) {
@@ -122,26 +120,33 @@ public class RandomGames
     }
 
 
-    private boolean desarmarTabla(int row, int col)
+    /**
+     * Quita de la solución completa todas las constantes y desigualdades redundantes,
+     * dejando un juego mínimo con solución única.
+     */
+    private void desarmarTabla()
     {
-        if (row == tamano){ return true;}
-
-        int nextRow = col == tamano - 1 ? row + 1 : row;
-        int nextCol = (col + 1) % tamano;
+        ClueMinimizer minimizador = new ClueMinimizer(tabla);
+        minimizador.minimize(rndNumber);
 
-
-        if (rndNumber.nextBoolean()) {
-            tabla[row][col] = 0;
-        }
-
-        if (row > 0 && rndNumber.nextBoolean()) {
-            desigualdadesVerticales[row - 1][col] = " ";
-        }
-
-        if (col > 0 && rndNumber.nextBoolean()) {
-            desigualdesdesHorizanteles[row][col - 1] = " ";
+        int[][] constantes = minimizador.getGrid();
+        int[][] derecha = minimizador.getRightRelations();
+        int[][] abajo = minimizador.getBottomRelations();
+        for (int row = 0; row < tamano; row++)
+        {
+            for (int col = 0; col < tamano; col++)
+            {
+                tabla[row][col] = constantes[row][col];
+                if (row < tamano - 1) desigualdadesVerticales[row][col] = simbolo(abajo[row][col], "mef", "maf");
+                if (col < tamano - 1) desigualdesdesHorizanteles[row][col] = simbolo(derecha[row][col], "mec", "mac");
+            }
         }
+    }
 
-        return desarmarTabla(nextRow, nextCol);
+    private static String simbolo(int relacion, String menor, String mayor)
+    {
+        if (relacion == FutoshikiSolver.LESS) return menor;
+        if (relacion == FutoshikiSolver.GREATER) return mayor;
+        return " ";
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package controller.game;
-import java.util.*;
+
+import model.solver.FutoshikiSolver;
 
 public class Resolvedor {
     private int[][] tabla;
@@ -16,60 +17,64 @@ public class Resolvedor {
 
 
     public boolean isSolvable() {
-        return solve(0, 0);
+        return solve() != null;
     }
 
-
-    private boolean solve(int row, int col) {
-        if (row == size) return true;
-
-        int nextRow = col == size - 1 ? row + 1 : row;
-        int nextCol = (col + 1) % size;
-
-        // If cell already has a value, move to the next cell
-        if (tabla[row][col] != 0) {
-            return solve(nextRow, nextCol);
-        }
-
-        // Try each number
-        for (int num = 1; num <= size; num++) {
-            if (isSafe(row, col, num)) {
-                tabla[row][col] = num;
-                if (solve(nextRow, nextCol)) return true;
-
-                // Backtrack
-                tabla[row][col] = 0;
+    /**
+     * Resuelve la tabla con el motor de propagación de restricciones.
+     * Si hay solución, también se copia sobre la tabla original.
+     *
+     * @return La cuadrícula resuelta, o null si no tiene solución.
+     */
+    public int[][] solve() {
+        int[][] solution = crearSolver().solve();
+        if (solution != null) {
+            for (int i = 0; i < size; i++) {
+                System.arraycopy(solution[i], 0, tabla[i], 0, size);
             }
         }
+        return solution;
+    }
 
-        return false;
+    /**
+     * Cuenta las soluciones de la tabla sin modificarla.
+     *
+     * @param limite Cantidad de soluciones a partir de la cual se deja de buscar.
+     * @return La cantidad de soluciones encontradas, como máximo {@code limite}.
+     */
+    public int countSolutions(int limite) {
+        return crearSolver().countSolutions(limite);
     }
 
-    private boolean isSafe(int row, int col, int num) {
-        // Check row and column uniqueness
-        for (int i = 0; i < size; i++) {
-            if (tabla[row][i] == num || tabla[i][col] == num) return false;
-        }
+    public boolean hasUniqueSolution() {
+        return countSolutions(2) == 1;
+    }
 
-        // Check vertical constraints
-        if (row > 0) {
-            String constraint = desVer[row - 1][col];
-            if (constraint != null && !constraint.equals(" ")) {
-                if (constraint.equals("mef") && !(tabla[row - 1][col] < num)) return false;
-                if (constraint.equals("maf") && !(tabla[row - 1][col] > num)) return false;
+    private FutoshikiSolver crearSolver() {
+        int[][] derecha = new int[size][size];
+        int[][] abajo = new int[size][size];
+
+        // desHor[row][col] relaciona (row, col) con (row, col + 1)
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size - 1; col++) {
+                derecha[row][col] = relacion(desHor[row][col], "mec", "mac");
             }
         }
 
-        // Check horizontal constraints
-        if (col > 0) {
-            String constraint = desHor[row][col - 1];
-            if (constraint != null && !constraint.equals(" ")) {
-                if (constraint.equals("mec") && !(tabla[row][col - 1] < num)) return false;
-                if (constraint.equals("mac") && !(tabla[row][col - 1] > num)) return false;
+        // desVer[row][col] relaciona (row, col) con (row + 1, col)
+        for (int row = 0; row < size - 1; row++) {
+            for (int col = 0; col < size; col++) {
+                abajo[row][col] = relacion(desVer[row][col], "mef", "maf");
             }
         }
 
-        return true;
+        return new FutoshikiSolver(tabla, derecha, abajo);
+    }
+
+    private static int relacion(String constraint, String menor, String mayor) {
+        if (menor.equals(constraint)) return FutoshikiSolver.LESS;
+        if (mayor.equals(constraint)) return FutoshikiSolver.GREATER;
+        return FutoshikiSolver.NONE;
     }
 
 }
@@ -0,0 +1,109 @@
+package controller.game;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.SwingWorker;
+
+import model.solver.FutoshikiSolver;
+import model.solver.SearchMonitor;
+import util.log.Logs;
+
+/**
+ * Busca la solución de un tablero fuera del hilo de eventos de Swing.
+ *
+ * La búsqueda la hace un {@link FutoshikiSolver} vigilado por un
+ * {@link SearchMonitor}, que la corta al cancelarla o al agotar el tiempo
+ * máximo. El avance y el resultado se entregan al {@link Listener} en el hilo
+ * de eventos, así que puede tocar la vista directamente.
+ */
+public class SolveWorker extends SwingWorker<int[][], Long> {
+    private static final Logger LOG = Logs.get(SolveWorker.class);
+
+    private final FutoshikiSolver solver;
+    private final SearchMonitor monitor;
+    private final Listener listener;
+
+    /**
+     * Constructor de la clase SolveWorker. El solver se debe crear en el hilo
+     * de eventos, a partir del tablero, antes de iniciar la búsqueda.
+     *
+     * @param solver El solver del tablero.
+     * @param budgetMillis El tiempo máximo de búsqueda, en milisegundos, o 0 para no limitarlo.
+     * @param listener Recibe el avance y el resultado.
+     */
+    public SolveWorker(FutoshikiSolver solver, long budgetMillis, Listener listener) {
+        this.solver = solver;
+        this.listener = listener;
+        this.monitor = new SearchMonitor(budgetMillis, TimeUnit.MILLISECONDS, this::publish);
+    }
+
+    /**
+     * Pide que la búsqueda se detenga. El resultado llega igual al listener,
+     * sin solución y con el monitor marcado como cancelado.
+     */
+    public void requestCancel() {
+        monitor.cancel();
+    }
+
+    /**
+     * Obtiene el monitor de la búsqueda.
+     *
+     * @return El monitor.
+     */
+    public SearchMonitor getMonitor() {
+        return monitor;
+    }
+
+    @Override
+    protected int[][] doInBackground() {
+        return solver.solve(monitor);
+    }
+
+    @Override
+    protected void process(List<Long> chunks) {
+        listener.onProgress(monitor);
+    }
+
+    @Override
+    protected void done() {
+        int[][] solution = null;
+        try {
+            solution = get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOG.log(Level.ERROR, "Error al buscar la solución", e.getCause());
+        }
+        long nodes = monitor.getNodes();
+        long rate = monitor.getNodesPerSecond();
+        long millis = TimeUnit.NANOSECONDS.toMillis(monitor.getElapsedNanos());
+        LOG.log(Level.INFO, () -> "Búsqueda terminada: " + nodes + " nodos en " + millis + " ms (" +
+                rate + " nodos/s)" + (monitor.isCancelled() ? ", cancelada" : "") +
+                (monitor.isTimedOut() ? ", sin tiempo" : ""));
+        listener.onFinished(solution, monitor);
+    }
+
+    /**
+     * Recibe el avance y el resultado de la búsqueda, en el hilo de eventos.
+     */
+    public interface Listener {
+        /**
+         * Se llama periódicamente mientras la búsqueda avanza.
+         *
+         * @param monitor El monitor, con los nodos explorados y el tiempo.
+         */
+        void onProgress(SearchMonitor monitor);
+
+        /**
+         * Se llama una vez, al terminar la búsqueda por cualquier motivo.
+         *
+         * @param solution La cuadrícula resuelta, o null si no se encontró.
+         * @param monitor El monitor, que indica si se canceló o se agotó el tiempo.
+         */
+        void onFinished(int[][] solution, SearchMonitor monitor);
+    }
+}
@@ -0,0 +1,62 @@
+package controller.timer;
+
+/**
+ * Reloj de juego basado en {@link System#nanoTime()}.
+ *
+ * El tiempo se mide por tramos: cada vez que el reloj se inicia o se reanuda
+ * se abre un tramo, y al pausarlo su duración se suma a lo acumulado. El tiempo
+ * transcurrido se calcula siempre a partir del reloj del sistema, así que no
+ * depende de cuántas veces ni con qué puntualidad se consulte.
+ */
+public class GameClock {
+    private long accumulatedNanos;
+    // Inicio del tramo actual, o -1 si el reloj está pausado
+    private long segmentStart = -1;
+
+    /**
+     * Detiene el reloj y lo deja en un tiempo dado.
+     *
+     * @param elapsedNanos El tiempo transcurrido inicial, en nanosegundos.
+     */
+    public synchronized void reset(long elapsedNanos) {
+        accumulatedNanos = Math.max(0, elapsedNanos);
+        segmentStart = -1;
+    }
+
+    /**
+     * Inicia o reanuda el reloj. No hace nada si ya está corriendo.
+     */
+    public synchronized void resume() {
+        if (segmentStart < 0) {
+            segmentStart = System.nanoTime();
+        }
+    }
+
+    /**
+     * Pausa el reloj. No hace nada si ya está pausado.
+     */
+    public synchronized void pause() {
+        if (segmentStart >= 0) {
+            accumulatedNanos += System.nanoTime() - segmentStart;
+            segmentStart = -1;
+        }
+    }
+
+    /**
+     * Indica si el reloj está corriendo.
+     *
+     * @return true si el reloj está corriendo, false si está pausado.
+     */
+    public synchronized boolean isRunning() {
+        return segmentStart >= 0;
+    }
+
+    /**
+     * Obtiene el tiempo transcurrido, sumando el tramo en curso.
+     *
+     * @return El tiempo transcurrido en nanosegundos.
+     */
+    public synchronized long getElapsedNanos() {
+        return segmentStart < 0 ? accumulatedNanos : accumulatedNanos + System.nanoTime() - segmentStart;
+    }
+}
@@ -1,18 +1,34 @@
 package controller.timer;
 
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.concurrent.TimeUnit;
+
 import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
 import model.config.Configuration;
 import view.game.MainWindow;
 import controller.game.GameController;
+import util.log.Logs;
 
 /**
  * Controlador para gestionar el temporizador del juego.
+ *
+ * El tiempo lo lleva un {@link GameClock}: el tick de la ventana solo consulta
+ * y muestra el valor, así que las demoras del hilo de eventos no hacen que el
+ * reloj se atrase.
  */
 public class TimerController {
-    private int secondsPassed;
-    private int minutesPassed;
-    private int hoursPassed;
+    private static final Logger LOG = Logs.get(TimerController.class);
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final GameClock clock = new GameClock();
+    // Valor mostrado cuando el reloj marcaba 0: transcurrido en el cronómetro, restante en el temporizador
+    private long baseNanos;
+    // Duración configurada del temporizador
+    private long durationNanos;
+    // Tiempo jugado al empezar el tablero actual
+    private long levelStartNanos;
     private String cronometro;
     private boolean timerExpired;
     private int originalHours;
@@ -35,32 +51,48 @@ public class TimerController {
 
     /**
      * Configura los valores del temporizador a partir de una configuración dada.
+     * El reloj queda detenido hasta que se llame a {@link #resume()}.
      * 
      * @param config La configuración que contiene los valores del temporizador.
      */
     public void setValores(Configuration config) {
-        System.out.println("TimerController: Configurando valores");
-        this.secondsPassed = config.getTimerSeconds();
-        this.minutesPassed = config.getTimerMinutes();
-        this.hoursPassed = config.getTimerHours();
         this.cronometro = config.getTimerType();
         
         // Guardar valores originales
-        this.originalHours = hoursPassed;
-        this.originalMinutes = minutesPassed;
-        this.originalSeconds = secondsPassed;
+        this.originalHours = config.getTimerHours();
+        this.originalMinutes = config.getTimerMinutes();
+        this.originalSeconds = config.getTimerSeconds();
+        this.durationNanos = toNanos(originalHours, originalMinutes, originalSeconds);
         
         // Resetear estado
         this.timerExpired = false;
+        this.baseNanos = durationNanos;
+        clock.reset(0);
+        startLevel();
         
-        System.out.println("TimerController configurado:");
-        System.out.println("- Tipo: " + cronometro);
-        System.out.println("- Valores iniciales: " + hoursPassed + ":" + 
-                          minutesPassed + ":" + secondsPassed);
+        LOG.log(Level.DEBUG, () -> "Configurado: " + cronometro + ", valores iniciales " +
+                originalHours + ":" + originalMinutes + ":" + originalSeconds);
     }
 
     /**
-     * Actualiza el tiempo transcurrido basado en el tipo de cronómetro.
+     * Inicia o reanuda el reloj.
+     */
+    public void resume() {
+        if (!"TERMINADO".equals(cronometro)) {
+            clock.resume();
+        }
+    }
+
+    /**
+     * Pausa el reloj. El tiempo mientras está pausado no se cuenta.
+     */
+    public void pause() {
+        clock.pause();
+    }
+
+    /**
+     * Revisa el tiempo según el tipo de cronómetro. Solo lee el reloj: se puede
+     * llamar con cualquier frecuencia sin cambiar el tiempo medido.
      */
     public void actualizarTiempo() {
         // Asegurarnos de que cronometro no sea null
@@ -68,59 +100,85 @@ public class TimerController {
             cronometro = "Cronómetro"; // valor por defecto
         }
 
-        System.out.println("TimerController: Actualizando tiempo - Tipo: " + cronometro);
-        
-        switch (cronometro) {
-            case "Cronómetro":
-                incrementTime();
-                break;
-                
-            case "Temporizador":
-                if (secondsPassed == 0 && minutesPassed == 0 && hoursPassed == 0) {
-                    if (!timerExpired) {
-                        timerExpired = true;
-                        handleTimerExpired();
-                    }
-                } else {
-                    decrementTime();
-                }
-                break;
-
-            case "TERMINADO":
-                break;
+        if ("Temporizador".equals(cronometro) && !timerExpired && getDisplayNanos() == 0) {
+            timerExpired = true;
+            clock.pause();
+            handleTimerExpired();
+        }
+    }
+
+    /**
+     * Obtiene el tiempo jugado en el tablero actual, medido con el reloj monotónico.
+     * Con temporizador es lo que se consumió de la duración configurada.
+     * 
+     * @return El tiempo jugado en nanosegundos.
+     */
+    public long getElapsedNanos() {
+        return Math.max(0, getPlayedNanos() - levelStartNanos);
+    }
+
+    /**
+     * Empieza a medir el tiempo de un tablero nuevo sin reiniciar el reloj en pantalla
+     * (por ejemplo, al pasar de nivel con temporizador).
+     */
+    public void startLevel() {
+        levelStartNanos = getPlayedNanos();
+    }
+
+    private long getPlayedNanos() {
+        if ("Temporizador".equals(cronometro) || "TERMINADO".equals(cronometro)) {
+            return Math.max(0, durationNanos - getDisplayNanos());
         }
+        return getDisplayNanos();
     }
 
     /**
-     * Incrementa el tiempo transcurrido.
+     * Obtiene el valor en pantalla: el tiempo transcurrido con cronómetro o el
+     * restante con temporizador.
      */
-    private void incrementTime() {
-        secondsPassed++;
-        if (secondsPassed >= 60) {
-            secondsPassed = 0;
-            minutesPassed += 1;
+    private long getDisplayNanos() {
+        long elapsed = clock.getElapsedNanos();
+        if ("Temporizador".equals(cronometro)) {
+            return Math.max(0, baseNanos - elapsed);
         }
-        if (minutesPassed >= 60) {
-            hoursPassed += 1;
-            minutesPassed = 0;
+        return baseNanos + elapsed;
+    }
+
+    /**
+     * Obtiene el valor en pantalla en segundos enteros. El temporizador redondea
+     * hacia arriba para no mostrar 00:00:00 antes de vencer.
+     * 
+     * @return El tiempo transcurrido con cronómetro o el restante con temporizador, en segundos.
+     */
+    public long getDisplaySeconds() {
+        long nanos = getDisplayNanos();
+        if ("Temporizador".equals(cronometro)) {
+            return (nanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND;
         }
+        return nanos / NANOS_PER_SECOND;
     }
 
     /**
-     * Decrementa el tiempo restante.
+     * Cambia el valor en pantalla y vuelve el reloj a cero, sin cambiar si está corriendo.
      */
-    private void decrementTime() {
-        secondsPassed--;
-        if (secondsPassed < 0) {
-            secondsPassed = 59;
-            minutesPassed--;
-            if (minutesPassed < 0) {
-                minutesPassed = 59;
-                hoursPassed--;
-            }
+    private void setDisplay(int hours, int minutes, int seconds) {
+        setDisplayNanos(toNanos(hours, minutes, seconds));
+        levelStartNanos = 0;
+    }
+
+    private void setDisplayNanos(long nanos) {
+        boolean running = clock.isRunning();
+        baseNanos = nanos;
+        clock.reset(0);
+        if (running) {
+            clock.resume();
         }
     }
 
+    private static long toNanos(int hours, int minutes, int seconds) {
+        return TimeUnit.SECONDS.toNanos(hours * 3600L + minutes * 60L + seconds);
+    }
+
     /**
      * Maneja el evento cuando el temporizador expira.
      */
@@ -134,9 +192,8 @@ public class TimerController {
             if (option == JOptionPane.YES_OPTION) {
                 // Convertir a cronómetro
                 cronometro = "Cronómetro";
-                hoursPassed = originalHours;
-                minutesPassed = originalMinutes;
-                secondsPassed = originalSeconds;
+                setDisplay(originalHours, originalMinutes, originalSeconds);
+                clock.resume();
             } else {
                 // Forzar fin del juego
                 cronometro = "TERMINADO";
@@ -173,7 +230,8 @@ public class TimerController {
      * @return El tiempo transcurrido en formato HH:MM:SS.
      */
     public String getTiempoTranscurrido() {
-        return String.format("%02d:%02d:%02d", hoursPassed, minutesPassed, secondsPassed);
+        long total = getDisplaySeconds();
+        return String.format("%02d:%02d:%02d", total / 3600, (total % 3600) / 60, total % 60);
     }
 
     /**
@@ -182,7 +240,7 @@ public class TimerController {
      * @param secondsPassed El tiempo transcurrido en segundos.
      */
     public void setSecondsPassed(int secondsPassed) {
-        this.secondsPassed = secondsPassed;
+        setDisplay(getHoursPassed(), getMinutesPassed(), secondsPassed);
         this.originalSeconds = secondsPassed; // Mantener el valor original también
     }
 
@@ -192,7 +250,7 @@ public class TimerController {
      * @param minutesPassed Los minutos transcurridos.
      */
     public void setMinutesPassed(int minutesPassed) {
-        this.minutesPassed = minutesPassed;
+        setDisplay(getHoursPassed(), minutesPassed, getSecondsPassed());
         this.originalMinutes = minutesPassed; // Mantener el valor original también
     }
 
@@ -202,7 +260,7 @@ public class TimerController {
      * @param hoursPassed Las horas transcurridas.
      */
     public void setHoursPassed(int hoursPassed) {
-        this.hoursPassed = hoursPassed;
+        setDisplay(hoursPassed, getMinutesPassed(), getSecondsPassed());
         this.originalHours = hoursPassed; // Mantener el valor original también
     }
 
@@ -230,7 +288,7 @@ public class TimerController {
      * @return Las horas transcurridas.
      */
     public int getHoursPassed() {
-        return hoursPassed;
+        return (int) (getDisplaySeconds() / 3600);
     }
 
     /**
@@ -239,7 +297,7 @@ public class TimerController {
      * @return Los minutos transcurridos.
      */
     public int getMinutesPassed() {
-        return minutesPassed;
+        return (int) (getDisplaySeconds() % 3600 / 60);
     }
 
     /**
@@ -248,7 +306,7 @@ public class TimerController {
      * @return Los segundos transcurridos.
      */
     public int getSecondsPassed() {
-        return secondsPassed;
+        return (int) (getDisplaySeconds() % 60);
     }
 
     /**
@@ -266,6 +324,9 @@ public class TimerController {
      * @param cronometro El tipo de cronómetro.
      */
     public void setCronometro(String cronometro) {
+        // El valor en pantalla se conserva, pero desde ahora avanza en el sentido del nuevo tipo
+        long display = getDisplayNanos();
         this.cronometro = cronometro;
+        setDisplayNanos(display);
     }
 }
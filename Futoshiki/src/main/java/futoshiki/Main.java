@@ -3,6 +3,9 @@ package futoshiki;
 import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Font;
+import java.io.IOException;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
 
 import javax.swing.*;
 
@@ -16,10 +19,22 @@ import model.game.GameState;
 import model.player.PlayerManager;
 import view.dialogs.PlayerLoginDialog;
 import view.game.MainWindow;
+import persistence.BinaryCatalog;
+import persistence.CatalogVerifier;
 import persistence.ConfigurationManager;
+import util.constants.FileConstants;
+import util.log.Logs;
 
 public class Main {
+    private static final Logger LOG = Logs.get(Main.class);
+    /** Argumento que verifica el catálogo de partidas, sin abrir la interfaz */
+    private static final String VERIFY_CATALOG = "--verificar-catalogo";
+
     public static void main(String[] args) {
+        if (args.length > 0 && VERIFY_CATALOG.equals(args[0])) {
+            System.exit(verifyCatalog());
+        }
+
         SwingUtilities.invokeLater(() -> {
             try {
                 UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
@@ -67,7 +82,7 @@ public class Main {
                 mainWindow.setVisible(true);
                 
             } catch (Exception e) {
-                e.printStackTrace();
+                LOG.log(Level.ERROR, "Error al iniciar la aplicación", e);
                 JOptionPane.showMessageDialog(null,
                     "Error al iniciar la aplicación: " + e.getMessage(),
                     "Error",
@@ -77,6 +92,25 @@ public class Main {
         });
     }
 
+    /**
+     * Verifica que cada partida del catálogo tenga exactamente una solución.
+     *
+     * @return El código de salida: 0 si el catálogo es válido, 1 si no, 2 si no se pudo abrir.
+     */
+    private static int verifyCatalog() {
+        try {
+            BinaryCatalog catalog = BinaryCatalog.openOrConvert(FileConstants.GAMES_FILE, FileConstants.GAMES_CATALOG_FILE);
+            CatalogVerifier.Report report = new CatalogVerifier().verify(catalog);
+            System.out.println(report);
+            report.getUnsolvable().forEach(game -> System.out.println("Sin solución: " + game));
+            report.getAmbiguous().forEach(game -> System.out.println("Más de una solución: " + game));
+            return report.isValid() ? 0 : 1;
+        } catch (IOException e) {
+            LOG.log(Level.ERROR, "No se pudo abrir el catálogo de partidas", e);
+            return 2;
+        }
+    }
+
     private static void configureGlobalUI() {
         // Configurar UI global
         UIManager.put("Button.arc", 15);
@@ -1,5 +1,7 @@
 package model.config;
 
+import util.constants.GameConstants;
+
 public class Configuration {
     private int gridSize;
     private String difficulty;
@@ -9,6 +11,11 @@ public class Configuration {
     private int timerMinutes;
     private int timerSeconds;
     private String digitPanelPosition; // "right" or "left"
+    private String boardRenderer; // "componentes" or "dibujado"
+    private int solveTimeLimit; // segundos
+    private int puzzleQueueDepth;
+    private int puzzleWorkers;
+    private int autosaveInterval; // segundos
     private String playerName;
 
     /**
@@ -24,6 +31,11 @@ public class Configuration {
         this.timerMinutes = 0;
         this.timerSeconds = 0;
         this.digitPanelPosition = "right";
+        this.boardRenderer = GameConstants.DEFAULT_BOARD_RENDERER;
+        this.solveTimeLimit = GameConstants.DEFAULT_SOLVE_TIME_LIMIT;
+        this.puzzleQueueDepth = GameConstants.DEFAULT_PUZZLE_QUEUE_DEPTH;
+        this.puzzleWorkers = GameConstants.DEFAULT_PUZZLE_WORKERS;
+        this.autosaveInterval = GameConstants.DEFAULT_AUTOSAVE_INTERVAL;
         this.playerName = "";
     }
 
@@ -173,6 +185,100 @@ public class Configuration {
         this.digitPanelPosition = digitPanelPosition;
     }
 
+    /**
+     * Obtiene la forma de dibujar el tablero.
+     * 
+     * @return {@link GameConstants#BOARD_COMPONENTS} o {@link GameConstants#BOARD_PAINTED}.
+     */
+    public String getBoardRenderer() {
+        return boardRenderer;
+    }
+
+    /**
+     * Establece la forma de dibujar el tablero.
+     * 
+     * @param boardRenderer la forma de dibujar el tablero a establecer.
+     */
+    public void setBoardRenderer(String boardRenderer) {
+        this.boardRenderer = boardRenderer;
+    }
+
+    /**
+     * Obtiene el tiempo máximo para buscar la solución del tablero.
+     * 
+     * @return el tiempo máximo en segundos.
+     */
+    public int getSolveTimeLimit() {
+        return solveTimeLimit;
+    }
+
+    /**
+     * Establece el tiempo máximo para buscar la solución del tablero.
+     * 
+     * @param solveTimeLimit el tiempo máximo en segundos a establecer.
+     */
+    public void setSolveTimeLimit(int solveTimeLimit) {
+        this.solveTimeLimit = solveTimeLimit;
+    }
+
+    /**
+     * Obtiene la cantidad de tableros que se generan por adelantado para cada
+     * tamaño y dificultad. Se aplica al iniciar la aplicación.
+     * 
+     * @return la cantidad de tableros listos.
+     */
+    public int getPuzzleQueueDepth() {
+        return puzzleQueueDepth;
+    }
+
+    /**
+     * Establece la cantidad de tableros que se generan por adelantado para cada
+     * tamaño y dificultad.
+     * 
+     * @param puzzleQueueDepth la cantidad de tableros listos a establecer.
+     */
+    public void setPuzzleQueueDepth(int puzzleQueueDepth) {
+        this.puzzleQueueDepth = puzzleQueueDepth;
+    }
+
+    /**
+     * Obtiene la cantidad de hilos que generan tableros en segundo plano.
+     * Se aplica al iniciar la aplicación.
+     * 
+     * @return la cantidad de hilos.
+     */
+    public int getPuzzleWorkers() {
+        return puzzleWorkers;
+    }
+
+    /**
+     * Establece la cantidad de hilos que generan tableros en segundo plano.
+     * 
+     * @param puzzleWorkers la cantidad de hilos a establecer.
+     */
+    public void setPuzzleWorkers(int puzzleWorkers) {
+        this.puzzleWorkers = puzzleWorkers;
+    }
+
+    /**
+     * Obtiene el tiempo mínimo entre dos guardados automáticos de la partida.
+     * Se aplica al iniciar la aplicación.
+     * 
+     * @return el tiempo en segundos.
+     */
+    public int getAutosaveInterval() {
+        return autosaveInterval;
+    }
+
+    /**
+     * Establece el tiempo mínimo entre dos guardados automáticos de la partida.
+     * 
+     * @param autosaveInterval el tiempo en segundos a establecer.
+     */
+    public void setAutosaveInterval(int autosaveInterval) {
+        this.autosaveInterval = autosaveInterval;
+    }
+
     /**
      * Obtiene el nombre del jugador.
      * 
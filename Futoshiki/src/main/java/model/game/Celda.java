@@ -2,23 +2,27 @@ package model.game;
 
 import util.constants.GameConstants;
 
+/**
+ * Vista de una celda del tablero. No guarda estado propio: lee y escribe
+ * directamente sobre la representación compacta de {@link FutoshikiBoard}.
+ */
 public class Celda {
-    private int valor;
-    private String desDer;
-    private String desAbajo;
-    private boolean isConstant; // Para indicar si es un número constante
+    private final FutoshikiBoard board;
+    private final int row;
+    private final int col;
 
     // Constructor
     /**
      * Constructor de la clase Celda.
      * 
-     * @param valor El valor inicial de la celda.
+     * @param board El tablero al que pertenece la celda.
+     * @param row La fila de la celda.
+     * @param col La columna de la celda.
      */
-    public Celda(int valor) {
-        this.valor = valor;
-        this.desDer = " ";
-        this.desAbajo = " ";
-        this.isConstant = false;
+    Celda(FutoshikiBoard board, int row, int col) {
+        this.board = board;
+        this.row = row;
+        this.col = col;
     }
 
     // Métodos
@@ -30,36 +34,36 @@ public class Celda {
     public void creacionDesigualdades(int version) {
         switch(version) {
             case 1:
-                desDer = GameConstants.SYMBOL_LESSER;  // "<"
+                board.setRightRelation(row, col, GameConstants.INEQUALITY_LESSER);  // "<"
                 break;
             case 2:
-                desDer = GameConstants.SYMBOL_GREATER; // ">"
+                board.setRightRelation(row, col, GameConstants.INEQUALITY_GREATER); // ">"
                 break;
             case 3:
-                desAbajo = GameConstants.SYMBOL_LESSER_COL; // "^"
+                board.setBottomRelation(row, col, GameConstants.INEQUALITY_LESSER); // "^"
                 break;
             case 4:
-                desAbajo = GameConstants.SYMBOL_GREATER_COL; // "v"
+                board.setBottomRelation(row, col, GameConstants.INEQUALITY_GREATER); // "v"
                 break;
             case 5:
-                desDer = GameConstants.SYMBOL_LESSER;
-                desAbajo = GameConstants.SYMBOL_LESSER_COL;
+                board.setRightRelation(row, col, GameConstants.INEQUALITY_LESSER);
+                board.setBottomRelation(row, col, GameConstants.INEQUALITY_LESSER);
                 break;
             case 6:
-                desDer = GameConstants.SYMBOL_LESSER;
-                desAbajo = GameConstants.SYMBOL_GREATER_COL;
+                board.setRightRelation(row, col, GameConstants.INEQUALITY_LESSER);
+                board.setBottomRelation(row, col, GameConstants.INEQUALITY_GREATER);
                 break;
             case 7:
-                desDer = GameConstants.SYMBOL_GREATER;
-                desAbajo = GameConstants.SYMBOL_LESSER_COL;
+                board.setRightRelation(row, col, GameConstants.INEQUALITY_GREATER);
+                board.setBottomRelation(row, col, GameConstants.INEQUALITY_LESSER);
                 break;
             case 8:
-                desDer = GameConstants.SYMBOL_GREATER;
-                desAbajo = GameConstants.SYMBOL_GREATER_COL;
+                board.setRightRelation(row, col, GameConstants.INEQUALITY_GREATER);
+                board.setBottomRelation(row, col, GameConstants.INEQUALITY_GREATER);
                 break;
             default:
-                desDer = " ";
-                desAbajo = " ";
+                board.setRightRelation(row, col, GameConstants.INEQUALITY_NONE);
+                board.setBottomRelation(row, col, GameConstants.INEQUALITY_NONE);
         }
     }
 
@@ -70,7 +74,7 @@ public class Celda {
      * @return La desigualdad hacia abajo.
      */
     public String getDesAbajo() {
-        return desAbajo;
+        return board.getBottomInequality(row, col);
     }
 
     /**
@@ -79,7 +83,7 @@ public class Celda {
      * @return La desigualdad hacia la derecha.
      */
     public String getDesDer() {
-        return desDer;
+        return board.getRightInequality(row, col);
     }
 
     /**
@@ -88,7 +92,7 @@ public class Celda {
      * @return El valor de la celda.
      */
     public int getValor() {
-        return valor;
+        return board.getValue(row, col);
     }
 
     /**
@@ -97,9 +101,7 @@ public class Celda {
      * @param numero El nuevo valor a establecer.
      */
     public void setValor(int numero) {
-        if (!isConstant) {
-            this.valor = numero;
-        }
+        board.storeValue(row, col, numero);
     }
 
     /**
@@ -108,7 +110,7 @@ public class Celda {
      * @return true si la celda es constante, false en caso contrario.
      */
     public boolean isConstant() {
-        return isConstant;
+        return board.isConstant(row, col);
     }
 
     /**
@@ -117,7 +119,7 @@ public class Celda {
      * @param constant true para hacer la celda constante, false en caso contrario.
      */
     public void setConstant(boolean constant) {
-        isConstant = constant;
+        board.storeConstant(row, col, constant);
     }
 
     /**
@@ -127,11 +129,7 @@ public class Celda {
      * @return true si las desigualdades se cumplen, false en caso contrario.
      */
     public boolean revisarDesigualdadesDer(Celda celdaDerecha) {
-        if(celdaDerecha.getValor() == 0) return true;
-
-        if(desDer.equals(">") && valor < celdaDerecha.getValor()) return false;
-        if(desDer.equals("<") && valor > celdaDerecha.getValor()) return false;
-        return true;
+        return cumple(board.getRightRelation(row, col), getValor(), celdaDerecha.getValor());
     }
 
     /**
@@ -141,10 +139,7 @@ public class Celda {
      * @return true si las desigualdades se cumplen, false en caso contrario.
      */
     public boolean revisarDesigualdadesAba(Celda celdaAbajo) {
-        if(celdaAbajo.getValor() == 0) return true;
-        if(desAbajo.equals("v") && valor < celdaAbajo.getValor()) return false;
-        if(desAbajo.equals("^") && valor > celdaAbajo.getValor()) return false;
-        return true;
+        return cumple(board.getBottomRelation(row, col), getValor(), celdaAbajo.getValor());
     }
 
     /**
@@ -156,10 +151,13 @@ public class Celda {
      */
     public boolean revisarDesigualdades(Celda celdaAbajo, Celda celdaDerecha) {
         if(celdaDerecha.getValor() == 0 && celdaAbajo.getValor() == 0) return true;
-        if(desAbajo.equals("v") && valor < celdaAbajo.getValor()) return false;
-        if(desAbajo.equals("^") && valor > celdaAbajo.getValor()) return false;
-        if(desDer.equals(">") && valor < celdaDerecha.getValor()) return false;
-        if(desDer.equals("<") && valor > celdaDerecha.getValor()) return false;
+        return revisarDesigualdadesAba(celdaAbajo) && revisarDesigualdadesDer(celdaDerecha);
+    }
+
+    private static boolean cumple(int relacion, int valor, int vecino) {
+        if(vecino == 0) return true;
+        if(relacion == GameConstants.INEQUALITY_GREATER && valor < vecino) return false;
+        if(relacion == GameConstants.INEQUALITY_LESSER && valor > vecino) return false;
         return true;
     }
 
@@ -170,6 +168,6 @@ public class Celda {
      */
     @Override
     public String toString() {
-        return valor + " " + desDer;
+        return getValor() + " " + getDesDer();
     }
-}
\ No newline at end of file
+}
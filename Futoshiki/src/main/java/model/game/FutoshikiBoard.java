@@ -1,15 +1,38 @@
 package model.game;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.BitSet;
 
+import model.solver.FutoshikiSolver;
 import util.constants.GameConstants;
 
-public class FutoshikiBoard {
+/**
+ * Tablero de Futoshiki.
+ *
+ * Internamente se guarda de forma compacta: un {@code byte[]} con los valores
+ * de las celdas (fila por fila), un {@link BitSet} con las celdas constantes y
+ * un {@code byte[]} con dos códigos de 2 bits por celda para las desigualdades
+ * hacia la derecha (bits 0-1) y hacia abajo (bits 2-3). Las {@link Celda} son
+ * vistas sobre esta representación para la interfaz.
+ *
+ * Todo cambio de valor o de desigualdad se informa a un {@link MoveValidator},
+ * que valida las jugadas y la finalización del tablero de forma incremental, y
+ * se anota en un conjunto de celdas cambiadas que la vista consulta con
+ * {@link #takeChangedCells()} para redibujar solo esas celdas.
+ */
+public final class FutoshikiBoard {
+    private static final int RIGHT_SHIFT = 0;
+    private static final int BOTTOM_SHIFT = 2;
+    private static final int RELATION_MASK = 0b11;
+
     private int size;
+    private byte[] values;
+    private BitSet constants;
+    private byte[] inequalities;
     private Celda[][] cells;
-    private List<Inequality> inequalities;
-    private List<GameConstants> constants;
+    private MoveValidator validator;
+    private PuzzleId puzzleId;
+    // Celdas cambiadas desde la última vez que la vista las pidió
+    private BitSet changed;
 
     /**
      * Constructor de la clase FutoshikiBoard.
@@ -18,25 +41,63 @@ public class FutoshikiBoard {
      */
     public FutoshikiBoard(int size) {
         this.size = size;
-        this.cells = new Celda[size][size];
-        this.inequalities = new ArrayList<>();
-        this.constants = new ArrayList<>();
-        
-        // Inicializar celdas
+        this.values = new byte[size * size];
+        this.constants = new BitSet(size * size);
+        this.inequalities = new byte[size * size];
+        this.validator = new MoveValidator(this);
+        this.changed = new BitSet(size * size);
+        this.changed.set(0, size * size);
+    }
+
+    /**
+     * Obtiene el identificador con que se puede regenerar la partida.
+     * 
+     * @return El identificador, o null si el tablero no salió del generador.
+     */
+    public PuzzleId getPuzzleId() {
+        return puzzleId;
+    }
+
+    /**
+     * Establece el identificador de la partida.
+     * 
+     * @param puzzleId El identificador de la partida.
+     */
+    public void setPuzzleId(PuzzleId puzzleId) {
+        this.puzzleId = puzzleId;
+    }
+
+    /**
+     * Establece las celdas del tablero copiando sus valores, constantes y desigualdades.
+     * 
+     * @param cells Las celdas a establecer.
+     */
+    public void setCells(Celda[][] cells) {
         for (int i = 0; i < size; i++) {
             for (int j = 0; j < size; j++) {
-                cells[i][j] = new Celda(0);
+                Celda celda = cells[i][j];
+                int index = index(i, j);
+                values[index] = (byte) celda.getValor();
+                constants.set(index, celda.isConstant());
+                setRightRelation(i, j, relationOf(celda.getDesDer()));
+                setBottomRelation(i, j, relationOf(celda.getDesAbajo()));
             }
         }
+        validator.rebuild();
+        changed.set(0, size * size);
     }
 
     /**
-     * Establece las celdas del tablero.
+     * Obtiene las celdas que cambiaron (valor, constante o desigualdad) desde la
+     * llamada anterior y empieza a registrar de nuevo. Un tablero recién creado
+     * informa todas sus celdas.
      * 
-     * @param cells Las celdas a establecer.
+     * @return Los índices (fila * tamaño + columna) de las celdas cambiadas.
      */
-    public void setCells(Celda[][] cells) {
-        this.cells = cells;
+    public BitSet takeChangedCells() {
+        BitSet result = changed;
+        changed = new BitSet(size * size);
+        return result;
     }
 
     /**
@@ -45,6 +106,15 @@ public class FutoshikiBoard {
      * @return Las celdas del tablero.
      */
     public Celda[][] getCells() {
+        if (cells == null) {
+            Celda[][] views = new Celda[size][size];
+            for (int i = 0; i < size; i++) {
+                for (int j = 0; j < size; j++) {
+                    views[i][j] = new Celda(this, i, j);
+                }
+            }
+            cells = views;
+        }
         return cells;
     }
 
@@ -56,7 +126,7 @@ public class FutoshikiBoard {
      * @return La celda en la posición especificada.
      */
     public Celda getCellAt(int row, int col) {
-        return cells[row][col];
+        return getCells()[row][col];
     }
 
     /**
@@ -81,165 +151,67 @@ public class FutoshikiBoard {
             return false;
         }
 
-        if (cells[row][col].isConstant()) {
-            return false;
-        }
-
-        // Validar rango del valor
-        if (value < 1 || value > size) {
-            return false;
-        }
-
-        // Validar fila
-        for (int i = 0; i < size; i++) {
-            if (i != col && cells[row][i].getValor() == value) {
-                cells[row][col].setValor(value); // Temporalmente para mostrar el error
+        switch (validator.check(row, col, value)) {
+            case MoveValidator.VALID:
+                writeValue(row, col, value);
+                return true;
+            case MoveValidator.DUPLICATE_ROW:
+            case MoveValidator.DUPLICATE_COLUMN:
+                writeValue(row, col, value); // Temporalmente para mostrar el error
                 return false;
-            }
-        }
-
-        // Validar columna
-        for (int i = 0; i < size; i++) {
-            if (i != row && cells[i][col].getValor() == value) {
-                cells[row][col].setValor(value); // Temporalmente para mostrar el error
+            case MoveValidator.GREATER_CONSTRAINT:
+            case MoveValidator.LESSER_CONSTRAINT:
+                writeValue(row, col, 0); // Revertir si no es válido
+                return false;
+            default:
                 return false;
-            }
-        }
-
-        // Validar desigualdades
-        cells[row][col].setValor(value);
-        if (!validateInequalities(row, col)) {
-            cells[row][col].setValor(0); // Revertir si no es válido
-            return false;
         }
-
-        return true;
     }
 
     /**
-     * Valida las desigualdades en una posición específica.
+     * Restaura el valor que tenía una celda en una partida guardada, sin validarlo.
+     * A diferencia de {@link #setCellValue}, el resultado no depende del orden en
+     * que se restauran las celdas.
      * 
      * @param row La fila de la celda.
      * @param col La columna de la celda.
-     * @return true si las desigualdades son válidas, false en caso contrario.
+     * @param value El valor guardado.
      */
-    private boolean validateInequalities(int row, int col) {
-        // Validar con celda a la derecha
-        if (col < size - 1) {
-            if (!validateInequalityRight(row, col)) {
-                return false;
-            }
+    public void restoreValue(int row, int col, int value) {
+        if (row >= 0 && row < size && col >= 0 && col < size) {
+            storeValue(row, col, value);
         }
-
-        // Validar con celda a la izquierda
-        if (col > 0) {
-            if (!validateInequalityLeft(row, col)) {
-                return false;
-            }
-        }
-
-        // Validar con celda abajo
-        if (row < size - 1) {
-            if (!validateInequalityBottom(row, col)) {
-                return false;
-            }
-        }
-
-        // Validar con celda arriba
-        if (row > 0) {
-            if (!validateInequalityTop(row, col)) {
-                return false;
-            }
-        }
-
-        return true;
-    }
-
-    private boolean validateInequalityRight(int row, int col) {
-        String inequality = cells[row][col].getDesDer();
-        int rightValue = cells[row][col + 1].getValor();
-        
-        if (rightValue == 0) return true;
-        
-        if (inequality.equals(">") && cells[row][col].getValor() <= rightValue) {
-            return false;
-        }
-        if (inequality.equals("<") && cells[row][col].getValor() >= rightValue) {
-            return false;
-        }
-        return true;
     }
 
-    private boolean validateInequalityLeft(int row, int col) {
-        String inequality = cells[row][col - 1].getDesDer();
-        int leftValue = cells[row][col - 1].getValor();
-        
-        if (leftValue == 0) return true;
-        
-        if (inequality.equals(">") && leftValue <= cells[row][col].getValor()) {
-            return false;
-        }
-        if (inequality.equals("<") && leftValue >= cells[row][col].getValor()) {
-            return false;
-        }
-        return true;
-    }
-
-    private boolean validateInequalityBottom(int row, int col) {
-        String inequality = cells[row][col].getDesAbajo();
-        int bottomValue = cells[row + 1][col].getValor();
-        
-        if (bottomValue == 0) return true;
-        
-        if (inequality.equals("v") && cells[row][col].getValor() <= bottomValue) {
-            return false;
-        }
-        if (inequality.equals("^") && cells[row][col].getValor() >= bottomValue) {
-            return false;
-        }
-        return true;
+    /**
+     * Valida una jugada sin modificar el tablero.
+     * 
+     * @param row La fila de la celda.
+     * @param col La columna de la celda.
+     * @param value El valor que se desea colocar.
+     * @return {@link MoveValidator#VALID} o el código de la regla que se incumple.
+     */
+    public int checkMove(int row, int col, int value) {
+        return validator.check(row, col, value);
     }
 
-    private boolean validateInequalityTop(int row, int col) {
-        String inequality = cells[row - 1][col].getDesAbajo();
-        int topValue = cells[row - 1][col].getValor();
-        
-        if (topValue == 0) return true;
-        
-        if (inequality.equals("v") && topValue <= cells[row][col].getValor()) {
-            return false;
-        }
-        if (inequality.equals("^") && topValue >= cells[row][col].getValor()) {
-            return false;
-        }
-        return true;
+    /**
+     * Obtiene el validador incremental del tablero.
+     * 
+     * @return El validador de jugadas.
+     */
+    public MoveValidator getMoveValidator() {
+        return validator;
     }
 
     /**
-     * Verifica si el tablero está completo.
+     * Verifica si el tablero está completo: todas las celdas llenas, sin
+     * repetidos y cumpliendo todas las desigualdades.
      * 
      * @return true si el tablero está completo, false en caso contrario.
      */
     public boolean isBoardComplete() {
-        // Verificar que todas las celdas estén llenas
-        for (int i = 0; i < size; i++) {
-            for (int j = 0; j < size; j++) {
-                if (cells[i][j].getValor() == 0) {
-                    return false;
-                }
-            }
-        }
-
-        // Verificar todas las desigualdades
-        for (int i = 0; i < size; i++) {
-            for (int j = 0; j < size; j++) {
-                if (!validateInequalities(i, j)) {
-                    return false;
-                }
-            }
-        }
-
-        return true;
+        return validator.isComplete();
     }
 
     /**
@@ -250,8 +222,9 @@ public class FutoshikiBoard {
      * @param value El valor a establecer.
      */
     public void setConstant(int row, int col, int value) {
-        cells[row][col].setValor(value);
-        cells[row][col].setConstant(true);
+        storeValue(row, col, value);
+        constants.set(index(row, col));
+        changed.set(index(row, col));
     }
 
     /**
@@ -264,16 +237,16 @@ public class FutoshikiBoard {
     public void setInequality(String type, int row, int col) {
         switch (type) {
             case "maf": // mayor que en fila
-                cells[row][col].creacionDesigualdades(2); // Para >
+                setRightRelation(row, col, GameConstants.INEQUALITY_GREATER); // Para >
                 break;
             case "mef": // menor que en fila
-                cells[row][col].creacionDesigualdades(1); // Para <
+                setRightRelation(row, col, GameConstants.INEQUALITY_LESSER); // Para <
                 break;
             case "mac": // mayor que en columna
-                cells[row][col].creacionDesigualdades(4); // Para v
+                setBottomRelation(row, col, GameConstants.INEQUALITY_GREATER); // Para v
                 break;
             case "mec": // menor que en columna
-                cells[row][col].creacionDesigualdades(3); // Para ^
+                setBottomRelation(row, col, GameConstants.INEQUALITY_LESSER); // Para ^
                 break;
         }
     }
@@ -286,7 +259,7 @@ public class FutoshikiBoard {
      * @return true si la celda es constante, false en caso contrario.
      */
     public boolean isConstant(int row, int col) {
-        return cells[row][col].isConstant();
+        return constants.get(index(row, col));
     }
 
     /**
@@ -297,7 +270,7 @@ public class FutoshikiBoard {
      * @return El valor de la celda.
      */
     public int getValue(int row, int col) {
-        return cells[row][col].getValor();
+        return values[index(row, col)];
     }
 
     /**
@@ -308,7 +281,14 @@ public class FutoshikiBoard {
      * @return La desigualdad hacia la derecha.
      */
     public String getRightInequality(int row, int col) {
-        return cells[row][col].getDesDer();
+        switch (getRightRelation(row, col)) {
+            case GameConstants.INEQUALITY_GREATER:
+                return GameConstants.SYMBOL_GREATER;
+            case GameConstants.INEQUALITY_LESSER:
+                return GameConstants.SYMBOL_LESSER;
+            default:
+                return " ";
+        }
     }
 
     /**
@@ -319,7 +299,36 @@ public class FutoshikiBoard {
      * @return La desigualdad hacia abajo.
      */
     public String getBottomInequality(int row, int col) {
-        return cells[row][col].getDesAbajo();
+        switch (getBottomRelation(row, col)) {
+            case GameConstants.INEQUALITY_GREATER:
+                return GameConstants.SYMBOL_GREATER_COL;
+            case GameConstants.INEQUALITY_LESSER:
+                return GameConstants.SYMBOL_LESSER_COL;
+            default:
+                return " ";
+        }
+    }
+
+    /**
+     * Obtiene el código de la desigualdad hacia la derecha de una celda.
+     * 
+     * @param row La fila de la celda.
+     * @param col La columna de la celda.
+     * @return {@link GameConstants#INEQUALITY_NONE}, {@link GameConstants#INEQUALITY_LESSER} o {@link GameConstants#INEQUALITY_GREATER}.
+     */
+    public int getRightRelation(int row, int col) {
+        return relation(index(row, col), RIGHT_SHIFT);
+    }
+
+    /**
+     * Obtiene el código de la desigualdad hacia abajo de una celda.
+     * 
+     * @param row La fila de la celda.
+     * @param col La columna de la celda.
+     * @return {@link GameConstants#INEQUALITY_NONE}, {@link GameConstants#INEQUALITY_LESSER} o {@link GameConstants#INEQUALITY_GREATER}.
+     */
+    public int getBottomRelation(int row, int col) {
+        return relation(index(row, col), BOTTOM_SHIFT);
     }
 
     /**
@@ -330,8 +339,8 @@ public class FutoshikiBoard {
      * @return true si la celda se limpió correctamente, false en caso contrario.
      */
     public boolean clearCell(int row, int col) {
-        if (!cells[row][col].isConstant()) {
-            cells[row][col].setValor(0);
+        if (!constants.get(index(row, col))) {
+            writeValue(row, col, 0);
             return true;
         }
         return false;
@@ -343,9 +352,7 @@ public class FutoshikiBoard {
     public void clearNonConstantCells() {
         for (int i = 0; i < size; i++) {
             for (int j = 0; j < size; j++) {
-                if (!cells[i][j].isConstant()) {
-                    cells[i][j].setValor(0);
-                }
+                storeValue(i, j, 0);
             }
         }
     }
@@ -360,15 +367,15 @@ public class FutoshikiBoard {
         StringBuilder sb = new StringBuilder();
         for (int i = 0; i < size; i++) {
             for (int j = 0; j < size; j++) {
-                sb.append(cells[i][j].getValor()).append(" ");
+                sb.append(getValue(i, j)).append(" ");
                 if (j < size - 1) {
-                    sb.append(cells[i][j].getDesDer()).append(" ");
+                    sb.append(getRightInequality(i, j)).append(" ");
                 }
             }
             sb.append("\n");
             if (i < size - 1) {
                 for (int j = 0; j < size; j++) {
-                    sb.append(cells[i][j].getDesAbajo()).append("   ");
+                    sb.append(getBottomInequality(i, j)).append("   ");
                 }
                 sb.append("\n");
             }
@@ -377,120 +384,119 @@ public class FutoshikiBoard {
     }
 
     /**
-     * Resuelve el tablero utilizando el algoritmo de backtracking.
+     * Resuelve el tablero a partir de sus constantes y desigualdades,
+     * reemplazando los valores ingresados por el jugador.
      * 
      * @return true si el tablero se resolvió correctamente, false en caso contrario.
      */
     public boolean solve() {
-        return solveBacktracking(0, 0);
+        int[][] solution = FutoshikiSolver.fromBoard(this).solve();
+        if (solution == null) {
+            return false;
+        }
+
+        applySolution(solution);
+        return true;
     }
 
     /**
-     * Resuelve el tablero utilizando el algoritmo de backtracking.
-     * 
-     * @param row La fila actual.
-     * @param col La columna actual.
-     * @return true si el tablero se resolvió correctamente, false en caso contrario.
+     * Copia una solución completa al tablero, reemplazando los valores
+     * ingresados por el jugador. Las celdas cambiadas quedan marcadas, así que
+     * la vista se actualiza con un solo {@code updateBoard}.
+     *
+     * @param solution La cuadrícula resuelta, del mismo tamaño que el tablero.
      */
-    private boolean solveBacktracking(int row, int col) {
-        // Si llegamos al final del tablero, está resuelto
-        if (row == size) {
-            return true;
-        }
-
-        // Calcular siguiente posición
-        int nextRow = (col == size - 1) ? row + 1 : row;
-        int nextCol = (col == size - 1) ? 0 : col + 1;
-
-        // Si la celda es constante, pasar a la siguiente
-        if (cells[row][col].isConstant()) {
-            return solveBacktracking(nextRow, nextCol);
-        }
-
-        // Probar cada valor posible
-        for (int num = 1; num <= size; num++) {
-            // Guardar valor actual para poder restaurarlo
-            int currentValue = cells[row][col].getValor();
-            
-            if (isValidMove(row, col, num)) {
-                cells[row][col].setValor(num);
-                
-                if (solveBacktracking(nextRow, nextCol)) {
-                    return true;
-                }
+    public void applySolution(int[][] solution) {
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                storeValue(i, j, solution[i][j]);
             }
-            
-            // Restaurar valor si no funcionó
-            cells[row][col].setValor(currentValue);
         }
-
-        return false;
     }
 
     /**
-     * Verifica si un movimiento es válido en una posición específica.
-     * 
-     * @param row La fila de la celda.
-     * @param col La columna de la celda.
-     * @param value El valor a verificar.
-     * @return true si el movimiento es válido, false en caso contrario.
+     * Guarda el valor de una celda si no es constante, sin validarlo.
      */
-    private boolean isValidMove(int row, int col, int value) {
-        // Validar fila
-        for (int i = 0; i < size; i++) {
-            if (i != col && cells[row][i].getValor() == value) {
-                return false;
-            }
+    void storeValue(int row, int col, int value) {
+        if (!constants.get(index(row, col))) {
+            writeValue(row, col, value);
         }
+    }
 
-        // Validar columna
-        for (int i = 0; i < size; i++) {
-            if (i != row && cells[i][col].getValor() == value) {
-                return false;
-            }
-        }
+    /**
+     * Marca o desmarca una celda como constante.
+     */
+    void storeConstant(int row, int col, boolean constant) {
+        constants.set(index(row, col), constant);
+        changed.set(index(row, col));
+    }
 
-        // Validar desigualdades
-        // Con celda a la derecha
+    /**
+     * Establece el código de la desigualdad hacia la derecha de una celda.
+     */
+    void setRightRelation(int row, int col, int relation) {
+        int index = index(row, col);
+        int old = relation(index, RIGHT_SHIFT);
+        setRelation(index, RIGHT_SHIFT, relation);
+        if (old != relation(index, RIGHT_SHIFT)) {
+            changed.set(index);
+        }
         if (col < size - 1) {
-            int rightValue = cells[row][col + 1].getValor();
-            if (rightValue != 0) {
-                String inequality = cells[row][col].getDesDer();
-                if (inequality.equals(">") && value <= rightValue) return false;
-                if (inequality.equals("<") && value >= rightValue) return false;
-            }
+            validator.relationChanged(values[index], values[index + 1], old, relation(index, RIGHT_SHIFT));
         }
+    }
 
-        // Con celda a la izquierda
-        if (col > 0) {
-            int leftValue = cells[row][col - 1].getValor();
-            if (leftValue != 0) {
-                String inequality = cells[row][col - 1].getDesDer();
-                if (inequality.equals(">") && leftValue <= value) return false;
-                if (inequality.equals("<") && leftValue >= value) return false;
-            }
+    /**
+     * Establece el código de la desigualdad hacia abajo de una celda.
+     */
+    void setBottomRelation(int row, int col, int relation) {
+        int index = index(row, col);
+        int old = relation(index, BOTTOM_SHIFT);
+        setRelation(index, BOTTOM_SHIFT, relation);
+        if (old != relation(index, BOTTOM_SHIFT)) {
+            changed.set(index);
         }
-
-        // Con celda abajo
         if (row < size - 1) {
-            int bottomValue = cells[row + 1][col].getValor();
-            if (bottomValue != 0) {
-                String inequality = cells[row][col].getDesAbajo();
-                if (inequality.equals("v") && value <= bottomValue) return false;
-                if (inequality.equals("^") && value >= bottomValue) return false;
-            }
+            validator.relationChanged(values[index], values[index + size], old, relation(index, BOTTOM_SHIFT));
         }
+    }
 
-        // Con celda arriba
-        if (row > 0) {
-            int topValue = cells[row - 1][col].getValor();
-            if (topValue != 0) {
-                String inequality = cells[row - 1][col].getDesAbajo();
-                if (inequality.equals("v") && topValue <= value) return false;
-                if (inequality.equals("^") && topValue >= value) return false;
-            }
-        }
+    /**
+     * Escribe el valor de una celda y actualiza el validador.
+     */
+    private void writeValue(int row, int col, int value) {
+        int index = index(row, col);
+        int old = values[index];
+        values[index] = (byte) value;
+        if (old != value) {
+            changed.set(index);
+        }
+        validator.valueChanged(row, col, old, value);
+    }
 
-        return true;
+    private int index(int row, int col) {
+        return row * size + col;
+    }
+
+    private int relation(int index, int shift) {
+        return (inequalities[index] >> shift) & RELATION_MASK;
+    }
+
+    private void setRelation(int index, int shift, int relation) {
+        int packed = inequalities[index] & ~(RELATION_MASK << shift);
+        inequalities[index] = (byte) (packed | ((relation & RELATION_MASK) << shift));
+    }
+
+    private static int relationOf(String symbol) {
+        switch (symbol) {
+            case GameConstants.SYMBOL_GREATER:
+            case GameConstants.SYMBOL_GREATER_COL:
+                return GameConstants.INEQUALITY_GREATER;
+            case GameConstants.SYMBOL_LESSER:
+            case GameConstants.SYMBOL_LESSER_COL:
+                return GameConstants.INEQUALITY_LESSER;
+            default:
+                return GameConstants.INEQUALITY_NONE;
+        }
     }
 }
\ No newline at end of file
@@ -1,11 +1,32 @@
 package model.game;
 
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
 
+import model.solver.DifficultyGrader;
+import model.solver.FutoshikiSolver;
+import util.constants.GameConstants;
+import util.log.Logs;
+
+/**
+ * Generador de partidas de Futoshiki.
+ *
+ * Cada partida se genera a partir de una semilla explícita con un
+ * {@link SplittableRandom} propio de la llamada, así que la misma semilla
+ * produce siempre el mismo tablero y varios hilos pueden generar a la vez sin
+ * compartir un generador de números aleatorios. El tablero resultante lleva su
+ * {@link PuzzleId}, que basta para regenerarlo.
+ *
+ * La dificultad no depende solo de la cantidad de pistas: cada tablero se
+ * califica con {@link DifficultyGrader} y se vuelve a intentar, con más o menos
+ * pistas, hasta que la dificultad medida coincide con la pedida.
+ */
 public class FutoshikiGenerator {
-    private static final Random random = new Random();
+    private static final Logger LOG = Logs.get(FutoshikiGenerator.class);
 
     /**
      * Genera una nueva partida de Futoshiki aleatoria.
@@ -15,52 +36,91 @@ public class FutoshikiGenerator {
      * @return FutoshikiBoard con el juego generado
      */
     public static FutoshikiBoard generateGame(int size, String difficulty) {
-        System.out.println("FutoshikiGenerator: Generando juego " + size + "x" + size + " dificultad " + difficulty);
+        return generateGame(size, difficulty, ThreadLocalRandom.current().nextLong());
+    }
 
-        // 1. Crear tablero vacío
-        FutoshikiBoard board = new FutoshikiBoard(size);
-        System.out.println("FutoshikiGenerator: Tablero creado");
-        
-        // 2. Generar una solución válida completa
-        int[][] solution = generateValidSolution(size);
-        System.out.println("FutoshikiGenerator: Solución generada");
+    /**
+     * Vuelve a generar la partida correspondiente a un identificador.
+     * 
+     * @param id El identificador de la partida.
+     * @return FutoshikiBoard con el juego generado
+     */
+    public static FutoshikiBoard generateGame(PuzzleId id) {
+        return generateGame(id.getSize(), id.getDifficulty(), id.getSeed());
+    }
+
+    /**
+     * Genera la partida de Futoshiki determinada por una semilla.
+     * 
+     * @param size Tamaño del tablero (6-10)
+     * @param difficulty Dificultad ("Facil", "Intermedio", "Dificil")
+     * @param seed Semilla de generación
+     * @return FutoshikiBoard con el juego generado
+     */
+    public static FutoshikiBoard generateGame(int size, String difficulty, long seed) {
+        PuzzleId id = new PuzzleId(size, difficulty, seed);
+        LOG.log(Level.DEBUG, () -> "Generando juego " + id);
+        SplittableRandom random = new SplittableRandom(seed);
+
+        // 1. Generar una solución válida completa
+        int[][] solution = generateValidSolution(size, random);
         
-        // NUEVO: Imprimir la solución para verificación
-        System.out.println("Solución completa generada:");
-        for (int i = 0; i < size; i++) {
-            StringBuilder row = new StringBuilder();
-            for (int j = 0; j < size; j++) {
-                row.append(solution[i][j]).append(" ");
+        // Imprimir la solución y verificarla, solo si se va a ver
+        if (LOG.isLoggable(Level.TRACE)) {
+            StringBuilder text = new StringBuilder("Solución completa generada:");
+            for (int i = 0; i < size; i++) {
+                text.append('\n');
+                for (int j = 0; j < size; j++) {
+                    text.append(solution[i][j]).append(" ");
+                }
             }
-            System.out.println(row.toString());
+            text.append("\nLa solución generada es válida: ").append(validarSolucion(solution, size));
+            LOG.log(Level.TRACE, text.toString());
         }
         
-        // Verificar que la solución es válida
-        boolean solucionValida = validarSolucion(solution, size);
-        System.out.println("La solución generada es válida: " + solucionValida);
-        
-        // 3. Determinar número de pistas según dificultad
+        // 2. Determinar número inicial de pistas según dificultad
         int numConstants = calculateConstants(size, difficulty);
         int numInequalities = calculateInequalities(size, difficulty);
-        System.out.println("FutoshikiGenerator: Número de constantes y desigualdades calculado");
-        
-        // 4. Colocar constantes aleatorias de la solución
-        placeRandomConstants(board, solution, numConstants);
-        System.out.println("FutoshikiGenerator: Constantes colocadas");
         
-        // 5. Colocar desigualdades válidas
-        placeRandomInequalities(board, solution, numInequalities);
-        System.out.println("FutoshikiGenerator: Desigualdades colocadas");
+        // 3. Probar tableros hasta que el calificador confirme la dificultad pedida.
+        //    Si un intento resulta más fácil se dan menos pistas en el siguiente, y al revés.
+        int target = DifficultyGrader.levelOf(difficulty);
+        double density = 1.0;
+        FutoshikiBoard best = null;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int attempt = 1; attempt <= GameConstants.GRADING_ATTEMPTS; attempt++) {
+            FutoshikiBoard board = new FutoshikiBoard(size);
+            board.setPuzzleId(id);
+            
+            placeRandomConstants(board, solution, Math.min(size * size, (int) (numConstants * density)), random);
+            placeRandomInequalities(board, solution, (int) (numInequalities * Math.sqrt(density)), random);
+            ensureUniqueSolution(board, solution, random);
+            
+            DifficultyGrader.Grade grade = DifficultyGrader.grade(board);
+            if (LOG.isLoggable(Level.DEBUG)) {
+                LOG.log(Level.DEBUG, "Intento " + attempt + " calificado " + grade);
+            }
+            int distance = grade.getLevel() - target;
+            if (distance == 0) {
+                return board;
+            }
+            if (Math.abs(distance) < bestDistance) {
+                best = board;
+                bestDistance = Math.abs(distance);
+            }
+            density *= distance < 0 ? 0.8 : 1.25;
+        }
         
-        return board;
+        LOG.log(Level.INFO, () -> "No se obtuvo la dificultad " + difficulty + " en " + id + ", se usa el intento más cercano");
+        return best;
     }
 
     /**
      * Genera una solución válida completa.
      */
-    private static int[][] generateValidSolution(int size) {
+    private static int[][] generateValidSolution(int size, SplittableRandom random) {
         int[][] board = new int[size][size];
-        if (solveRandomly(board, 0, 0, size)) {
+        if (solveRandomly(board, 0, 0, size, random)) {
             return board;
         }
         throw new RuntimeException("No se pudo generar una solución válida");
@@ -69,7 +129,7 @@ public class FutoshikiGenerator {
     /**
      * Resuelve el tablero de manera aleatoria usando backtracking.
      */
-    private static boolean solveRandomly(int[][] board, int row, int col, int size) {
+    private static boolean solveRandomly(int[][] board, int row, int col, int size, SplittableRandom random) {
         if (col == size) {
             col = 0;
             row++;
@@ -95,7 +155,7 @@ public class FutoshikiGenerator {
         for (int num : numbers) {
             if (isValidMove(board, row, col, num, size)) {
                 board[row][col] = num;
-                if (solveRandomly(board, row, col + 1, size)) {
+                if (solveRandomly(board, row, col + 1, size, random)) {
                     return true;
                 }
                 board[row][col] = 0;
@@ -140,7 +200,7 @@ public class FutoshikiGenerator {
                 factor = 0.25;
         }
         int constants = (int)(size * size * factor);
-        System.out.println("Calculando constantes para dificultad " + difficulty + 
+        LOG.log(Level.DEBUG, () -> "Calculando constantes para dificultad " + difficulty +
                           ": " + constants + " constantes");
         return constants;
     }
@@ -166,7 +226,7 @@ public class FutoshikiGenerator {
         // Máximo de desigualdades posibles: horizontal + vertical
         int maxInequalities = 2 * (size * (size-1));
         int inequalities = (int)(maxInequalities * factor);
-        System.out.println("Calculando desigualdades para dificultad " + difficulty + 
+        LOG.log(Level.DEBUG, () -> "Calculando desigualdades para dificultad " + difficulty +
                           ": " + inequalities + " desigualdades");
         return inequalities;
     }
@@ -174,8 +234,8 @@ public class FutoshikiGenerator {
     /**
      * Coloca constantes aleatorias de la solución.
      */
-    private static void placeRandomConstants(FutoshikiBoard board, int[][] solution, int numConstants) {
-        System.out.println("Colocando " + numConstants + " constantes...");
+    private static void placeRandomConstants(FutoshikiBoard board, int[][] solution, int numConstants, SplittableRandom random) {
+        LOG.log(Level.TRACE, () -> "Colocando " + numConstants + " constantes...");
         int placed = 0;
         int size = board.getSize();
         
@@ -185,7 +245,7 @@ public class FutoshikiGenerator {
             
             if (board.getValue(row, col) == 0) {
                 board.setConstant(row, col, solution[row][col]);
-                System.out.println("Constante colocada en [" + row + "," + col + "] = " + solution[row][col]);
+                LOG.log(Level.TRACE, () -> "Constante colocada en [" + row + "," + col + "] = " + solution[row][col]);
                 placed++;
             }
         }
@@ -194,8 +254,8 @@ public class FutoshikiGenerator {
     /**
      * Coloca desigualdades válidas basadas en la solución.
      */
-    private static void placeRandomInequalities(FutoshikiBoard board, int[][] solution, int numInequalities) {
-        System.out.println("Colocando " + numInequalities + " desigualdades...");
+    private static void placeRandomInequalities(FutoshikiBoard board, int[][] solution, int numInequalities, SplittableRandom random) {
+        LOG.log(Level.TRACE, () -> "Colocando " + numInequalities + " desigualdades...");
         int placed = 0;
         int size = board.getSize();
         
@@ -209,11 +269,11 @@ public class FutoshikiGenerator {
                 
                 if (solution[row][col] > solution[row][col + 1]) {
                     board.setInequality("maf", row, col); // mayor que
-                    System.out.println("Desigualdad horizontal > en [" + row + "," + col + "]");
+                    LOG.log(Level.TRACE, () -> "Desigualdad horizontal > en [" + row + "," + col + "]");
                     placed++;
                 } else if (solution[row][col] < solution[row][col + 1]) {
                     board.setInequality("mef", row, col); // menor que
-                    System.out.println("Desigualdad horizontal < en [" + row + "," + col + "]");
+                    LOG.log(Level.TRACE, () -> "Desigualdad horizontal < en [" + row + "," + col + "]");
                     placed++;
                 }
             } else {
@@ -222,17 +282,43 @@ public class FutoshikiGenerator {
                 
                 if (solution[row][col] > solution[row + 1][col]) {
                     board.setInequality("mac", row, col); // mayor que vertical
-                    System.out.println("Desigualdad vertical v en [" + row + "," + col + "]");
+                    LOG.log(Level.TRACE, () -> "Desigualdad vertical v en [" + row + "," + col + "]");
                     placed++;
                 } else if (solution[row][col] < solution[row + 1][col]) {
                     board.setInequality("mec", row, col); // menor que vertical
-                    System.out.println("Desigualdad vertical ^ en [" + row + "," + col + "]");
+                    LOG.log(Level.TRACE, () -> "Desigualdad vertical ^ en [" + row + "," + col + "]");
                     placed++;
                 }
             }
         }
     }
 
+    /**
+     * Agrega constantes de la solución hasta que la partida tenga una única solución.
+     * Cada constante se elige entre las celdas en que otra solución difiere de la
+     * buscada, de modo que descarta esa alternativa sin dar pistas de más.
+     */
+    private static void ensureUniqueSolution(FutoshikiBoard board, int[][] solution, SplittableRandom random) {
+        int size = board.getSize();
+        int[] differing = new int[size * size];
+        int[][] other;
+        while ((other = FutoshikiSolver.fromBoard(board).findOtherSolution(solution)) != null) {
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                for (int j = 0; j < size; j++) {
+                    if (other[i][j] != solution[i][j]) {
+                        differing[count++] = i * size + j;
+                    }
+                }
+            }
+            int cell = differing[random.nextInt(count)];
+            int row = cell / size;
+            int col = cell % size;
+            board.setConstant(row, col, solution[row][col]);
+            LOG.log(Level.TRACE, () -> "Constante extra en [" + row + "," + col + "] = " + solution[row][col]);
+        }
+    }
+
     /**
      * Verifica que la solución generada es válida.
      */
@@ -1,7 +1,6 @@
 package model.game;
 
 import java.util.Stack;
-import org.w3c.dom.Element;
 
 public class GameState {
     private FutoshikiBoard board;
@@ -10,7 +9,11 @@ public class GameState {
     private Stack<Move> undoneMoves;   // Jugadas deshechas
     private boolean isGameStarted;
     private String config;
-    private Element timerElement;
+    // Temporizador guardado; timerType es null si la partida no trae uno
+    private String timerType;
+    private int timerHours;
+    private int timerMinutes;
+    private int timerSeconds;
 
     /**
      * Constructor de la clase GameState.
@@ -74,11 +77,50 @@ public class GameState {
         return config;
     }
 
-    public Element getTimerElement() {
-        return timerElement;
+    /**
+     * Obtiene las jugadas que se pueden deshacer.
+     * 
+     * @return La pila de jugadas, con la más reciente arriba.
+     */
+    public Stack<Move> getMoves() {
+        return moves;
     }
 
-    public void setTimerElement(Element timerElement) {
-        this.timerElement = timerElement;
+    /**
+     * Obtiene las jugadas deshechas que se pueden rehacer.
+     * 
+     * @return La pila de jugadas deshechas, con la más reciente arriba.
+     */
+    public Stack<Move> getUndoneMoves() {
+        return undoneMoves;
     }
+
+    /**
+     * Establece el temporizador con que se guardó la partida.
+     * 
+     * @param type El tipo de temporizador.
+     * @param hours Las horas transcurridas.
+     * @param minutes Los minutos transcurridos.
+     * @param seconds Los segundos transcurridos.
+     */
+    public void setSavedTimer(String type, int hours, int minutes, int seconds) {
+        this.timerType = type;
+        this.timerHours = hours;
+        this.timerMinutes = minutes;
+        this.timerSeconds = seconds;
+    }
+
+    /**
+     * Indica si la partida trae un temporizador guardado.
+     * 
+     * @return true si hay un temporizador guardado, false en caso contrario.
+     */
+    public boolean hasSavedTimer() {
+        return timerType != null;
+    }
+
+    public String getTimerType() { return timerType; }
+    public int getTimerHours() { return timerHours; }
+    public int getTimerMinutes() { return timerMinutes; }
+    public int getTimerSeconds() { return timerSeconds; }
 }
\ No newline at end of file
@@ -0,0 +1,272 @@
+package model.game;
+
+import java.util.Arrays;
+
+import util.constants.GameConstants;
+
+/**
+ * Validación incremental de jugadas para un {@link FutoshikiBoard}.
+ *
+ * Mantiene, para cada fila y columna, una máscara con los dígitos presentes y
+ * la cantidad de veces que aparece cada dígito. El tablero avisa de cada cambio
+ * de valor o de desigualdad, y aquí se actualizan además la cantidad de celdas
+ * llenas, de dígitos repetidos y de desigualdades incumplidas. Así validar una
+ * jugada solo mira la celda y sus cuatro vecinas, y saber si el tablero está
+ * completo no requiere recorrerlo.
+ */
+public class MoveValidator {
+    /** La jugada es válida */
+    public static final int VALID = 0;
+    /** La celda es constante */
+    public static final int CONSTANT_CELL = 1;
+    /** El valor está fuera del rango del tablero */
+    public static final int OUT_OF_RANGE = 2;
+    /** El valor ya está en la fila */
+    public static final int DUPLICATE_ROW = 3;
+    /** El valor ya está en la columna */
+    public static final int DUPLICATE_COLUMN = 4;
+    /** No se cumple una restricción de mayor */
+    public static final int GREATER_CONSTRAINT = 5;
+    /** No se cumple una restricción de menor */
+    public static final int LESSER_CONSTRAINT = 6;
+
+    private final FutoshikiBoard board;
+    private final int size;
+    private final int[] rowMasks;
+    private final int[] colMasks;
+    private final byte[] rowCounts;
+    private final byte[] colCounts;
+    private int filled;
+    private int duplicates;
+    private int violations;
+
+    /**
+     * Constructor de la clase MoveValidator.
+     *
+     * @param board El tablero a validar.
+     */
+    MoveValidator(FutoshikiBoard board) {
+        this.board = board;
+        this.size = board.getSize();
+        this.rowMasks = new int[size];
+        this.colMasks = new int[size];
+        this.rowCounts = new byte[size * (size + 1)];
+        this.colCounts = new byte[size * (size + 1)];
+    }
+
+    /**
+     * Valida una jugada sin modificar el tablero.
+     *
+     * @param row La fila de la celda.
+     * @param col La columna de la celda.
+     * @param value El valor que se desea colocar.
+     * @return {@link #VALID} o el código de la regla que se incumple.
+     */
+    public int check(int row, int col, int value) {
+        if (board.isConstant(row, col)) {
+            return CONSTANT_CELL;
+        }
+        if (value < 1 || value > size) {
+            return OUT_OF_RANGE;
+        }
+
+        // Si la celda ya tiene el mismo valor, no cuenta como repetido
+        int own = board.getValue(row, col) == value ? 1 : 0;
+        if ((rowMasks[row] & bit(value)) != 0 && rowCounts[row * (size + 1) + value] > own) {
+            return DUPLICATE_ROW;
+        }
+        if ((colMasks[col] & bit(value)) != 0 && colCounts[col * (size + 1) + value] > own) {
+            return DUPLICATE_COLUMN;
+        }
+
+        if (col < size - 1) {
+            int result = checkRelation(board.getRightRelation(row, col), value, board.getValue(row, col + 1));
+            if (result != VALID) return result;
+        }
+        if (col > 0) {
+            int result = checkRelation(board.getRightRelation(row, col - 1), board.getValue(row, col - 1), value);
+            if (result != VALID) return result;
+        }
+        if (row < size - 1) {
+            int result = checkRelation(board.getBottomRelation(row, col), value, board.getValue(row + 1, col));
+            if (result != VALID) return result;
+        }
+        if (row > 0) {
+            int result = checkRelation(board.getBottomRelation(row - 1, col), board.getValue(row - 1, col), value);
+            if (result != VALID) return result;
+        }
+        return VALID;
+    }
+
+    /**
+     * Verifica si el tablero está lleno, sin repetidos y cumpliendo todas las desigualdades.
+     *
+     * @return true si el tablero está completo, false en caso contrario.
+     */
+    public boolean isComplete() {
+        return filled == size * size && duplicates == 0 && violations == 0;
+    }
+
+    /**
+     * Obtiene la máscara de dígitos presentes en una fila (el bit {@code v - 1} representa el valor {@code v}).
+     *
+     * @param row La fila.
+     * @return La máscara de dígitos de la fila.
+     */
+    public int getRowMask(int row) {
+        return rowMasks[row];
+    }
+
+    /**
+     * Obtiene la máscara de dígitos presentes en una columna.
+     *
+     * @param col La columna.
+     * @return La máscara de dígitos de la columna.
+     */
+    public int getColumnMask(int col) {
+        return colMasks[col];
+    }
+
+    /**
+     * Registra el cambio de valor de una celda. Se llama después de escribir el nuevo valor.
+     *
+     * @param row La fila de la celda.
+     * @param col La columna de la celda.
+     * @param oldValue El valor anterior.
+     * @param newValue El valor nuevo.
+     */
+    void valueChanged(int row, int col, int oldValue, int newValue) {
+        if (oldValue == newValue) {
+            return;
+        }
+        if (oldValue != 0) {
+            filled--;
+            remove(row, col, oldValue);
+        }
+        if (newValue != 0) {
+            filled++;
+            add(row, col, newValue);
+        }
+
+        // Volver a evaluar las desigualdades que tocan la celda
+        if (col < size - 1) {
+            int right = board.getValue(row, col + 1);
+            int relation = board.getRightRelation(row, col);
+            violations += violated(relation, newValue, right) - violated(relation, oldValue, right);
+        }
+        if (col > 0) {
+            int left = board.getValue(row, col - 1);
+            int relation = board.getRightRelation(row, col - 1);
+            violations += violated(relation, left, newValue) - violated(relation, left, oldValue);
+        }
+        if (row < size - 1) {
+            int below = board.getValue(row + 1, col);
+            int relation = board.getBottomRelation(row, col);
+            violations += violated(relation, newValue, below) - violated(relation, oldValue, below);
+        }
+        if (row > 0) {
+            int above = board.getValue(row - 1, col);
+            int relation = board.getBottomRelation(row - 1, col);
+            violations += violated(relation, above, newValue) - violated(relation, above, oldValue);
+        }
+    }
+
+    /**
+     * Registra el cambio de una desigualdad entre dos celdas vecinas.
+     *
+     * @param first El valor de la celda de la izquierda o de arriba.
+     * @param second El valor de la celda de la derecha o de abajo.
+     * @param oldRelation El código de desigualdad anterior.
+     * @param newRelation El código de desigualdad nuevo.
+     */
+    void relationChanged(int first, int second, int oldRelation, int newRelation) {
+        violations += violated(newRelation, first, second) - violated(oldRelation, first, second);
+    }
+
+    /**
+     * Recalcula todo el estado a partir del tablero.
+     */
+    void rebuild() {
+        Arrays.fill(rowMasks, 0);
+        Arrays.fill(colMasks, 0);
+        Arrays.fill(rowCounts, (byte) 0);
+        Arrays.fill(colCounts, (byte) 0);
+        filled = 0;
+        duplicates = 0;
+        violations = 0;
+
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                int value = board.getValue(i, j);
+                if (value != 0) {
+                    filled++;
+                    add(i, j, value);
+                }
+                if (j < size - 1) {
+                    violations += violated(board.getRightRelation(i, j), value, board.getValue(i, j + 1));
+                }
+                if (i < size - 1) {
+                    violations += violated(board.getBottomRelation(i, j), value, board.getValue(i + 1, j));
+                }
+            }
+        }
+    }
+
+    private void add(int row, int col, int value) {
+        int rowSlot = row * (size + 1) + value;
+        if (rowCounts[rowSlot]++ > 0) {
+            duplicates++;
+        }
+        rowMasks[row] |= bit(value);
+
+        int colSlot = col * (size + 1) + value;
+        if (colCounts[colSlot]++ > 0) {
+            duplicates++;
+        }
+        colMasks[col] |= bit(value);
+    }
+
+    private void remove(int row, int col, int value) {
+        int rowSlot = row * (size + 1) + value;
+        if (--rowCounts[rowSlot] > 0) {
+            duplicates--;
+        } else {
+            rowMasks[row] &= ~bit(value);
+        }
+
+        int colSlot = col * (size + 1) + value;
+        if (--colCounts[colSlot] > 0) {
+            duplicates--;
+        } else {
+            colMasks[col] &= ~bit(value);
+        }
+    }
+
+    private static int bit(int value) {
+        return 1 << (value - 1);
+    }
+
+    private static int checkRelation(int relation, int first, int second) {
+        if (violated(relation, first, second) == 0) {
+            return VALID;
+        }
+        return relation == GameConstants.INEQUALITY_GREATER ? GREATER_CONSTRAINT : LESSER_CONSTRAINT;
+    }
+
+    /**
+     * Indica si una desigualdad entre dos valores se incumple (1) o no (0).
+     * Una celda vacía nunca incumple la desigualdad.
+     */
+    private static int violated(int relation, int first, int second) {
+        if (first == 0 || second == 0) {
+            return 0;
+        }
+        if (relation == GameConstants.INEQUALITY_GREATER && first <= second) {
+            return 1;
+        }
+        if (relation == GameConstants.INEQUALITY_LESSER && first >= second) {
+            return 1;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,101 @@
+package model.game;
+
+import java.util.Objects;
+
+import util.constants.GameConstants;
+
+/**
+ * Identificador reproducible de una partida generada.
+ *
+ * Reúne el tamaño, la dificultad y la semilla con que se generó el tablero, de
+ * modo que {@link FutoshikiGenerator#generateGame(PuzzleId)} vuelve a producir
+ * exactamente la misma partida. Su forma de texto es compacta, por ejemplo
+ * {@code "9D-2kq8z1mf0c"}: tamaño, inicial de la dificultad y semilla en base 36.
+ */
+public final class PuzzleId {
+    private final int size;
+    private final String difficulty;
+    private final long seed;
+
+    /**
+     * Constructor de la clase PuzzleId.
+     *
+     * @param size Tamaño del tablero.
+     * @param difficulty Dificultad ("Facil", "Intermedio", "Dificil").
+     * @param seed Semilla de generación.
+     */
+    public PuzzleId(int size, String difficulty, long seed) {
+        if (size < 2 || size > 35) {
+            throw new IllegalArgumentException("Tamaño de tablero inválido: " + size);
+        }
+        codeOf(difficulty);
+        this.size = size;
+        this.difficulty = difficulty;
+        this.seed = seed;
+    }
+
+    /**
+     * Interpreta un identificador en su forma de texto.
+     *
+     * @param id El identificador, tal como lo devuelve {@link #toString()}.
+     * @return El identificador correspondiente.
+     * @throws IllegalArgumentException si el texto no es un identificador válido.
+     */
+    public static PuzzleId parse(String id) {
+        int dash = id == null ? -1 : id.indexOf('-');
+        if (dash < 2 || dash == id.length() - 1) {
+            throw new IllegalArgumentException("Identificador de partida inválido: " + id);
+        }
+        try {
+            int size = Integer.parseInt(id.substring(0, dash - 1), 36);
+            String difficulty = difficultyOf(id.charAt(dash - 1));
+            long seed = Long.parseUnsignedLong(id.substring(dash + 1), 36);
+            return new PuzzleId(size, difficulty, seed);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Identificador de partida inválido: " + id, e);
+        }
+    }
+
+    // Getters
+    public int getSize() { return size; }
+    public String getDifficulty() { return difficulty; }
+    public long getSeed() { return seed; }
+
+    @Override
+    public String toString() {
+        return Integer.toString(size, 36).toUpperCase() + codeOf(difficulty) + "-" + Long.toUnsignedString(seed, 36);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PuzzleId)) return false;
+        PuzzleId other = (PuzzleId) o;
+        return size == other.size && seed == other.seed && difficulty.equals(other.difficulty);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(size, difficulty, seed);
+    }
+
+    private static char codeOf(String difficulty) {
+        if (GameConstants.LEVEL_EASY.equals(difficulty)) return 'F';
+        if (GameConstants.LEVEL_MEDIUM.equals(difficulty)) return 'I';
+        if (GameConstants.LEVEL_HARD.equals(difficulty)) return 'D';
+        throw new IllegalArgumentException("Dificultad inválida: " + difficulty);
+    }
+
+    private static String difficultyOf(char code) {
+        switch (Character.toUpperCase(code)) {
+            case 'F':
+                return GameConstants.LEVEL_EASY;
+            case 'I':
+                return GameConstants.LEVEL_MEDIUM;
+            case 'D':
+                return GameConstants.LEVEL_HARD;
+            default:
+                throw new IllegalArgumentException("Dificultad inválida: " + code);
+        }
+    }
+}
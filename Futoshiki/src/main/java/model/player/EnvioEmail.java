@@ -3,9 +3,14 @@ package model.player;
 import javax.mail.*;
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeMessage;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
 import java.util.Properties;
 
+import util.log.Logs;
+
 public class EnvioEmail{
+    private static final Logger LOG = Logs.get(EnvioEmail.class);
 
     public static void sendEmail(String email, String token, String usuario) {
 
@@ -46,7 +51,7 @@ public class EnvioEmail{
             Transport.send(message);
 
         } catch (MessagingException mex) {
-            mex.printStackTrace();
+            LOG.log(Level.ERROR, "Error al enviar el correo", mex);
         }
     }
 }
@@ -1,13 +1,17 @@
 package model.player;
 
 import java.io.Serializable;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
 import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.List;
 
 import model.game.GameScore;
+import util.log.Logs;
 
 public class Player implements Serializable {
+    private static final Logger LOG = Logs.get(Player.class);
     private static final long serialVersionUID = 1L;
     
     private String name;
@@ -101,7 +105,7 @@ public class Player implements Serializable {
             return hexString.toString();
             
         } catch (Exception e) {
-            e.printStackTrace();
+            LOG.log(Level.ERROR, "Error al calcular el hash de la contraseña", e);
             return null;
         }
     }
@@ -1,24 +1,55 @@
 package model.player;
 
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import model.game.GameScore;
-import persistence.XMLPlayerManager;
+import persistence.PlayerStore;
+import util.constants.GameConstants;
+import util.log.Logs;
 import util.validators.InputValidator;
 
+/**
+ * Administrador de los jugadores registrados.
+ *
+ * Al iniciar solo se cargan los datos de cuenta (nombre, contraseña, email y
+ * token), que es lo que necesitan el inicio de sesión y la recuperación de
+ * contraseña. Las puntuaciones de un jugador se cargan al pedirlas, por ejemplo
+ * al iniciar sesión, y quedan en una caché de los últimos
+ * {@link GameConstants#PLAYER_CACHE_SIZE} jugadores usados; al salir de la caché
+ * se liberan.
+ */
 public class PlayerManager {
+    private static final Logger LOG = Logs.get(PlayerManager.class);
     private Map<String, Player> players;
+    private PlayerStore store;
     private Player currentPlayer;
+    // Jugadores con las puntuaciones cargadas, del menos al más usado
+    private final Map<String, Player> loadedScores;
     private static PlayerManager instance;
     /**
      * Constructor de la clase PlayerManager.
-     * Carga jugadores desde XML al inicializar.
+     * Carga los datos de cuenta de los jugadores al inicializar.
      */
     public PlayerManager() {
-        players = XMLPlayerManager.loadPlayers();
+        store = new PlayerStore();
+        players = store.loadAccounts();
+        loadedScores = new LinkedHashMap<String, Player>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Player> eldest) {
+                if (size() <= GameConstants.PLAYER_CACHE_SIZE || eldest.getValue() == currentPlayer) {
+                    return false;
+                }
+                eldest.getValue().getScores().clear();
+                return true;
+            }
+        };
+        LOG.log(Level.INFO, () -> players.size() + " cuentas cargadas");
         instance = this;
     }
     
@@ -49,9 +80,10 @@ public class PlayerManager {
         // Crear y guardar nuevo jugador
         Player newPlayer = new Player(name, password, email);
         players.put(name, newPlayer);
+        loadedScores.put(name, newPlayer); // Un jugador nuevo no tiene puntuaciones que cargar
         
-        // Guardar inmediatamente en XML para persistir los cambios
-        boolean saved = XMLPlayerManager.savePlayers(players);
+        // Guardar inmediatamente para persistir los cambios
+        boolean saved = store.savePlayer(newPlayer);
         if (!saved) {
             return "Error al guardar el jugador";
         }
@@ -67,25 +99,21 @@ public class PlayerManager {
      * @return String con mensaje de error o null si el login fue exitoso.
      */
     public String login(String name, String password) {
-        System.out.println("PlayerManager: Verificando usuario " + name);
-        System.out.println("Jugadores cargados: " + players.keySet());
-        
+        LOG.log(Level.DEBUG, () -> "Verificando usuario " + name);
         Player player = players.get(name);
         
         if (player == null) {
-            System.out.println("PlayerManager: Usuario no encontrado");
+            LOG.log(Level.DEBUG, "Usuario no encontrado");
             return "Jugador no encontrado";
         }
         
-        System.out.println("PlayerManager: Usuario encontrado, verificando contraseña");
-        
         if (!player.authenticate(password)) {
-            System.out.println("PlayerManager: Contraseña incorrecta");
+            LOG.log(Level.DEBUG, "Contraseña incorrecta");
             return "Contraseña incorrecta";
         }
         
-        System.out.println("PlayerManager: Login exitoso");
-        currentPlayer = player;
+        LOG.log(Level.INFO, () -> "Login exitoso de " + name);
+        currentPlayer = withScores(player);
         return null;
     }
     
@@ -105,7 +133,7 @@ public class PlayerManager {
         
         // Generar token de recuperación
         player.generateRecoveryToken();
-        XMLPlayerManager.savePlayers(players);
+        store.savePlayer(player);
         
         // En lugar de enviar email, mostrar el token
         EnvioEmail.sendEmail(player.getEmail(), player.getRecoveryToken(), player.getName());
@@ -135,7 +163,7 @@ public class PlayerManager {
         if (passwordError != null) return passwordError;
         
         player.changePassword(newPassword);
-        XMLPlayerManager.savePlayers(players);
+        store.savePlayer(player);
         
         return null;
     }
@@ -147,8 +175,8 @@ public class PlayerManager {
      */
     public void addScore(GameScore score) {
         if (currentPlayer != null) {
-            currentPlayer.addScore(score);
-            XMLPlayerManager.savePlayers(players);
+            withScores(currentPlayer).addScore(score);
+            store.addScore(currentPlayer.getName(), score);
         }
     }
     
@@ -177,15 +205,40 @@ public class PlayerManager {
         currentPlayer = null;
     }
     
+    /**
+     * Obtiene un jugador con sus puntuaciones cargadas.
+     * 
+     * @param name El nombre del jugador.
+     * @return El jugador, o null si no está registrado.
+     */
+    public Player getPlayer(String name) {
+        Player player = players.get(name);
+        return player == null ? null : withScores(player);
+    }
+
+    /**
+     * Carga las puntuaciones de un jugador si no están en la caché.
+     */
+    private Player withScores(Player player) {
+        if (loadedScores.get(player.getName()) == null) {
+            player.getScores().clear();
+            player.getScores().addAll(store.loadScores(player.getName()));
+            loadedScores.put(player.getName(), player);
+        }
+        return player;
+    }
+
     /**
      * Obtiene una lista de todos los scores de un nivel específico.
+     * Recorre las puntuaciones de todos los jugadores, así que las lee del
+     * archivo completo en vez de cargarlas en la caché.
      * 
      * @param difficulty La dificultad del nivel.
      * @return Una lista de puntuaciones para el nivel especificado.
      */
     public List<GameScore> getAllScoresForLevel(String difficulty) {
         List<GameScore> allScores = new ArrayList<>();
-        for (Player player : players.values()) {
+        for (Player player : store.loadPlayers().values()) {
             for (GameScore score : player.getScores()) {
                 if (score.getDifficulty().equals(difficulty)) {
                     allScores.add(score);
@@ -0,0 +1,159 @@
+package model.solver;
+
+import java.util.SplittableRandom;
+
+/**
+ * Minimización de pistas de una partida de Futoshiki.
+ *
+ * Parte de la solución completa con todas sus desigualdades y quita las pistas
+ * una por una en orden aleatorio, conservando cada eliminación solo si la
+ * solución sigue siendo única. El resultado es una partida mínima: quitar
+ * cualquier pista restante la dejaría con más de una solución.
+ *
+ * La verificación es incremental: un único {@link FutoshikiSolver} se modifica
+ * en el lugar y, como la partida era única antes de quitar la pista, basta
+ * buscar una solución que contradiga la pista quitada (la celda con otro valor,
+ * o la desigualdad invertida). Si no existe, la pista era redundante.
+ */
+public class ClueMinimizer {
+    private final int size;
+    private final int[] givens;
+    private final int[] rightRel;
+    private final int[] bottomRel;
+    private final FutoshikiSolver solver;
+    private int checks;
+
+    /**
+     * Constructor de la clase ClueMinimizer.
+     *
+     * @param solution La solución completa de la partida.
+     */
+    public ClueMinimizer(int[][] solution) {
+        this.size = solution.length;
+        this.givens = new int[size * size];
+        this.rightRel = new int[size * size];
+        this.bottomRel = new int[size * size];
+
+        int[][] right = new int[size][size];
+        int[][] bottom = new int[size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                givens[i * size + j] = solution[i][j];
+                if (j < size - 1) {
+                    right[i][j] = relationOf(solution[i][j], solution[i][j + 1]);
+                    rightRel[i * size + j] = right[i][j];
+                }
+                if (i < size - 1) {
+                    bottom[i][j] = relationOf(solution[i][j], solution[i + 1][j]);
+                    bottomRel[i * size + j] = bottom[i][j];
+                }
+            }
+        }
+        this.solver = new FutoshikiSolver(solution, right, bottom);
+    }
+
+    /**
+     * Quita todas las pistas redundantes.
+     *
+     * @param random Generador que decide el orden en que se prueban las pistas.
+     */
+    public void minimize(SplittableRandom random) {
+        int cells = size * size;
+        // Pistas: [0, cells) constantes, [cells, 2 cells) desigualdades derechas, [2 cells, 3 cells) de abajo
+        int[] clues = new int[3 * cells];
+        int count = 0;
+        for (int c = 0; c < cells; c++) {
+            clues[count++] = c;
+            if (c % size < size - 1) clues[count++] = cells + c;
+            if (c / size < size - 1) clues[count++] = 2 * cells + c;
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = clues[i];
+            clues[i] = clues[j];
+            clues[j] = temp;
+        }
+
+        for (int k = 0; k < count; k++) {
+            int clue = clues[k];
+            checks++;
+            if (clue < cells) {
+                removeGiven(clue);
+            } else if (clue < 2 * cells) {
+                removeRelation(clue - cells, clue - cells + 1, rightRel);
+            } else {
+                removeRelation(clue - 2 * cells, clue - 2 * cells + size, bottomRel);
+            }
+        }
+    }
+
+    /**
+     * Obtiene las constantes que quedaron.
+     *
+     * @return La cuadrícula con las constantes (0 en las celdas libres).
+     */
+    public int[][] getGrid() {
+        return toGrid(givens);
+    }
+
+    /**
+     * Obtiene las desigualdades de cada celda con su vecina derecha que quedaron.
+     *
+     * @return Las relaciones ({@link FutoshikiSolver#NONE}, {@link FutoshikiSolver#LESS}, {@link FutoshikiSolver#GREATER}).
+     */
+    public int[][] getRightRelations() {
+        return toGrid(rightRel);
+    }
+
+    /**
+     * Obtiene las desigualdades de cada celda con su vecina de abajo que quedaron.
+     *
+     * @return Las relaciones ({@link FutoshikiSolver#NONE}, {@link FutoshikiSolver#LESS}, {@link FutoshikiSolver#GREATER}).
+     */
+    public int[][] getBottomRelations() {
+        return toGrid(bottomRel);
+    }
+
+    /**
+     * Obtiene la cantidad de pistas verificadas.
+     *
+     * @return La cantidad de verificaciones de unicidad hechas.
+     */
+    public int getChecks() {
+        return checks;
+    }
+
+    private void removeGiven(int cell) {
+        int value = givens[cell];
+        solver.setGiven(cell, 0);
+        if (solver.hasSolutionWithout(cell, value)) {
+            solver.setGiven(cell, value);
+        } else {
+            givens[cell] = 0;
+        }
+    }
+
+    private void removeRelation(int a, int b, int[] relations) {
+        int relation = relations[a];
+        int reversed = relation == FutoshikiSolver.LESS ? FutoshikiSolver.GREATER : FutoshikiSolver.LESS;
+        solver.setRelation(a, b, reversed);
+        if (solver.countSolutions(1) > 0) {
+            solver.setRelation(a, b, relation);
+        } else {
+            solver.setRelation(a, b, FutoshikiSolver.NONE);
+            relations[a] = FutoshikiSolver.NONE;
+        }
+    }
+
+    private int[][] toGrid(int[] values) {
+        int[][] grid = new int[size][size];
+        for (int c = 0; c < size * size; c++) {
+            grid[c / size][c % size] = values[c];
+        }
+        return grid;
+    }
+
+    private static int relationOf(int first, int second) {
+        return first < second ? FutoshikiSolver.LESS : FutoshikiSolver.GREATER;
+    }
+}
@@ -0,0 +1,156 @@
+package model.solver;
+
+import model.game.FutoshikiBoard;
+import util.constants.GameConstants;
+
+/**
+ * Calificador de dificultad según el esfuerzo que necesita un solver lógico.
+ *
+ * Resuelve la partida por etapas, de la técnica más simple a la más costosa:
+ * <ol>
+ *   <li>Deducción básica: eliminar de la fila y columna los valores fijos y
+ *       acotar los vecinos con las desigualdades.</li>
+ *   <li>Valores únicos ocultos: un valor que solo cabe en una celda de su fila
+ *       o columna.</li>
+ *   <li>Suposiciones: ramificar y retroceder.</li>
+ * </ol>
+ * La dificultad es la de la técnica más costosa que hizo falta ("Facil",
+ * "Intermedio" o "Dificil"). Cada etapa reutiliza el mismo
+ * {@link FutoshikiSolver}, así que calificar cuesta poco más que resolver.
+ */
+public class DifficultyGrader {
+    /** Peso de una eliminación por fila o columna en el puntaje */
+    private static final int PEER_WEIGHT = 1;
+    /** Peso de una reducción por desigualdad en el puntaje */
+    private static final int BOUND_WEIGHT = 2;
+    /** Peso de un valor único oculto en el puntaje */
+    private static final int HIDDEN_WEIGHT = 5;
+    /** Peso de una suposición en el puntaje */
+    private static final int GUESS_WEIGHT = 50;
+
+    /**
+     * Califica una partida a partir de sus constantes y desigualdades.
+     *
+     * @param board El tablero de Futoshiki.
+     * @return La calificación, o null si la partida no tiene solución.
+     */
+    public static Grade grade(FutoshikiBoard board) {
+        return grade(FutoshikiSolver.fromBoard(board));
+    }
+
+    /**
+     * Califica la partida representada por un solver.
+     *
+     * @param solver El solver de la partida.
+     * @return La calificación, o null si la partida no tiene solución.
+     */
+    public static Grade grade(FutoshikiSolver solver) {
+        try {
+            // 1. Solo deducción básica
+            solver.setHiddenSinglesEnabled(false);
+            int[] domains = solver.rootDomains();
+            if (domains == null) {
+                return null;
+            }
+            if (isSolved(domains)) {
+                return new Grade(GameConstants.LEVEL_EASY, solver.getPeerCuts(), solver.getBoundCuts(), 0, 0);
+            }
+
+            // 2. Con valores únicos ocultos
+            solver.setHiddenSinglesEnabled(true);
+            domains = solver.rootDomains();
+            if (domains == null) {
+                return null;
+            }
+            int peerCuts = solver.getPeerCuts();
+            int boundCuts = solver.getBoundCuts();
+            int hiddenCuts = solver.getHiddenCuts();
+            if (isSolved(domains)) {
+                return new Grade(GameConstants.LEVEL_MEDIUM, peerCuts, boundCuts, hiddenCuts, 0);
+            }
+
+            // 3. Hace falta suponer: la raíz de la búsqueda no cuenta como suposición
+            if (solver.countSolutions(1) == 0) {
+                return null;
+            }
+            int guesses = (int) Math.min(Integer.MAX_VALUE, solver.getNodes() - 1);
+            return new Grade(GameConstants.LEVEL_HARD, peerCuts, boundCuts, hiddenCuts, guesses);
+        } finally {
+            solver.setHiddenSinglesEnabled(true);
+        }
+    }
+
+    /**
+     * Obtiene el nivel numérico de una dificultad.
+     *
+     * @param difficulty La dificultad ("Facil", "Intermedio", "Dificil").
+     * @return 1, 2 o 3 de la más fácil a la más difícil; 2 si la dificultad no se reconoce.
+     */
+    public static int levelOf(String difficulty) {
+        if (GameConstants.LEVEL_EASY.equals(difficulty)) return 1;
+        if (GameConstants.LEVEL_HARD.equals(difficulty)) return 3;
+        return 2;
+    }
+
+    private static boolean isSolved(int[] domains) {
+        for (int d : domains) {
+            if (Integer.bitCount(d) != 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Resultado de calificar una partida.
+     */
+    public static class Grade {
+        private final String difficulty;
+        private final int peerCuts;
+        private final int boundCuts;
+        private final int hiddenSingles;
+        private final int guesses;
+
+        Grade(String difficulty, int peerCuts, int boundCuts, int hiddenSingles, int guesses) {
+            this.difficulty = difficulty;
+            this.peerCuts = peerCuts;
+            this.boundCuts = boundCuts;
+            this.hiddenSingles = hiddenSingles;
+            this.guesses = guesses;
+        }
+
+        // Getters
+        public String getDifficulty() { return difficulty; }
+        public int getPeerCuts() { return peerCuts; }
+        public int getBoundCuts() { return boundCuts; }
+        public int getHiddenSingles() { return hiddenSingles; }
+        public int getGuesses() { return guesses; }
+        public int getLevel() { return levelOf(difficulty); }
+
+        /**
+         * Obtiene un puntaje de esfuerzo que permite ordenar partidas del mismo nivel.
+         *
+         * @return La suma ponderada de las deducciones y suposiciones usadas.
+         */
+        public int getScore() {
+            return peerCuts * PEER_WEIGHT + boundCuts * BOUND_WEIGHT
+                + hiddenSingles * HIDDEN_WEIGHT + guesses * GUESS_WEIGHT;
+        }
+
+        /**
+         * Indica si la calificación corresponde a una dificultad.
+         *
+         * @param difficulty La dificultad ("Facil", "Intermedio", "Dificil").
+         * @return true si coincide, false en caso contrario.
+         */
+        public boolean matches(String difficulty) {
+            return this.difficulty.equals(difficulty);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s (filas/columnas=%d desigualdades=%d ocultos=%d suposiciones=%d puntaje=%d)",
+                difficulty, peerCuts, boundCuts, hiddenSingles, guesses, getScore());
+        }
+    }
+}
@@ -0,0 +1,718 @@
+package model.solver;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import model.game.FutoshikiBoard;
+import util.constants.GameConstants;
+
+/**
+ * Motor de resolución de Futoshiki basado en propagación de restricciones.
+ *
+ * Cada celda mantiene un dominio de candidatos como máscara de bits (el bit
+ * {@code v - 1} representa el valor {@code v}). Al fijar un valor se elimina de
+ * los dominios de su fila y columna, y las desigualdades acotan el mínimo y el
+ * máximo de los vecinos, propagándose a lo largo de cadenas de {@code <}/{@code >}.
+ * La búsqueda elige siempre la celda con menos candidatos (MRV) y deshace los
+ * cambios mediante un registro (trail), por lo que no reserva memoria por nodo.
+ */
+public class FutoshikiSolver {
+    /** Sin desigualdad con la celda vecina */
+    public static final int NONE = GameConstants.INEQUALITY_NONE;
+    /** La celda es menor que su vecina */
+    public static final int LESS = GameConstants.INEQUALITY_LESSER;
+    /** La celda es mayor que su vecina */
+    public static final int GREATER = GameConstants.INEQUALITY_GREATER;
+
+    // El monitor se consulta cuando los nodos explorados son múltiplo de SOLVE_CHECK_NODES
+    private static final long CHECK_MASK = GameConstants.SOLVE_CHECK_NODES - 1;
+
+    private final int size;
+    private final int cellCount;
+    private final int full;
+    private final int[] givens;
+
+    // Vecinos que deben ser menores / mayores que cada celda (a lo sumo 4 por celda)
+    private final int[][] smaller;
+    private final int[][] larger;
+    private final int[] smallerCount;
+    private final int[] largerCount;
+
+    // Estado de búsqueda reutilizable
+    private final int[] dom;
+    private final int[] trailCell;
+    private final int[] trailDom;
+    private int trailTop;
+    private final int[] queue;
+    private final boolean[] queued;
+    private int queueHead;
+    private int queueSize;
+
+    private final int[] solution;
+    private int limit;
+    private int found;
+    private long nodes;
+
+    // Solución que la búsqueda debe ignorar (null si no hay)
+    private int[] avoid;
+
+    // Contador compartido entre búsquedas paralelas (null en modo secuencial)
+    private AtomicInteger sharedFound;
+
+    // Cancelación, tiempo máximo y progreso de la búsqueda (null si no se vigila)
+    private SearchMonitor monitor;
+
+    // Instrumentación para la calificación de dificultad
+    private boolean hiddenSinglesEnabled = true;
+    private int peerCuts;
+    private int boundCuts;
+    private int hiddenCuts;
+
+    /**
+     * Constructor de la clase FutoshikiSolver.
+     *
+     * @param grid Valores iniciales del tablero (0 para celdas vacías).
+     * @param rightRel Relación de cada celda con su vecina derecha ({@link #NONE}, {@link #LESS}, {@link #GREATER}).
+     * @param bottomRel Relación de cada celda con su vecina de abajo.
+     */
+    public FutoshikiSolver(int[][] grid, int[][] rightRel, int[][] bottomRel) {
+        this.size = grid.length;
+        this.cellCount = size * size;
+        this.full = (1 << size) - 1;
+        this.givens = new int[cellCount];
+        this.dom = new int[cellCount];
+        this.trailCell = new int[cellCount * (size + 1)];
+        this.trailDom = new int[cellCount * (size + 1)];
+        this.queue = new int[cellCount];
+        this.queued = new boolean[cellCount];
+        this.solution = new int[cellCount];
+
+        this.smaller = new int[cellCount][4];
+        this.larger = new int[cellCount][4];
+        this.smallerCount = new int[cellCount];
+        this.largerCount = new int[cellCount];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                givens[i * size + j] = grid[i][j];
+                if (j < size - 1) {
+                    addRelation(rel(rightRel, i, j), i * size + j, i * size + j + 1);
+                }
+                if (i < size - 1) {
+                    addRelation(rel(bottomRel, i, j), i * size + j, (i + 1) * size + j);
+                }
+            }
+        }
+    }
+
+    /**
+     * Crea un solver que comparte las constantes y desigualdades de otro,
+     * pero con su propio estado de búsqueda. Lo usan las tareas paralelas.
+     *
+     * @param prototype El solver del que se copia la estructura.
+     */
+    FutoshikiSolver(FutoshikiSolver prototype) {
+        this.size = prototype.size;
+        this.cellCount = prototype.cellCount;
+        this.full = prototype.full;
+        this.givens = prototype.givens;
+        this.smaller = prototype.smaller;
+        this.larger = prototype.larger;
+        this.smallerCount = prototype.smallerCount;
+        this.largerCount = prototype.largerCount;
+        this.dom = new int[cellCount];
+        this.trailCell = new int[cellCount * (size + 1)];
+        this.trailDom = new int[cellCount * (size + 1)];
+        this.queue = new int[cellCount];
+        this.queued = new boolean[cellCount];
+        this.solution = new int[cellCount];
+    }
+
+    /**
+     * Crea un solver a partir de las constantes y desigualdades de un tablero.
+     * Los valores ingresados por el jugador no se toman en cuenta.
+     *
+     * @param board El tablero de Futoshiki.
+     * @return Un solver para el tablero.
+     */
+    public static FutoshikiSolver fromBoard(FutoshikiBoard board) {
+        int size = board.getSize();
+        int[][] grid = new int[size][size];
+        int[][] rightRel = new int[size][size];
+        int[][] bottomRel = new int[size][size];
+
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                if (board.isConstant(i, j)) {
+                    grid[i][j] = board.getValue(i, j);
+                }
+                rightRel[i][j] = board.getRightRelation(i, j);
+                bottomRel[i][j] = board.getBottomRelation(i, j);
+            }
+        }
+        return new FutoshikiSolver(grid, rightRel, bottomRel);
+    }
+
+    /**
+     * Verifica si el tablero tiene al menos una solución.
+     *
+     * @return true si el tablero tiene solución, false en caso contrario.
+     */
+    public boolean isSolvable() {
+        return solve() != null;
+    }
+
+    /**
+     * Resuelve el tablero.
+     *
+     * @return La cuadrícula resuelta, o null si el tablero no tiene solución.
+     */
+    public int[][] solve() {
+        if (run(1) == 0) {
+            return null;
+        }
+
+        return toGrid(solution);
+    }
+
+    /**
+     * Resuelve el tablero bajo la vigilancia de un monitor, que puede cancelar
+     * la búsqueda o cortarla por tiempo. Si la búsqueda se detiene así, el
+     * resultado es null aunque el tablero tenga solución; el monitor indica el motivo.
+     *
+     * @param monitor El monitor de la búsqueda.
+     * @return La cuadrícula resuelta, o null si no tiene solución o la búsqueda se detuvo.
+     */
+    public int[][] solve(SearchMonitor monitor) {
+        this.monitor = monitor;
+        try {
+            return solve();
+        } finally {
+            monitor.finish(nodes);
+            this.monitor = null;
+        }
+    }
+
+    /**
+     * Cuenta las soluciones del tablero, deteniéndose al llegar al límite.
+     * Con un límite de 2 basta para saber si la solución es única.
+     *
+     * @param limit La cantidad máxima de soluciones a buscar.
+     * @return La cantidad de soluciones encontradas, como máximo {@code limit}.
+     */
+    public int countSolutions(int limit) {
+        return run(limit);
+    }
+
+    /**
+     * Busca una solución distinta de una conocida. Si no la hay, la conocida es la única.
+     *
+     * @param known Una solución del tablero.
+     * @return Otra solución, o null si no existe.
+     */
+    public int[][] findOtherSolution(int[][] known) {
+        avoid = new int[cellCount];
+        for (int c = 0; c < cellCount; c++) {
+            avoid[c] = 1 << (known[c / size][c % size] - 1);
+        }
+        try {
+            return run(1) == 0 ? null : toGrid(solution);
+        } finally {
+            avoid = null;
+        }
+    }
+
+    /**
+     * Verifica si el tablero tiene exactamente una solución.
+     *
+     * @return true si la solución es única, false en caso contrario.
+     */
+    public boolean hasUniqueSolution() {
+        return run(2) == 1;
+    }
+
+    /**
+     * Obtiene la cantidad de nodos explorados en la última búsqueda.
+     *
+     * @return La cantidad de nodos explorados.
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Obtiene el tamaño del tablero.
+     *
+     * @return El tamaño del tablero.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Cambia la constante de una celda sin reconstruir el solver.
+     *
+     * @param cell El índice de la celda (fila * tamaño + columna).
+     * @param value El valor constante, o 0 para dejar la celda libre.
+     */
+    void setGiven(int cell, int value) {
+        givens[cell] = value;
+    }
+
+    /**
+     * Cambia la desigualdad entre dos celdas vecinas sin reconstruir el solver.
+     *
+     * @param a La celda de la izquierda o de arriba.
+     * @param b La celda de la derecha o de abajo.
+     * @param relation La relación de {@code a} con {@code b} ({@link #NONE}, {@link #LESS}, {@link #GREATER}).
+     */
+    void setRelation(int a, int b, int relation) {
+        unlink(a, b);
+        unlink(b, a);
+        addRelation(relation, a, b);
+    }
+
+    /**
+     * Verifica si existe alguna solución en que una celda no tome cierto valor.
+     *
+     * @param cell El índice de la celda.
+     * @param value El valor excluido.
+     * @return true si existe una solución así, false en caso contrario.
+     */
+    boolean hasSolutionWithout(int cell, int value) {
+        this.limit = 1;
+        this.found = 0;
+        this.nodes = 0;
+        if (reset() && restrict(cell, full & ~(1 << (value - 1))) && propagate()) {
+            search();
+        }
+        return found > 0;
+    }
+
+    /**
+     * Activa o desactiva la técnica de valores únicos ocultos en la propagación.
+     * Sin ella el solver solo elimina candidatos de la fila y columna y aplica
+     * las desigualdades, que es lo que el grader considera deducción básica.
+     *
+     * @param enabled true para usar valores únicos ocultos.
+     */
+    void setHiddenSinglesEnabled(boolean enabled) {
+        this.hiddenSinglesEnabled = enabled;
+    }
+
+    /**
+     * Obtiene la cantidad de candidatos eliminados por valores fijos en la fila o columna
+     * desde el último reinicio.
+     *
+     * @return La cantidad de eliminaciones.
+     */
+    int getPeerCuts() {
+        return peerCuts;
+    }
+
+    /**
+     * Obtiene la cantidad de dominios acotados por desigualdades desde el último reinicio.
+     *
+     * @return La cantidad de reducciones.
+     */
+    int getBoundCuts() {
+        return boundCuts;
+    }
+
+    /**
+     * Obtiene la cantidad de valores fijados por ser únicos ocultos desde el último reinicio.
+     *
+     * @return La cantidad de valores fijados.
+     */
+    int getHiddenCuts() {
+        return hiddenCuts;
+    }
+
+    /**
+     * Calcula los dominios iniciales a partir de las constantes.
+     *
+     * @return Una copia de los dominios propagados, o null si no hay solución.
+     */
+    int[] rootDomains() {
+        return reset() ? dom.clone() : null;
+    }
+
+    /**
+     * Selecciona la celda de ramificación para unos dominios dados.
+     *
+     * @param domains Los dominios de las celdas.
+     * @return El índice de la celda, o -1 si todas están resueltas.
+     */
+    int selectCell(int[] domains) {
+        System.arraycopy(domains, 0, dom, 0, cellCount);
+        return selectCell();
+    }
+
+    /**
+     * Asigna un valor a una celda sobre unos dominios dados y propaga.
+     *
+     * @param domains Los dominios de partida (no se modifican).
+     * @param cell La celda a asignar.
+     * @param bit El valor a asignar como máscara de un bit.
+     * @return Los dominios resultantes, o null si la asignación lleva a contradicción.
+     */
+    int[] branch(int[] domains, int cell, int bit) {
+        load(domains);
+        if (restrict(cell, bit) && propagate()) {
+            return dom.clone();
+        }
+        return null;
+    }
+
+    /**
+     * Busca soluciones a partir de unos dominios dados, compartiendo el
+     * contador de soluciones con las demás búsquedas en curso. La búsqueda
+     * se abandona en cuanto el contador compartido alcanza el límite.
+     *
+     * @param domains Los dominios de partida.
+     * @param limit La cantidad máxima de soluciones entre todas las búsquedas.
+     * @param shared El contador de soluciones compartido.
+     * @return La cantidad de soluciones encontradas por esta búsqueda.
+     */
+    int searchFrom(int[] domains, int limit, AtomicInteger shared) {
+        load(domains);
+        this.limit = Math.max(1, limit);
+        this.found = 0;
+        this.nodes = 0;
+        this.sharedFound = shared;
+        try {
+            search();
+        } finally {
+            this.sharedFound = null;
+        }
+        return found;
+    }
+
+    /**
+     * Obtiene la primera solución encontrada en la última búsqueda.
+     *
+     * @return La cuadrícula resuelta.
+     */
+    int[][] lastSolution() {
+        return toGrid(solution);
+    }
+
+    /**
+     * Ejecuta la búsqueda hasta encontrar {@code limit} soluciones o agotar el árbol.
+     * La primera solución encontrada queda guardada en {@code solution}.
+     *
+     * @param limit La cantidad máxima de soluciones a buscar.
+     * @return La cantidad de soluciones encontradas.
+     */
+    private int run(int limit) {
+        this.limit = Math.max(1, limit);
+        this.found = 0;
+        this.nodes = 0;
+        if (reset()) {
+            search();
+        }
+        return found;
+    }
+
+    /**
+     * Reinicia los dominios a partir de las constantes y propaga.
+     *
+     * @return false si las constantes ya son contradictorias.
+     */
+    private boolean reset() {
+        trailTop = 0;
+        queueHead = 0;
+        queueSize = 0;
+        peerCuts = 0;
+        boundCuts = 0;
+        hiddenCuts = 0;
+        for (int c = 0; c < cellCount; c++) {
+            int value = givens[c];
+            dom[c] = (value >= 1 && value <= size) ? 1 << (value - 1) : full;
+            queued[c] = false;
+        }
+        for (int c = 0; c < cellCount; c++) {
+            enqueue(c);
+        }
+        return propagate();
+    }
+
+    private void load(int[] domains) {
+        System.arraycopy(domains, 0, dom, 0, cellCount);
+        trailTop = 0;
+        clearQueue();
+    }
+
+    private int[][] toGrid(int[] values) {
+        int[][] grid = new int[size][size];
+        for (int c = 0; c < cellCount; c++) {
+            grid[c / size][c % size] = values[c];
+        }
+        return grid;
+    }
+
+    /**
+     * Búsqueda con retroceso eligiendo la celda de menor dominio.
+     *
+     * @return true si ya se alcanzó el límite de soluciones.
+     */
+    private boolean search() {
+        nodes++;
+        if (sharedFound != null && sharedFound.get() >= limit) {
+            return true;
+        }
+        if (monitor != null && (nodes & CHECK_MASK) == 0 && monitor.checkpoint(nodes)) {
+            return true;
+        }
+        int cell = selectCell();
+        if (cell < 0) {
+            if (avoid != null && Arrays.equals(dom, avoid)) {
+                return false;
+            }
+            if (found == 0) {
+                for (int c = 0; c < cellCount; c++) {
+                    solution[c] = Integer.numberOfTrailingZeros(dom[c]) + 1;
+                }
+            }
+            found++;
+            if (sharedFound != null) {
+                return sharedFound.incrementAndGet() >= limit;
+            }
+            return found >= limit;
+        }
+
+        int candidates = dom[cell];
+        while (candidates != 0) {
+            int bit = Integer.lowestOneBit(candidates);
+            candidates &= ~bit;
+
+            int mark = trailTop;
+            if (restrict(cell, bit) && propagate()) {
+                if (search()) {
+                    return true;
+                }
+            }
+            undo(mark);
+        }
+        return false;
+    }
+
+    /**
+     * Selecciona la celda sin resolver con menos candidatos.
+     *
+     * @return El índice de la celda, o -1 si todas están resueltas.
+     */
+    private int selectCell() {
+        int best = -1;
+        int bestCount = Integer.MAX_VALUE;
+        for (int c = 0; c < cellCount; c++) {
+            int count = Integer.bitCount(dom[c]);
+            if (count > 1 && count < bestCount) {
+                best = c;
+                bestCount = count;
+                if (count == 2) {
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Propaga restricciones y valores únicos ocultos hasta alcanzar un punto fijo.
+     *
+     * @return false si algún dominio quedó vacío.
+     */
+    private boolean propagate() {
+        do {
+            if (!propagateQueue()) {
+                return false;
+            }
+            if (!hiddenSinglesEnabled) {
+                break;
+            }
+            for (int unit = 0; unit < size; unit++) {
+                if (!hiddenSingles(unit * size, 1) || !hiddenSingles(unit, size)) {
+                    clearQueue();
+                    return false;
+                }
+            }
+        } while (queueSize > 0);
+        return true;
+    }
+
+    /**
+     * Fija los valores que solo caben en una celda de una fila o columna.
+     *
+     * @param start Índice de la primera celda de la fila o columna.
+     * @param step Distancia entre celdas consecutivas (1 para filas, size para columnas).
+     * @return false si algún valor ya no cabe en ninguna celda.
+     */
+    private boolean hiddenSingles(int start, int step) {
+        int once = 0;
+        int twice = 0;
+        for (int k = 0, c = start; k < size; k++, c += step) {
+            twice |= once & dom[c];
+            once |= dom[c];
+        }
+        if (once != full) {
+            return false;
+        }
+
+        int singles = once & ~twice;
+        for (int k = 0, c = start; singles != 0 && k < size; k++, c += step) {
+            int bit = dom[c] & singles;
+            if (bit != 0) {
+                singles &= ~bit;
+                int before = trailTop;
+                if (!restrict(c, bit)) {
+                    return false;
+                }
+                hiddenCuts += trailTop - before;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Procesa la cola de celdas modificadas hasta alcanzar un punto fijo.
+     *
+     * @return false si algún dominio quedó vacío.
+     */
+    private boolean propagateQueue() {
+        while (queueSize > 0) {
+            int c = queue[queueHead];
+            queueHead = (queueHead + 1) % cellCount;
+            queueSize--;
+            queued[c] = false;
+
+            int d = dom[c];
+            int before = trailTop;
+            if (Integer.bitCount(d) == 1 && !removeFromPeers(c, d)) {
+                clearQueue();
+                return false;
+            }
+            peerCuts += trailTop - before;
+            before = trailTop;
+
+            // Los vecinos menores deben quedar por debajo del máximo de la celda
+            int below = Integer.highestOneBit(d) - 1;
+            for (int k = 0; k < smallerCount[c]; k++) {
+                if (!restrict(smaller[c][k], below)) {
+                    clearQueue();
+                    return false;
+                }
+            }
+
+            // Los vecinos mayores deben quedar por encima del mínimo de la celda
+            int above = full & ~((Integer.lowestOneBit(d) << 1) - 1);
+            for (int k = 0; k < largerCount[c]; k++) {
+                if (!restrict(larger[c][k], above)) {
+                    clearQueue();
+                    return false;
+                }
+            }
+            boundCuts += trailTop - before;
+        }
+        return true;
+    }
+
+    private boolean removeFromPeers(int c, int bit) {
+        int row = c / size;
+        int col = c % size;
+        int mask = ~bit;
+        for (int k = 0; k < size; k++) {
+            int rowPeer = row * size + k;
+            if (rowPeer != c && !restrict(rowPeer, mask)) {
+                return false;
+            }
+            int colPeer = k * size + col;
+            if (colPeer != c && !restrict(colPeer, mask)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reduce el dominio de una celda, registrando el cambio para poder deshacerlo.
+     *
+     * @return false si el dominio queda vacío.
+     */
+    private boolean restrict(int c, int mask) {
+        int old = dom[c];
+        int reduced = old & mask;
+        if (reduced == old) {
+            return true;
+        }
+        if (reduced == 0) {
+            return false;
+        }
+        trailCell[trailTop] = c;
+        trailDom[trailTop] = old;
+        trailTop++;
+        dom[c] = reduced;
+        enqueue(c);
+        return true;
+    }
+
+    private void undo(int mark) {
+        while (trailTop > mark) {
+            trailTop--;
+            dom[trailCell[trailTop]] = trailDom[trailTop];
+        }
+    }
+
+    private void enqueue(int c) {
+        if (!queued[c]) {
+            queued[c] = true;
+            queue[(queueHead + queueSize) % cellCount] = c;
+            queueSize++;
+        }
+    }
+
+    private void clearQueue() {
+        while (queueSize > 0) {
+            queued[queue[queueHead]] = false;
+            queueHead = (queueHead + 1) % cellCount;
+            queueSize--;
+        }
+    }
+
+    private static int rel(int[][] relations, int row, int col) {
+        if (relations == null || row >= relations.length || col >= relations[row].length) {
+            return NONE;
+        }
+        return relations[row][col];
+    }
+
+    private void addRelation(int relation, int a, int b) {
+        if (relation == LESS) {
+            link(a, b);
+        } else if (relation == GREATER) {
+            link(b, a);
+        }
+    }
+
+    // Registra que la celda low debe ser menor que la celda high
+    private void link(int low, int high) {
+        smaller[high][smallerCount[high]++] = low;
+        larger[low][largerCount[low]++] = high;
+    }
+
+    // Quita la restricción low < high si existe
+    private void unlink(int low, int high) {
+        if (remove(smaller[high], smallerCount, high, low)) {
+            remove(larger[low], largerCount, low, high);
+        }
+    }
+
+    private static boolean remove(int[] cells, int[] counts, int owner, int cell) {
+        for (int k = 0; k < counts[owner]; k++) {
+            if (cells[k] == cell) {
+                cells[k] = cells[--counts[owner]];
+                return true;
+            }
+        }
+        return false;
+    }
+}
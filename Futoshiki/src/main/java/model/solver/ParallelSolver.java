@@ -0,0 +1,194 @@
+package model.solver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import util.constants.GameConstants;
+
+/**
+ * Resolución paralela de Futoshiki sobre un {@link ForkJoinPool}.
+ *
+ * El árbol de búsqueda se divide en las primeras celdas de ramificación: cada
+ * rama es una tarea con su propia copia de los dominios (un {@code int[]}) y su
+ * propio {@link FutoshikiSolver}. Cada tarea recibe una parte de un presupuesto
+ * de tareas y se divide solo mientras le quede más de una, así que la cantidad
+ * total de tareas queda cerca del presupuesto sin importar cuántos valores
+ * tenga cada celda. Todas comparten un contador de soluciones, de modo que en
+ * cuanto se alcanza el límite las tareas hermanas abandonan la búsqueda y las
+ * que aún no empezaron terminan sin explorar.
+ */
+public class ParallelSolver {
+    private final FutoshikiSolver prototype;
+    private final ForkJoinPool pool;
+    private final int taskBudget;
+    private final LongAdder nodes = new LongAdder();
+    private final LongAdder tasks = new LongAdder();
+
+    /**
+     * Constructor de la clase ParallelSolver. Usa el pool común.
+     *
+     * @param solver El solver con las constantes y desigualdades del tablero.
+     */
+    public ParallelSolver(FutoshikiSolver solver) {
+        this(solver, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor de la clase ParallelSolver, con un presupuesto de
+     * {@link GameConstants#PARALLEL_TASKS_PER_THREAD} tareas por hilo del pool.
+     *
+     * @param solver El solver con las constantes y desigualdades del tablero.
+     * @param pool El pool donde se ejecutan las tareas.
+     */
+    public ParallelSolver(FutoshikiSolver solver, ForkJoinPool pool) {
+        this(solver, pool, pool.getParallelism() * GameConstants.PARALLEL_TASKS_PER_THREAD);
+    }
+
+    /**
+     * Constructor de la clase ParallelSolver.
+     *
+     * @param solver El solver con las constantes y desigualdades del tablero.
+     * @param pool El pool donde se ejecutan las tareas.
+     * @param taskBudget Cantidad aproximada de tareas en que se divide la búsqueda;
+     *                   con 1 se resuelve en una sola tarea.
+     */
+    public ParallelSolver(FutoshikiSolver solver, ForkJoinPool pool, int taskBudget) {
+        this.prototype = solver;
+        this.pool = pool;
+        this.taskBudget = Math.max(1, taskBudget);
+    }
+
+    /**
+     * Verifica si el tablero tiene al menos una solución.
+     *
+     * @return true si el tablero tiene solución, false en caso contrario.
+     */
+    public boolean isSolvable() {
+        return solve() != null;
+    }
+
+    /**
+     * Resuelve el tablero en paralelo.
+     *
+     * @return La cuadrícula resuelta, o null si el tablero no tiene solución.
+     */
+    public int[][] solve() {
+        Search search = run(1);
+        return search.found.get() > 0 ? search.solution.get() : null;
+    }
+
+    /**
+     * Cuenta las soluciones del tablero en paralelo, deteniéndose al llegar al límite.
+     *
+     * @param limit La cantidad máxima de soluciones a buscar.
+     * @return La cantidad de soluciones encontradas, como máximo {@code limit}.
+     */
+    public int countSolutions(int limit) {
+        Search search = run(limit);
+        return Math.min(search.found.get(), search.limit);
+    }
+
+    /**
+     * Obtiene la cantidad de nodos explorados en la última búsqueda, sumando todas las tareas.
+     *
+     * @return La cantidad de nodos explorados.
+     */
+    public long getNodes() {
+        return nodes.sum();
+    }
+
+    /**
+     * Obtiene la cantidad de tareas creadas en la última búsqueda.
+     *
+     * @return La cantidad de tareas.
+     */
+    public long getTasks() {
+        return tasks.sum();
+    }
+
+    private Search run(int limit) {
+        nodes.reset();
+        tasks.reset();
+        Search search = new Search(Math.max(1, limit));
+        int[] root = new FutoshikiSolver(prototype).rootDomains();
+        if (root != null) {
+            pool.invoke(new SplitTask(search, root, taskBudget));
+        }
+        return search;
+    }
+
+    // Estado compartido por todas las tareas de una búsqueda
+    private static class Search {
+        private final int limit;
+        private final AtomicInteger found = new AtomicInteger();
+        private final AtomicReference<int[][]> solution = new AtomicReference<>();
+
+        Search(int limit) {
+            this.limit = limit;
+        }
+
+        boolean isDone() {
+            return found.get() >= limit;
+        }
+    }
+
+    private class SplitTask extends RecursiveTask<Void> {
+        private static final long serialVersionUID = 1L;
+        private final Search search;
+        private final int[] domains;
+        // Tareas que puede llegar a crear esta rama, contando esta
+        private final int budget;
+
+        SplitTask(Search search, int[] domains, int budget) {
+            this.search = search;
+            this.domains = domains;
+            this.budget = budget;
+            tasks.increment();
+        }
+
+        @Override
+        protected Void compute() {
+            if (search.isDone()) {
+                return null;
+            }
+
+            FutoshikiSolver worker = new FutoshikiSolver(prototype);
+            int cell = budget > 1 ? worker.selectCell(domains) : -1;
+            if (cell < 0) {
+                int solutions = worker.searchFrom(domains, search.limit, search.found);
+                nodes.add(worker.getNodes());
+                if (solutions > 0) {
+                    search.solution.compareAndSet(null, worker.lastSolution());
+                }
+                return null;
+            }
+
+            nodes.increment();
+            List<int[]> branches = new ArrayList<>();
+            int candidates = domains[cell];
+            while (candidates != 0) {
+                int bit = Integer.lowestOneBit(candidates);
+                candidates &= ~bit;
+                int[] child = worker.branch(domains, cell, bit);
+                if (child != null) {
+                    branches.add(child);
+                }
+            }
+
+            // El presupuesto se reparte entre las ramas; las que reciben 1 ya no se dividen
+            List<SplitTask> children = new ArrayList<>(branches.size());
+            int share = budget / Math.max(1, branches.size());
+            int extra = budget % Math.max(1, branches.size());
+            for (int i = 0; i < branches.size(); i++) {
+                children.add(new SplitTask(search, branches.get(i), Math.max(1, share + (i < extra ? 1 : 0))));
+            }
+            invokeAll(children);
+            return null;
+        }
+    }
+}
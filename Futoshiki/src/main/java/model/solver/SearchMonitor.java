@@ -0,0 +1,123 @@
+package model.solver;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+import util.constants.GameConstants;
+
+/**
+ * Vigila una búsqueda larga de {@link FutoshikiSolver}: permite cancelarla
+ * desde otro hilo, la corta al agotar un tiempo máximo e informa cuántos nodos
+ * lleva explorados.
+ *
+ * El solver consulta el monitor cada {@link GameConstants#SOLVE_CHECK_NODES}
+ * nodos, así que la búsqueda no paga una lectura de reloj por nodo. El progreso
+ * se informa desde el hilo de la búsqueda, como mucho una vez cada
+ * {@link GameConstants#SOLVE_PROGRESS_MS} milisegundos.
+ */
+public class SearchMonitor {
+    private final long startNanos = System.nanoTime();
+    private final long budgetNanos;
+    private final long reportNanos = TimeUnit.MILLISECONDS.toNanos(GameConstants.SOLVE_PROGRESS_MS);
+    private final LongConsumer listener;
+    private long lastReport = startNanos;
+    private volatile long nodes;
+    private volatile long endNanos = -1;
+    private volatile boolean cancelled;
+    private volatile boolean timedOut;
+
+    /**
+     * Constructor de la clase SearchMonitor.
+     *
+     * @param budget El tiempo máximo de búsqueda, o 0 para no limitarlo.
+     * @param unit La unidad del tiempo máximo.
+     * @param listener Recibe los nodos explorados al informar el progreso; puede ser null.
+     */
+    public SearchMonitor(long budget, TimeUnit unit, LongConsumer listener) {
+        this.budgetNanos = unit.toNanos(budget);
+        this.listener = listener;
+    }
+
+    /**
+     * Pide que la búsqueda se detenga. Se puede llamar desde cualquier hilo.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Indica si se pidió cancelar la búsqueda.
+     *
+     * @return true si se canceló, false en caso contrario.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Indica si la búsqueda se cortó por agotar el tiempo máximo.
+     *
+     * @return true si se agotó el tiempo, false en caso contrario.
+     */
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    /**
+     * Obtiene los nodos explorados hasta la última revisión.
+     *
+     * @return La cantidad de nodos.
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Obtiene el tiempo de búsqueda, hasta ahora o hasta que terminó.
+     *
+     * @return El tiempo en nanosegundos.
+     */
+    public long getElapsedNanos() {
+        long end = endNanos;
+        return (end < 0 ? System.nanoTime() : end) - startNanos;
+    }
+
+    /**
+     * Obtiene la velocidad media de la búsqueda.
+     *
+     * @return Los nodos explorados por segundo.
+     */
+    public long getNodesPerSecond() {
+        long elapsed = getElapsedNanos();
+        return elapsed <= 0 ? 0 : nodes * TimeUnit.SECONDS.toNanos(1) / elapsed;
+    }
+
+    /**
+     * Registra el avance de la búsqueda y decide si debe detenerse.
+     *
+     * @param explored Los nodos explorados hasta ahora.
+     * @return true si la búsqueda debe detenerse.
+     */
+    boolean checkpoint(long explored) {
+        nodes = explored;
+        long now = System.nanoTime();
+        if (budgetNanos > 0 && now - startNanos >= budgetNanos) {
+            timedOut = true;
+        }
+        if (listener != null && now - lastReport >= reportNanos) {
+            lastReport = now;
+            listener.accept(explored);
+        }
+        return cancelled || timedOut;
+    }
+
+    /**
+     * Registra el final de la búsqueda.
+     *
+     * @param explored Los nodos explorados en total.
+     */
+    void finish(long explored) {
+        nodes = explored;
+        endNanos = System.nanoTime();
+    }
+}
@@ -0,0 +1,156 @@
+package persistence;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import util.constants.GameConstants;
+import util.log.Logs;
+
+/**
+ * Guardado automático de partidas en un hilo de fondo.
+ *
+ * Quien llama entrega la partida ya codificada (ver {@link GameSaver#encodeGame}),
+ * lo que se hace en memoria, y el único hilo escritor se encarga del disco. Las
+ * entregas de una misma ranura se combinan: solo se escribe la más reciente y a
+ * lo sumo una vez por intervalo, así que una ráfaga de jugadas produce una sola
+ * escritura. Cada escritura reemplaza la ranura de forma atómica
+ * ({@link GameSaver#writeSlot}).
+ *
+ * Al cerrar la aplicación se escriben las partidas pendientes.
+ */
+public class AutoSaver {
+    private static final Logger LOG = Logs.get(AutoSaver.class);
+    private final long intervalNanos;
+    private final ScheduledExecutorService writer;
+    // Última versión pendiente de cada ranura; protegido por this
+    private final Map<String, Pending> pending = new LinkedHashMap<>();
+    private boolean scheduled;
+    private long lastWrite;
+
+    /**
+     * Constructor de AutoSaver con el intervalo por defecto.
+     */
+    public AutoSaver() {
+        this(TimeUnit.SECONDS.toMillis(GameConstants.DEFAULT_AUTOSAVE_INTERVAL));
+    }
+
+    /**
+     * Constructor de AutoSaver.
+     *
+     * @param intervalMillis Tiempo mínimo entre dos escrituras automáticas, en milisegundos.
+     */
+    public AutoSaver(long intervalMillis) {
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, intervalMillis));
+        this.lastWrite = System.nanoTime() - intervalNanos;
+        this.writer = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "autosave");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "autosave-shutdown"));
+    }
+
+    /**
+     * Marca una partida como modificada. Se escribirá en el próximo intervalo,
+     * reemplazando cualquier versión anterior aún no escrita de la misma ranura.
+     *
+     * @param playerName El nombre del jugador.
+     * @param slot La ranura de guardado.
+     * @param data La partida codificada.
+     */
+    public synchronized void submit(String playerName, int slot, byte[] data) {
+        pending.put(key(playerName, slot), new Pending(playerName, slot, data));
+        if (!scheduled && !writer.isShutdown()) {
+            scheduled = true;
+            long wait = Math.max(0, lastWrite + intervalNanos - System.nanoTime());
+            writer.schedule(this::writePending, wait, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Escribe una partida lo antes posible, junto con las pendientes.
+     *
+     * @param playerName El nombre del jugador.
+     * @param slot La ranura de guardado.
+     * @param data La partida codificada.
+     * @return Un resultado que se completa con true si todas las escrituras se hicieron.
+     */
+    public CompletableFuture<Boolean> saveNow(String playerName, int slot, byte[] data) {
+        synchronized (this) {
+            pending.put(key(playerName, slot), new Pending(playerName, slot, data));
+        }
+        return CompletableFuture.supplyAsync(this::writePending, writer);
+    }
+
+    /**
+     * Descarta una ranura: quita la versión pendiente y borra el archivo desde
+     * el hilo escritor, así que ninguna escritura anterior la vuelve a crear.
+     *
+     * @param playerName El nombre del jugador.
+     * @param slot La ranura de guardado.
+     */
+    public void discard(String playerName, int slot) {
+        synchronized (this) {
+            pending.remove(key(playerName, slot));
+            if (writer.isShutdown()) {
+                return;
+            }
+            writer.execute(() -> GameSaver.deleteGame(playerName, slot));
+        }
+    }
+
+    /**
+     * Escribe las partidas pendientes y detiene el hilo escritor.
+     */
+    public void shutdown() {
+        if (writer.isShutdown()) {
+            return;
+        }
+        try {
+            writer.submit(this::writePending).get(GameConstants.AUTOSAVE_SHUTDOWN_MS, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            LOG.log(Level.ERROR, "Error al escribir los guardados pendientes", e);
+        }
+        writer.shutdown();
+    }
+
+    private static String key(String playerName, int slot) {
+        return playerName + "\n" + slot;
+    }
+
+    // Se ejecuta solo en el hilo escritor
+    private boolean writePending() {
+        Pending[] batch;
+        synchronized (this) {
+            batch = pending.values().toArray(new Pending[0]);
+            pending.clear();
+            scheduled = false;
+            lastWrite = System.nanoTime();
+        }
+
+        boolean ok = true;
+        for (Pending save : batch) {
+            ok &= GameSaver.writeSlot(save.playerName, save.slot, save.data);
+        }
+        return ok;
+    }
+
+    // Versión codificada de una ranura esperando ser escrita
+    private static class Pending {
+        private final String playerName;
+        private final int slot;
+        private final byte[] data;
+
+        Pending(String playerName, int slot, byte[] data) {
+            this.playerName = playerName;
+            this.slot = slot;
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,389 @@
+package persistence;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import model.game.FutoshikiBoard;
+import util.constants.GameConstants;
+import util.log.Logs;
+
+/**
+ * Catálogo binario de partidas leído mediante un {@link MappedByteBuffer}.
+ *
+ * Formato del archivo (enteros en big-endian):
+ * <pre>
+ * encabezado: "FTSK" | versión (short) | cantidad de grupos (short)
+ * grupos:     tamaño (byte) | dificultad (byte) | reservado (short) | cantidad (int) | posición (long)
+ * registros:  tamaño * tamaño bytes por partida, contiguos por grupo
+ * </pre>
+ * Cada grupo reúne las partidas de un tamaño y una dificultad, así que sus
+ * registros tienen largo fijo y la partida N está en {@code posición + N * tamaño²}.
+ * Cada celda ocupa un byte: el valor constante en los bits 0-3 (0 si la celda
+ * está libre), la desigualdad con la vecina derecha en los bits 4-5 y con la de
+ * abajo en los bits 6-7, con los códigos de {@link GameConstants}.
+ *
+ * Abrir el catálogo solo lee el índice de grupos; las partidas se leen del
+ * archivo mapeado al pedirlas, sin importar cuántas tenga.
+ */
+public class BinaryCatalog implements GameCatalog {
+    private static final Logger LOG = Logs.get(BinaryCatalog.class);
+    /** Marca de inicio del archivo ("FTSK") */
+    private static final int MAGIC = 0x4654534B;
+    /** Versión del formato */
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int GROUP_SIZE = 16;
+
+    /** Máscara del valor constante dentro del byte de una celda */
+    static final int VALUE_MASK = 0x0F;
+    private static final int RIGHT_SHIFT = 4;
+    private static final int BOTTOM_SHIFT = 6;
+    private static final int RELATION_MASK = 0b11;
+
+    // Dificultades en el orden de sus códigos
+    private static final String[] DIFFICULTIES = {
+        GameConstants.LEVEL_EASY, GameConstants.LEVEL_MEDIUM, GameConstants.LEVEL_HARD
+    };
+
+    private final MappedByteBuffer buffer;
+    private final Map<String, Group> groups;
+    private final Map<String, Integer> levelCounts;
+
+    private BinaryCatalog(MappedByteBuffer buffer, Map<String, Group> groups, Map<String, Integer> levelCounts) {
+        this.buffer = buffer;
+        this.groups = groups;
+        this.levelCounts = levelCounts;
+    }
+
+    /**
+     * Abre un catálogo binario.
+     *
+     * @param path La ruta del archivo.
+     * @return El catálogo.
+     * @throws IOException si el archivo no se puede leer o no tiene el formato esperado.
+     */
+    public static BinaryCatalog open(String path) throws IOException {
+        MappedByteBuffer buffer;
+        try (RandomAccessFile file = new RandomAccessFile(path, "r");
+             FileChannel channel = file.getChannel()) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("No es un catálogo de partidas: " + path);
+        }
+        if (buffer.getShort(4) != VERSION) {
+            throw new IOException("Versión de catálogo no soportada: " + buffer.getShort(4));
+        }
+
+        int groupCount = buffer.getShort(6);
+        Map<String, Group> groups = new HashMap<>();
+        Map<String, Integer> levelCounts = new HashMap<>();
+        for (int g = 0; g < groupCount; g++) {
+            int at = HEADER_SIZE + g * GROUP_SIZE;
+            int size = buffer.get(at);
+            int difficulty = buffer.get(at + 1);
+            int count = buffer.getInt(at + 4);
+            long position = buffer.getLong(at + 8);
+            if (difficulty < 0 || difficulty >= DIFFICULTIES.length
+                    || position + (long) count * size * size > buffer.capacity()) {
+                throw new IOException("Índice de catálogo dañado en el grupo " + g);
+            }
+            groups.put(key(DIFFICULTIES[difficulty], size), new Group(count, (int) position));
+            levelCounts.merge(DIFFICULTIES[difficulty], count, Integer::sum);
+        }
+        return new BinaryCatalog(buffer, groups, levelCounts);
+    }
+
+    /**
+     * Abre el catálogo binario, creándolo antes desde el XML si no existe o es más antiguo.
+     *
+     * @param xmlPath La ruta del catálogo XML.
+     * @param binaryPath La ruta del catálogo binario.
+     * @return El catálogo.
+     * @throws IOException si no se pudo convertir ni abrir el catálogo.
+     */
+    public static BinaryCatalog openOrConvert(String xmlPath, String binaryPath) throws IOException {
+        File xml = new File(xmlPath);
+        File binary = new File(binaryPath);
+        if (!binary.exists() || (xml.exists() && xml.lastModified() > binary.lastModified())) {
+            int written = convert(xmlPath, binaryPath);
+            LOG.log(Level.INFO, () -> written + " partidas convertidas a " + binaryPath);
+        }
+        return open(binaryPath);
+    }
+
+    /**
+     * Convierte un catálogo XML al formato binario.
+     *
+     * La conversión lee el XML dos veces en streaming: la primera cuenta las
+     * partidas de cada grupo para calcular las posiciones, y la segunda escribe
+     * los registros en su posición, con un búfer por grupo. El archivo se
+     * escribe aparte y reemplaza al anterior con un movimiento atómico; el
+     * mapeo en memoria solo se usa para leer.
+     *
+     * @param xmlPath La ruta del catálogo XML.
+     * @param binaryPath La ruta del archivo binario a crear.
+     * @return La cantidad de partidas escritas.
+     * @throws IOException si no se pudo leer el XML o escribir el archivo.
+     */
+    public static int convert(String xmlPath, String binaryPath) throws IOException {
+        // 1. Contar las partidas por grupo (se ignoran tamaños y niveles no soportados)
+        Map<String, int[]> counts = new TreeMap<>();
+        try {
+            XMLHandler.streamGames(xmlPath, (nivel, tamano) -> {
+                if (supported(nivel, tamano)) {
+                    counts.computeIfAbsent(key(nivel, tamano), k -> new int[1])[0]++;
+                }
+                return false;
+            }, gameData -> { });
+        } catch (Exception e) {
+            throw new IOException("No se pudo leer " + xmlPath, e);
+        }
+
+        // 2. Calcular las posiciones de cada grupo
+        Map<String, Long> starts = new HashMap<>();
+        long position = HEADER_SIZE + (long) counts.size() * GROUP_SIZE;
+        int total = 0;
+        for (Map.Entry<String, int[]> entry : counts.entrySet()) {
+            int size = sizeOf(entry.getKey());
+            starts.put(entry.getKey(), position);
+            position += (long) entry.getValue()[0] * size * size;
+            total += entry.getValue()[0];
+        }
+        if (position > Integer.MAX_VALUE) {
+            throw new IOException("El catálogo supera los 2 GB que admite un solo mapeo");
+        }
+
+        Path target = Paths.get(binaryPath);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            // 3. Escribir el encabezado y el índice
+            ByteBuffer index = ByteBuffer.allocate(HEADER_SIZE + counts.size() * GROUP_SIZE);
+            index.putInt(MAGIC);
+            index.putShort(VERSION);
+            index.putShort((short) counts.size());
+            Map<String, GroupWriter> writers = new HashMap<>();
+            for (Map.Entry<String, int[]> entry : counts.entrySet()) {
+                long start = starts.get(entry.getKey());
+                index.put((byte) sizeOf(entry.getKey()));
+                index.put((byte) difficultyCode(levelOf(entry.getKey())));
+                index.putShort((short) 0);
+                index.putInt(entry.getValue()[0]);
+                index.putLong(start);
+                writers.put(entry.getKey(), new GroupWriter(channel, start));
+            }
+            index.flip();
+            writeFully(channel, index, 0);
+
+            // 4. Escribir cada partida en la siguiente posición libre de su grupo
+            byte[] cells = new byte[GameConstants.MAX_GRID_SIZE * GameConstants.MAX_GRID_SIZE];
+            XMLHandler.streamGames(xmlPath, BinaryCatalog::supported, gameData -> {
+                int size = gameData.getTamano();
+                int length = size * size;
+                Arrays.fill(cells, 0, length, (byte) 0);
+                gameData.packInto(cells);
+                try {
+                    writers.get(key(gameData.getNivel(), size)).write(cells, length);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            for (GroupWriter writer : writers.values()) {
+                writer.flush();
+            }
+            channel.force(true);
+        } catch (UncheckedIOException e) {
+            Files.deleteIfExists(temp);
+            throw e.getCause();
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        } catch (Exception e) {
+            Files.deleteIfExists(temp);
+            throw new IOException("No se pudo convertir " + xmlPath, e);
+        }
+
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return total;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer data, long position) throws IOException {
+        while (data.hasRemaining()) {
+            position += channel.write(data, position);
+        }
+    }
+
+    @Override
+    public int count(String nivel) {
+        return levelCounts.getOrDefault(nivel, 0);
+    }
+
+    @Override
+    public int count(String nivel, int tamano) {
+        Group group = groups.get(key(nivel, tamano));
+        return group == null ? 0 : group.count;
+    }
+
+    @Override
+    public FutoshikiBoard getBoard(String nivel, int tamano, int n) {
+        Group group = groups.get(key(nivel, tamano));
+        if (group == null || n < 0 || n >= group.count) {
+            throw new IndexOutOfBoundsException("No existe la partida " + n + " de " + nivel + " " + tamano + "x" + tamano);
+        }
+
+        FutoshikiBoard board = new FutoshikiBoard(tamano);
+        int start = group.position + n * tamano * tamano;
+        for (int row = 0; row < tamano; row++) {
+            for (int col = 0; col < tamano; col++) {
+                unpackCell(board, row, col, buffer.get(start + row * tamano + col));
+            }
+        }
+        return board;
+    }
+
+    /**
+     * Empaqueta en un byte la constante y las desigualdades de una celda de un tablero.
+     *
+     * @param board El tablero de Futoshiki.
+     * @param row La fila de la celda.
+     * @param col La columna de la celda.
+     * @return El byte de la celda, con el mismo formato que los registros del catálogo.
+     */
+    static byte packCell(FutoshikiBoard board, int row, int col) {
+        int value = board.isConstant(row, col) ? board.getValue(row, col) : 0;
+        return (byte) (value
+            | board.getRightRelation(row, col) << RIGHT_SHIFT
+            | board.getBottomRelation(row, col) << BOTTOM_SHIFT);
+    }
+
+    /**
+     * Aplica a un tablero la constante y las desigualdades del byte de una celda.
+     *
+     * @param board El tablero de Futoshiki.
+     * @param row La fila de la celda.
+     * @param col La columna de la celda.
+     * @param cell El byte de la celda.
+     */
+    static void unpackCell(FutoshikiBoard board, int row, int col, int cell) {
+        int value = cell & VALUE_MASK;
+        if (value != 0) {
+            board.setConstant(row, col, value);
+        }
+        int right = (cell >>> RIGHT_SHIFT) & RELATION_MASK;
+        if (right != GameConstants.INEQUALITY_NONE) {
+            board.setInequality(right == GameConstants.INEQUALITY_GREATER ? "maf" : "mef", row, col);
+        }
+        int bottom = (cell >>> BOTTOM_SHIFT) & RELATION_MASK;
+        if (bottom != GameConstants.INEQUALITY_NONE) {
+            board.setInequality(bottom == GameConstants.INEQUALITY_GREATER ? "mac" : "mec", row, col);
+        }
+    }
+
+    /**
+     * Aplica una desigualdad del XML al byte de una celda, reemplazando la que hubiera en esa dirección.
+     *
+     * @param cell El byte de la celda.
+     * @param type El tipo de desigualdad ("maf", "mef", "mac", "mec").
+     * @return El byte de la celda con la desigualdad, o sin cambios si el tipo no se reconoce.
+     */
+    static byte withInequality(byte cell, String type) {
+        switch (type) {
+            case "maf":
+                return withRelation(cell, RIGHT_SHIFT, GameConstants.INEQUALITY_GREATER);
+            case "mef":
+                return withRelation(cell, RIGHT_SHIFT, GameConstants.INEQUALITY_LESSER);
+            case "mac":
+                return withRelation(cell, BOTTOM_SHIFT, GameConstants.INEQUALITY_GREATER);
+            case "mec":
+                return withRelation(cell, BOTTOM_SHIFT, GameConstants.INEQUALITY_LESSER);
+            default:
+                return cell;
+        }
+    }
+
+    private static byte withRelation(byte cell, int shift, int relation) {
+        return (byte) ((cell & ~(RELATION_MASK << shift)) | (relation << shift));
+    }
+
+    private static boolean supported(String nivel, int tamano) {
+        return difficultyCode(nivel) >= 0
+            && tamano >= GameConstants.MIN_GRID_SIZE && tamano <= GameConstants.MAX_GRID_SIZE;
+    }
+
+    private static int difficultyCode(String nivel) {
+        for (int i = 0; i < DIFFICULTIES.length; i++) {
+            if (DIFFICULTIES[i].equals(nivel)) return i;
+        }
+        return -1;
+    }
+
+    // Las claves "nivel:tamaño" se ordenan por nivel y luego por tamaño de dos dígitos
+    private static String key(String nivel, int tamano) {
+        return nivel + ":" + (tamano < 10 ? "0" : "") + tamano;
+    }
+
+    private static String levelOf(String key) {
+        return key.substring(0, key.indexOf(':'));
+    }
+
+    private static int sizeOf(String key) {
+        return Integer.parseInt(key.substring(key.indexOf(':') + 1));
+    }
+
+    // Registros pendientes de un grupo, que se escriben juntos en su posición
+    private static class GroupWriter {
+        private static final int BUFFER_SIZE = 8192;
+        private final FileChannel channel;
+        private final ByteBuffer pending = ByteBuffer.allocate(BUFFER_SIZE);
+        private long position;
+
+        GroupWriter(FileChannel channel, long position) {
+            this.channel = channel;
+            this.position = position;
+        }
+
+        void write(byte[] record, int length) throws IOException {
+            if (pending.remaining() < length) {
+                flush();
+            }
+            pending.put(record, 0, length);
+        }
+
+        void flush() throws IOException {
+            pending.flip();
+            long start = position;
+            position += pending.remaining();
+            writeFully(channel, pending, start);
+            pending.clear();
+        }
+    }
+
+    // Posición y cantidad de registros de un grupo
+    private static class Group {
+        private final int count;
+        private final int position;
+
+        Group(int count, int position) {
+            this.count = count;
+            this.position = position;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package persistence;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import model.solver.FutoshikiSolver;
+import model.solver.ParallelSolver;
+import util.constants.GameConstants;
+import util.log.Logs;
+
+/**
+ * Verificación por lotes de un catálogo de partidas: cuenta las soluciones de
+ * cada partida, hasta dos, y reporta las que no tienen solución o tienen más
+ * de una.
+ *
+ * Las partidas desde {@link GameConstants#PARALLEL_SOLVE_MIN_SIZE} se resuelven
+ * de a una con {@link ParallelSolver}, que reparte cada búsqueda entre los
+ * hilos del pool. Las más pequeñas se resuelven enteras, varias a la vez,
+ * porque dividir su búsqueda cuesta más de lo que ahorra.
+ */
+public class CatalogVerifier {
+    private static final Logger LOG = Logs.get(CatalogVerifier.class);
+    private static final String[] LEVELS = {
+        GameConstants.LEVEL_EASY, GameConstants.LEVEL_MEDIUM, GameConstants.LEVEL_HARD
+    };
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor de CatalogVerifier. Usa el pool común.
+     */
+    public CatalogVerifier() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor de CatalogVerifier.
+     *
+     * @param pool El pool donde se resuelven las partidas.
+     */
+    public CatalogVerifier(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Verifica todas las partidas de un catálogo.
+     *
+     * @param catalog El catálogo.
+     * @return El resultado de la verificación.
+     */
+    public Report verify(GameCatalog catalog) {
+        long start = System.nanoTime();
+        Report report = new Report();
+        for (String level : LEVELS) {
+            for (int size = GameConstants.MIN_GRID_SIZE; size <= GameConstants.MAX_GRID_SIZE; size++) {
+                int count = catalog.count(level, size);
+                if (count == 0) continue;
+
+                // Los tableros se leen antes, para no leer el catálogo desde varios hilos
+                FutoshikiSolver[] solvers = new FutoshikiSolver[count];
+                for (int n = 0; n < count; n++) {
+                    solvers[n] = FutoshikiSolver.fromBoard(catalog.getBoard(level, size, n));
+                }
+
+                int[] solutions;
+                if (size >= GameConstants.PARALLEL_SOLVE_MIN_SIZE) {
+                    solutions = new int[count];
+                    for (int n = 0; n < count; n++) {
+                        solutions[n] = new ParallelSolver(solvers[n], pool).countSolutions(2);
+                    }
+                } else {
+                    solutions = pool.submit(() -> IntStream.range(0, count).parallel()
+                        .map(n -> solvers[n].countSolutions(2))
+                        .toArray()).join();
+                }
+
+                for (int n = 0; n < count; n++) {
+                    report.add(level, size, n, solutions[n]);
+                }
+                int checkedSize = size;
+                LOG.log(Level.DEBUG, () -> count + " partidas verificadas de " + level + " " + checkedSize + "x" + checkedSize);
+            }
+        }
+        report.nanos = System.nanoTime() - start;
+        LOG.log(Level.INFO, report::toString);
+        return report;
+    }
+
+    /**
+     * Resultado de una verificación del catálogo.
+     */
+    public static class Report {
+        private int checked;
+        private final List<String> unsolvable = new ArrayList<>();
+        private final List<String> ambiguous = new ArrayList<>();
+        private long nanos;
+
+        private void add(String level, int size, int n, int solutions) {
+            checked++;
+            if (solutions == 1) return;
+
+            String game = level + " " + size + "x" + size + " #" + n;
+            LOG.log(Level.WARNING, () -> "La partida " + game + (solutions == 0 ? " no tiene solución" : " tiene más de una solución"));
+            (solutions == 0 ? unsolvable : ambiguous).add(game);
+        }
+
+        // Getters
+        public int getChecked() { return checked; }
+        public List<String> getUnsolvable() { return Collections.unmodifiableList(unsolvable); }
+        public List<String> getAmbiguous() { return Collections.unmodifiableList(ambiguous); }
+        public long getNanos() { return nanos; }
+
+        /**
+         * Indica si todas las partidas tienen exactamente una solución.
+         *
+         * @return true si el catálogo es válido, false en caso contrario.
+         */
+        public boolean isValid() {
+            return unsolvable.isEmpty() && ambiguous.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d partidas verificadas en %.2f ms: %d sin solución, %d con más de una",
+                checked, nanos / 1_000_000.0, unsolvable.size(), ambiguous.size());
+        }
+    }
+}
@@ -1,10 +1,7 @@
 package persistence;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import org.w3c.dom.Document;
@@ -13,13 +10,17 @@ import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 import java.io.File;
 import java.io.FileOutputStream;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import model.config.Configuration;
 import util.constants.FileConstants;
+import util.log.Logs;
 
 public class ConfigurationManager {
+    private static final Logger LOG = Logs.get(ConfigurationManager.class);
 
     /**
      * Guarda la configuración en un archivo XML.
@@ -28,9 +29,8 @@ public class ConfigurationManager {
      * @return true si la configuración se guardó correctamente, false en caso contrario.
      */
     public static boolean saveConfiguration(Configuration config) {
+        long start = System.nanoTime();
         try {
-            System.out.println("Intentando guardar configuración...");
-            
             // Crear el directorio data si no existe
             Path dataDir = Paths.get("data");
             if (!Files.exists(dataDir)) {
@@ -38,26 +38,29 @@ public class ConfigurationManager {
             }
             
             File configFile = new File(FileConstants.CONFIG_FILE);
-            System.out.println("Guardando configuración en: " + configFile.getAbsolutePath());
+            LOG.log(Level.DEBUG, () -> "Guardando configuración en: " + configFile.getAbsolutePath());
 
             // Crear el documento XML
-            DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-            Document doc = dBuilder.newDocument();
+            Document doc = XMLPool.newDocument();
             doc.setXmlStandalone(true); // Importante para el formato correcto
 
             // Crear elemento raíz
             Element rootElement = doc.createElement("configuracion");
             doc.appendChild(rootElement);
 
-            // Imprimir valores que se van a guardar
-            System.out.println("Guardando valores:");
-            System.out.println("- Tamaño: " + config.getGridSize());
-            System.out.println("- Dificultad: " + config.getDifficulty());
-            System.out.println("- Multinivel: " + config.isMultiLevel());
-            System.out.println("- Tipo Timer: " + config.getTimerType());
-            System.out.println("- Posición Panel: " + config.getDigitPanelPosition());
-            System.out.println("- Jugador: " + config.getPlayerName());
+            // Registrar los valores que se van a guardar
+            LOG.log(Level.DEBUG, () -> "Guardando valores:" +
+                "\n- Tamaño: " + config.getGridSize() +
+                "\n- Dificultad: " + config.getDifficulty() +
+                "\n- Multinivel: " + config.isMultiLevel() +
+                "\n- Tipo Timer: " + config.getTimerType() +
+                "\n- Posición Panel: " + config.getDigitPanelPosition() +
+                "\n- Tablero: " + config.getBoardRenderer() +
+                "\n- Límite de solución: " + config.getSolveTimeLimit() + " s" +
+                "\n- Reserva de partidas: " + config.getPuzzleQueueDepth() +
+                ", hilos " + config.getPuzzleWorkers() +
+                "\n- Autoguardado: cada " + config.getAutosaveInterval() + " s" +
+                "\n- Jugador: " + config.getPlayerName());
 
             // Agregar elementos de configuración
             addConfigElement(doc, rootElement, "tamano", String.valueOf(config.getGridSize()));
@@ -68,15 +71,16 @@ public class ConfigurationManager {
             addConfigElement(doc, rootElement, "minutosTimer", String.valueOf(config.getTimerMinutes()));
             addConfigElement(doc, rootElement, "segundosTimer", String.valueOf(config.getTimerSeconds()));
             addConfigElement(doc, rootElement, "posicionPanel", config.getDigitPanelPosition());
+            addConfigElement(doc, rootElement, "tablero", config.getBoardRenderer());
+            addConfigElement(doc, rootElement, "limiteSolucion", String.valueOf(config.getSolveTimeLimit()));
+            addConfigElement(doc, rootElement, "reservaPartidas", String.valueOf(config.getPuzzleQueueDepth()));
+            addConfigElement(doc, rootElement, "hilosGeneracion", String.valueOf(config.getPuzzleWorkers()));
+            addConfigElement(doc, rootElement, "intervaloAutoguardado", String.valueOf(config.getAutosaveInterval()));
             addConfigElement(doc, rootElement, "jugador", config.getPlayerName());
 
             // Configurar el transformer para escribir el XML con formato
-            TransformerFactory transformerFactory = TransformerFactory.newInstance();
-            Transformer transformer = transformerFactory.newTransformer();
-            transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
-            transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+            Transformer transformer = XMLPool.transformer(2);
             transformer.setOutputProperty(OutputKeys.DOCTYPE_PUBLIC, "yes");
-            transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "2");
             transformer.setOutputProperty(OutputKeys.STANDALONE, "yes");
 
             // Escribir el documento al archivo
@@ -87,20 +91,21 @@ public class ConfigurationManager {
 
             // Verificar que el archivo se guardó correctamente
             if (configFile.exists() && configFile.length() > 0) {
-                System.out.println("Configuración guardada exitosamente");
-                System.out.println("Tamaño del archivo: " + configFile.length() + " bytes");
-                // Imprimir el contenido del archivo para debug
-                System.out.println("Contenido del archivo:");
-                System.out.println(new String(Files.readAllBytes(configFile.toPath())));
+                LOG.log(Level.INFO, () -> "Configuración guardada (" + configFile.length() + " bytes)");
+                // Registrar el contenido del archivo para debug
+                if (LOG.isLoggable(Level.TRACE)) {
+                    LOG.log(Level.TRACE, "Contenido del archivo:\n" + new String(Files.readAllBytes(configFile.toPath())));
+                }
                 return true;
             } else {
-                System.err.println("Error: El archivo está vacío o no se creó correctamente");
+                LOG.log(Level.ERROR, "El archivo de configuración está vacío o no se creó correctamente");
                 return false;
             }
         } catch (Exception e) {
-            System.err.println("Error al guardar la configuración: " + e.getMessage());
-            e.printStackTrace();
+            LOG.log(Level.ERROR, "Error al guardar la configuración", e);
             return false;
+        } finally {
+            FileTimings.record("ConfigurationManager.saveConfiguration", start);
         }
     }
 
@@ -127,23 +132,23 @@ public class ConfigurationManager {
     public static Configuration loadConfiguration() {
         try {
             File file = new File(FileConstants.CONFIG_FILE);
-            System.out.println("Intentando cargar configuración desde: " + file.getAbsolutePath());
+            LOG.log(Level.DEBUG, () -> "Cargando configuración desde: " + file.getAbsolutePath());
             
             if (!file.exists() || file.length() == 0) {
-                System.out.println("Archivo de configuración no encontrado o vacío, creando configuración por defecto");
+                LOG.log(Level.INFO, "Archivo de configuración no encontrado o vacío, creando configuración por defecto");
                 Configuration defaultConfig = new Configuration();
                 saveConfiguration(defaultConfig);
                 return defaultConfig;
             }
 
-            // Imprimir contenido del archivo para debug
-            System.out.println("Contenido del archivo de configuración:");
-            System.out.println(new String(Files.readAllBytes(file.toPath())));
+            // Registrar el contenido del archivo para debug
+            if (LOG.isLoggable(Level.TRACE)) {
+                LOG.log(Level.TRACE, "Contenido del archivo de configuración:\n" + new String(Files.readAllBytes(file.toPath())));
+            }
 
-            DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-            Document doc = dBuilder.parse(file);
-            doc.getDocumentElement().normalize();
+            long start = System.nanoTime();
+            Document doc = XMLPool.parse(file);
+            FileTimings.record("ConfigurationManager.loadConfiguration", start);
 
             Configuration config = new Configuration();
             NodeList nodes = doc.getElementsByTagName("*");
@@ -154,8 +159,7 @@ public class ConfigurationManager {
                     String nodeName = element.getNodeName();
                     String value = element.getTextContent();
 
-                    // Debug: imprimir cada nodo y su valor
-                    System.out.println("Nodo: " + nodeName + ", Valor: " + value);
+                    LOG.log(Level.TRACE, () -> "Nodo: " + nodeName + ", Valor: " + value);
 
                     switch (nodeName) {
                         case "tamano":
@@ -182,6 +186,21 @@ public class ConfigurationManager {
                         case "posicionPanel":
                             config.setDigitPanelPosition(value);
                             break;
+                        case "tablero":
+                            config.setBoardRenderer(value);
+                            break;
+                        case "limiteSolucion":
+                            config.setSolveTimeLimit(Integer.parseInt(value));
+                            break;
+                        case "reservaPartidas":
+                            config.setPuzzleQueueDepth(Integer.parseInt(value));
+                            break;
+                        case "hilosGeneracion":
+                            config.setPuzzleWorkers(Integer.parseInt(value));
+                            break;
+                        case "intervaloAutoguardado":
+                            config.setAutosaveInterval(Integer.parseInt(value));
+                            break;
                         case "jugador":
                             config.setPlayerName(value);
                             break;
@@ -191,8 +210,7 @@ public class ConfigurationManager {
 
             return config;
         } catch (Exception e) {
-            System.err.println("Error al cargar la configuración: " + e.getMessage());
-            e.printStackTrace();
+            LOG.log(Level.ERROR, "Error al cargar la configuración", e);
             return new Configuration();
         }
     }
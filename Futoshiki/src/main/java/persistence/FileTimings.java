@@ -0,0 +1,104 @@
+package persistence;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import util.log.Logs;
+
+/**
+ * Tiempos de las operaciones de archivo de la persistencia, por nombre de
+ * operación (por ejemplo {@code "Top10Manager.saveScores"} o
+ * {@code "Journal.append"}), para ver cuánto cuesta leer y escribir cada archivo.
+ */
+public class FileTimings {
+    private static final Logger LOG = Logs.get(FileTimings.class);
+
+    private static final ConcurrentMap<String, Timing> TIMINGS = new ConcurrentHashMap<>();
+
+    private FileTimings() {
+    }
+
+    /**
+     * Registra la duración de una operación de archivo.
+     *
+     * @param operation El nombre de la operación.
+     * @param startNanos El valor de {@link System#nanoTime()} al iniciar la operación.
+     */
+    public static void record(String operation, long startNanos) {
+        TIMINGS.computeIfAbsent(operation, k -> new Timing()).add(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Obtiene los tiempos registrados de cada operación.
+     *
+     * @return Un mapa, ordenado por nombre, de cada operación a sus tiempos.
+     */
+    public static Map<String, Timing> getTimings() {
+        return new TreeMap<>(TIMINGS);
+    }
+
+    /**
+     * Borra los tiempos registrados.
+     */
+    public static void resetTimings() {
+        TIMINGS.clear();
+    }
+
+    /**
+     * Registra los tiempos de cada operación con nivel INFO.
+     */
+    public static void logTimings() {
+        if (!LOG.isLoggable(Level.INFO)) return;
+        for (Map.Entry<String, Timing> entry : getTimings().entrySet()) {
+            LOG.log(Level.INFO, entry.getKey() + " " + entry.getValue());
+        }
+    }
+
+    /**
+     * Tiempos acumulados de una operación de archivo.
+     */
+    public static class Timing {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void add(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+
+        public long getAverageNanos() {
+            long n = getCount();
+            return n == 0 ? 0 : getTotalNanos() / n;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d veces, promedio %.2f ms, máximo %.2f ms, total %.2f ms",
+                getCount(),
+                getAverageNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1),
+                getMaxNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1),
+                getTotalNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package persistence;
+
+import model.game.FutoshikiBoard;
+
+/**
+ * Catálogo de partidas con acceso por nivel, tamaño y posición.
+ */
+public interface GameCatalog {
+
+    /**
+     * Obtiene la cantidad de partidas de un nivel.
+     *
+     * @param nivel El nivel de dificultad.
+     * @return La cantidad de partidas del nivel.
+     */
+    int count(String nivel);
+
+    /**
+     * Obtiene la cantidad de partidas de un nivel y tamaño.
+     *
+     * @param nivel El nivel de dificultad.
+     * @param tamano El tamaño de la cuadrícula.
+     * @return La cantidad de partidas.
+     */
+    int count(String nivel, int tamano);
+
+    /**
+     * Crea el tablero de la partida N de un nivel y tamaño.
+     *
+     * @param nivel El nivel de dificultad.
+     * @param tamano El tamaño de la cuadrícula.
+     * @param n La posición de la partida, de 0 a {@code count(nivel, tamano) - 1}.
+     * @return El tablero con las constantes y desigualdades de la partida.
+     * @throws IndexOutOfBoundsException si no existe la partida.
+     */
+    FutoshikiBoard getBoard(String nivel, int tamano, int n);
+}
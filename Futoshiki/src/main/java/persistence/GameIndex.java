@@ -0,0 +1,137 @@
+package persistence;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import model.game.FutoshikiBoard;
+import persistence.XMLHandler.GameData;
+import persistence.XMLHandler.ParseStats;
+import util.log.Logs;
+
+/**
+ * Índice perezoso del catálogo de partidas por nivel y tamaño.
+ *
+ * Al crearse recorre el archivo una vez contando las partidas de cada
+ * combinación (nivel, cuadrícula) sin materializar ninguna. Las partidas de una
+ * combinación se cargan la primera vez que se piden, con otra lectura que solo
+ * crea los {@link GameData} de esa combinación, y quedan en caché.
+ */
+public class GameIndex implements GameCatalog {
+    private static final Logger LOG = Logs.get(GameIndex.class);
+    private final String path;
+    private final Map<String, Integer> counts;
+    private final Map<String, Integer> levelCounts;
+    private final Map<String, List<GameData>> loaded = new ConcurrentHashMap<>();
+    private final ParseStats indexStats;
+
+    private GameIndex(String path, Map<String, Integer> counts, Map<String, Integer> levelCounts, ParseStats indexStats) {
+        this.path = path;
+        this.counts = counts;
+        this.levelCounts = levelCounts;
+        this.indexStats = indexStats;
+    }
+
+    /**
+     * Crea el índice de un archivo de partidas.
+     *
+     * @param path La ruta del archivo de partidas.
+     * @return El índice, vacío si el archivo no se pudo leer.
+     */
+    public static GameIndex build(String path) {
+        Map<String, Integer> counts = new HashMap<>();
+        Map<String, Integer> levelCounts = new HashMap<>();
+        ParseStats stats = null;
+        try {
+            stats = XMLHandler.streamGames(path, (nivel, tamano) -> {
+                counts.merge(key(nivel, tamano), 1, Integer::sum);
+                levelCounts.merge(nivel, 1, Integer::sum);
+                return false;
+            }, gameData -> { });
+            LOG.log(Level.INFO, "{0}", stats);
+        } catch (Exception e) {
+            LOG.log(Level.ERROR, "Error al indexar las partidas", e);
+        }
+        return new GameIndex(path, counts, levelCounts, stats);
+    }
+
+    /**
+     * Obtiene la cantidad de partidas de un nivel.
+     *
+     * @param nivel El nivel de dificultad.
+     * @return La cantidad de partidas del nivel.
+     */
+    @Override
+    public int count(String nivel) {
+        return levelCounts.getOrDefault(nivel, 0);
+    }
+
+    /**
+     * Obtiene la cantidad de partidas de un nivel y tamaño.
+     *
+     * @param nivel El nivel de dificultad.
+     * @param tamano El tamaño de la cuadrícula.
+     * @return La cantidad de partidas.
+     */
+    @Override
+    public int count(String nivel, int tamano) {
+        return counts.getOrDefault(key(nivel, tamano), 0);
+    }
+
+    /**
+     * Obtiene las partidas de un nivel y tamaño, cargándolas la primera vez.
+     *
+     * @param nivel El nivel de dificultad.
+     * @param tamano El tamaño de la cuadrícula.
+     * @return Las partidas, en el orden del archivo (lista inmutable, vacía si no hay).
+     */
+    public List<GameData> getGames(String nivel, int tamano) {
+        if (count(nivel, tamano) == 0) {
+            return Collections.emptyList();
+        }
+        return loaded.computeIfAbsent(key(nivel, tamano), key -> load(nivel, tamano));
+    }
+
+    /**
+     * Crea el tablero de la partida N de un nivel y tamaño, cargando su combinación si hace falta.
+     *
+     * @param nivel El nivel de dificultad.
+     * @param tamano El tamaño de la cuadrícula.
+     * @param n La posición de la partida.
+     * @return El tablero de la partida.
+     */
+    @Override
+    public FutoshikiBoard getBoard(String nivel, int tamano, int n) {
+        return getGames(nivel, tamano).get(n).toBoard();
+    }
+
+    /**
+     * Obtiene las estadísticas de la lectura que creó el índice.
+     *
+     * @return Las estadísticas, o null si el archivo no se pudo leer.
+     */
+    public ParseStats getIndexStats() {
+        return indexStats;
+    }
+
+    private List<GameData> load(String nivel, int tamano) {
+        List<GameData> games = new ArrayList<>(count(nivel, tamano));
+        try {
+            ParseStats stats = XMLHandler.streamGames(path,
+                (n, t) -> t == tamano && n.equals(nivel), games::add);
+            LOG.log(Level.DEBUG, () -> nivel + " " + tamano + "x" + tamano + ": " + stats);
+        } catch (Exception e) {
+            LOG.log(Level.ERROR, "Error al cargar las partidas", e);
+        }
+        return Collections.unmodifiableList(games);
+    }
+
+    private static String key(String nivel, int tamano) {
+        return nivel + ":" + tamano;
+    }
+}
@@ -1,242 +1,329 @@
 package persistence;
 
 import java.io.File;
-import javax.xml.parsers.*;
-import javax.xml.transform.*;
-import javax.xml.transform.dom.*;
-import javax.xml.transform.stream.*;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.net.URLEncoder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import org.w3c.dom.*;
 import java.util.ArrayList;
 import java.util.List;
 import model.game.*;
 import model.config.Configuration;
 import util.constants.FileConstants;
+import util.constants.GameConstants;
+import util.log.Logs;
 
 import controller.timer.TimerController;
 
+/**
+ * Guarda y carga las partidas en curso de los jugadores.
+ *
+ * Cada jugador tiene su propia carpeta dentro de {@link FileConstants#SAVES_DIR}
+ * con un archivo por ranura de guardado, así que encontrar una partida es
+ * armar una ruta y guardar solo escribe el archivo de esa ranura, con
+ * {@link XMLPool#write(byte[], Path)}. Las partidas se guardan en el formato
+ * binario de {@link SaveCodec}. El guardado automático
+ * usa su propia ranura, {@link GameConstants#AUTOSAVE_SLOT}, para no pisar las
+ * del jugador.
+ *
+ * Las partidas guardadas en XML se siguen pudiendo cargar: las ranuras en XML
+ * de versiones anteriores y, si la ranura por defecto de un jugador está vacía,
+ * su partida del antiguo archivo compartido {@link FileConstants#CURRENT_GAME_FILE}.
+ */
 public class GameSaver {
-    
+    private static final Logger LOG = Logs.get(GameSaver.class);
+
+    /**
+     * Guarda el estado actual del juego en la ranura por defecto del jugador.
+     *
+     * @param gameState El estado del juego a guardar.
+     * @param playerName El nombre del jugador.
+     * @param config La configuración del juego.
+     * @param timerController El controlador del temporizador.
+     * @return true si se guardó correctamente, false en caso contrario.
+     */
+    public static boolean saveGame(GameState gameState, String playerName,
+                                 Configuration config, TimerController timerController) {
+        return saveGame(gameState, playerName, GameConstants.DEFAULT_SAVE_SLOT, config, timerController);
+    }
+
     /**
-     * Guarda el estado actual del juego.
-     * 
+     * Guarda el estado actual del juego en una ranura del jugador.
+     *
      * @param gameState El estado del juego a guardar.
      * @param playerName El nombre del jugador.
+     * @param slot La ranura de guardado (0 a {@link GameConstants#SAVE_SLOTS} - 1, o
+     *             {@link GameConstants#AUTOSAVE_SLOT}).
      * @param config La configuración del juego.
      * @param timerController El controlador del temporizador.
      * @return true si se guardó correctamente, false en caso contrario.
      */
-    public static boolean saveGame(GameState gameState, String playerName, 
+    public static boolean saveGame(GameState gameState, String playerName, int slot,
                                  Configuration config, TimerController timerController) {
         try {
-            // Cargar documento existente o crear uno nuevo
-            Document doc;
-            Element rootElement;
-            File file = new File(FileConstants.CURRENT_GAME_FILE);
-            
-            if (file.exists()) {
-                DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-                DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-                doc = dBuilder.parse(file);
-                rootElement = doc.getDocumentElement();
-                
-                // Buscar y eliminar juego anterior del mismo jugador si existe
-                NodeList savedGames = doc.getElementsByTagName("game");
-                for (int i = 0; i < savedGames.getLength(); i++) {
-                    Element gameElement = (Element) savedGames.item(i);
-                    String savedPlayer = gameElement.getElementsByTagName("player").item(0).getTextContent();
-                    if (savedPlayer.equals(playerName)) {
-                        rootElement.removeChild(gameElement);
-                        break;
-                    }
-                }
-            } else {
-                DocumentBuilderFactory docFactory = DocumentBuilderFactory.newInstance();
-                DocumentBuilder docBuilder = docFactory.newDocumentBuilder();
-                doc = docBuilder.newDocument();
-                rootElement = doc.createElement("savedGames");
-                doc.appendChild(rootElement);
-            }
-            
-            // Crear nuevo elemento de juego
-            Element gameElement = doc.createElement("game");
-            
-            // Información del jugador
-            Element playerElement = doc.createElement("player");
-            playerElement.setTextContent(playerName);
-            gameElement.appendChild(playerElement);
-            
-            // Timer info
-            Element timerElement = doc.createElement("timer");
-            timerElement.setAttribute("type", timerController.getCronometro());
-            timerElement.setAttribute("hours", String.valueOf(timerController.getHoursPassed()));
-            timerElement.setAttribute("minutes", String.valueOf(timerController.getMinutesPassed()));
-            timerElement.setAttribute("seconds", String.valueOf(timerController.getSecondsPassed()));
-            timerElement.setAttribute("expired", String.valueOf(timerController.isTimerExpired()));
-            gameElement.appendChild(timerElement);
-            
-            // Configuración
-            Element configElement = doc.createElement("configuration");
-            configElement.setAttribute("gridSize", String.valueOf(config.getGridSize()));
-            configElement.setAttribute("difficulty", config.getDifficulty());
-            configElement.setAttribute("multiLevel", String.valueOf(config.isMultiLevel()));
-            configElement.setAttribute("panelPosition", config.getDigitPanelPosition());
-            gameElement.appendChild(configElement);
-            
-            // Estado del juego
-            Element stateElement = doc.createElement("gameState");
-            Element difficultyElement = doc.createElement("difficulty");
-            difficultyElement.setTextContent(gameState.getDifficulty());
-            stateElement.appendChild(difficultyElement);
-            
-            // Tablero
-            Element boardElement = doc.createElement("board");
-            FutoshikiBoard board = gameState.getBoard();
-            boardElement.setAttribute("size", String.valueOf(board.getSize()));
-            
-            for (int i = 0; i < board.getSize(); i++) {
-                for (int j = 0; j < board.getSize(); j++) {
-                    Element cellElement = doc.createElement("cell");
-                    cellElement.setAttribute("row", String.valueOf(i));
-                    cellElement.setAttribute("col", String.valueOf(j));
-                    cellElement.setAttribute("value", String.valueOf(board.getValue(i, j)));
-                    cellElement.setAttribute("constant", String.valueOf(board.isConstant(i, j)));
-                    
-                    String rightIneq = board.getRightInequality(i, j);
-                    String bottomIneq = board.getBottomInequality(i, j);
-                    
-                    if (!rightIneq.equals(" ")) {
-                        cellElement.setAttribute("rightInequality", rightIneq);
-                    }
-                    if (!bottomIneq.equals(" ")) {
-                        cellElement.setAttribute("bottomInequality", bottomIneq);
-                    }
-                    
-                    boardElement.appendChild(cellElement);
-                }
-            }
-            
-            stateElement.appendChild(boardElement);
-            gameElement.appendChild(stateElement);
-            
-            // Agregar el nuevo juego al documento
-            rootElement.appendChild(gameElement);
-            
-            // Guardar el documento
-            TransformerFactory transformerFactory = TransformerFactory.newInstance();
-            Transformer transformer = transformerFactory.newTransformer();
-            transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-            transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "2");
-            transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
-            transformer.setOutputProperty(OutputKeys.STANDALONE, "no");
-            
-            DOMSource source = new DOMSource(doc);
-            StreamResult result = new StreamResult(file);
-            transformer.transform(source, result);
-            
+            return writeSlot(playerName, slot, encodeGame(gameState, playerName, config, timerController));
+        } catch (Exception e) {
+            LOG.log(Level.ERROR, "Error al guardar la partida", e);
+            return false;
+        }
+    }
+
+    /**
+     * Codifica en memoria el estado actual del juego, sin escribirlo.
+     *
+     * @param gameState El estado del juego a guardar.
+     * @param playerName El nombre del jugador.
+     * @param config La configuración del juego.
+     * @param timerController El controlador del temporizador.
+     * @return La partida en el formato de {@link SaveCodec}.
+     * @throws IOException Si no se pudo codificar.
+     */
+    public static byte[] encodeGame(GameState gameState, String playerName,
+                                    Configuration config, TimerController timerController) throws IOException {
+        // Un solo valor del reloj, para que horas, minutos y segundos sean del mismo instante
+        long total = timerController.getDisplaySeconds();
+        return SaveCodec.encode(gameState, playerName, config,
+            timerController.getCronometro(),
+            (int) (total / 3600),
+            (int) (total % 3600 / 60),
+            (int) (total % 60),
+            timerController.isTimerExpired());
+    }
+
+    /**
+     * Escribe una partida codificada en una ranura del jugador con {@link XMLPool#write(byte[], Path)}.
+     *
+     * @param playerName El nombre del jugador.
+     * @param slot La ranura de guardado.
+     * @param data La partida codificada.
+     * @return true si se guardó correctamente, false en caso contrario.
+     */
+    public static boolean writeSlot(String playerName, int slot, byte[] data) {
+        long start = System.nanoTime();
+        try {
+            Path target = slotPath(playerName, slot);
+            Files.createDirectories(target.getParent());
+            XMLPool.write(data, target);
+            Files.deleteIfExists(legacySlotPath(playerName, slot));
+
             return true;
         } catch (Exception e) {
-            e.printStackTrace();
+            LOG.log(Level.ERROR, "Error al escribir la ranura de guardado", e);
             return false;
+        } finally {
+            FileTimings.record("GameSaver.writeSlot", start);
         }
     }
-    
+
     /**
-     * Carga el último juego guardado.
-     * 
+     * Carga el juego guardado en la ranura por defecto del jugador.
+     *
      * @param playerName El nombre del jugador.
      * @return GameState con el estado del juego o null si no hay juego guardado.
      */
     public static GameState loadGame(String playerName) {
+        return loadGame(playerName, GameConstants.DEFAULT_SAVE_SLOT);
+    }
+
+    /**
+     * Carga el juego guardado en una ranura del jugador.
+     *
+     * @param playerName El nombre del jugador.
+     * @param slot La ranura de guardado.
+     * @return GameState con el estado del juego o null si no hay juego guardado.
+     */
+    public static GameState loadGame(String playerName, int slot) {
+        long start = System.nanoTime();
         try {
-            File file = new File(FileConstants.CURRENT_GAME_FILE);
-            if (!file.exists()) {
-                return null;
+            Path path = slotPath(playerName, slot);
+            if (Files.exists(path)) {
+                return SaveCodec.decode(Files.readAllBytes(path));
             }
-            
-            DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-            Document doc = dBuilder.parse(file);
-            doc.getDocumentElement().normalize();
-            
-            // Buscar el juego del jugador específico
-            NodeList gamesList = doc.getElementsByTagName("game");
-            for (int i = 0; i < gamesList.getLength(); i++) {
-                Element gameElement = (Element) gamesList.item(i);
-                String savedPlayer = gameElement.getElementsByTagName("player").item(0).getTextContent();
-                
-                if (savedPlayer.equals(playerName)) {
-                    // Cargar el estado del juego
-                    Element stateElement = (Element) gameElement.getElementsByTagName("gameState").item(0);
-                    String difficulty = stateElement.getElementsByTagName("difficulty").item(0).getTextContent();
-                    
-                    Element boardElement = (Element) stateElement.getElementsByTagName("board").item(0);
-                    int size = Integer.parseInt(boardElement.getAttribute("size"));
-                    FutoshikiBoard board = new FutoshikiBoard(size);
-                    
-                    NodeList cells = boardElement.getElementsByTagName("cell");
-                    for (int j = 0; j < cells.getLength(); j++) {
-                        Element cell = (Element) cells.item(j);
-                        int row = Integer.parseInt(cell.getAttribute("row"));
-                        int col = Integer.parseInt(cell.getAttribute("col"));
-                        int value = Integer.parseInt(cell.getAttribute("value"));
-                        boolean constant = Boolean.parseBoolean(cell.getAttribute("constant"));
-                        
-                        if (constant) {
-                            board.setConstant(row, col, value);
-                        } else if (value > 0) {
-                            board.setCellValue(row, col, value);
-                        }
-                        
-                        if (cell.hasAttribute("rightInequality")) {
-                            board.setInequality("maf", row, col);
-                        }
-                        if (cell.hasAttribute("bottomInequality")) {
-                            board.setInequality("mac", row, col);
-                        }
-                    }
-                    
-                    return new GameState(board, difficulty, "");
-                }
+
+            // Ranura guardada en XML por una versión anterior
+            File file = legacySlotPath(playerName, slot).toFile();
+            if (file.exists()) {
+                NodeList gamesList = XMLPool.parse(file).getElementsByTagName("game");
+                return gamesList.getLength() == 0 ? null : readGame((Element) gamesList.item(0));
             }
-            
-            return null;
-            
+            return slot == GameConstants.DEFAULT_SAVE_SLOT ? loadLegacyGame(playerName) : null;
+
         } catch (Exception e) {
-            e.printStackTrace();
+            LOG.log(Level.ERROR, "Error al cargar la partida", e);
             return null;
+        } finally {
+            FileTimings.record("GameSaver.loadGame", start);
         }
     }
-    
+
     /**
-     * Verifica si hay un juego guardado para el jugador.
-     * 
+     * Verifica si hay un juego guardado en la ranura por defecto del jugador.
+     *
      * @param playerName El nombre del jugador.
      * @return true si hay un juego guardado, false en caso contrario.
      */
     public static boolean hasGameSaved(String playerName) {
+        return hasGameSaved(playerName, GameConstants.DEFAULT_SAVE_SLOT);
+    }
+
+    /**
+     * Verifica si hay un juego guardado en una ranura del jugador.
+     *
+     * @param playerName El nombre del jugador.
+     * @param slot La ranura de guardado.
+     * @return true si hay un juego guardado, false en caso contrario.
+     */
+    public static boolean hasGameSaved(String playerName, int slot) {
         try {
-            File file = new File(FileConstants.CURRENT_GAME_FILE);
-            if (!file.exists()) {
-                return false;
-            }
-            
-            DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-            Document doc = dBuilder.parse(file);
-            
-            NodeList games = doc.getElementsByTagName("game");
-            for (int i = 0; i < games.getLength(); i++) {
-                Element gameElement = (Element) games.item(i);
-                String savedPlayer = gameElement.getElementsByTagName("player").item(0).getTextContent();
-                if (savedPlayer.equals(playerName)) {
-                    return true;
-                }
+            if (Files.exists(slotPath(playerName, slot)) || Files.exists(legacySlotPath(playerName, slot))) {
+                return true;
             }
-            
+            return slot == GameConstants.DEFAULT_SAVE_SLOT && findLegacyGame(playerName) != null;
+        } catch (Exception e) {
+            LOG.log(Level.ERROR, "Error al buscar la partida guardada", e);
             return false;
+        }
+    }
+
+    /**
+     * Obtiene las ranuras en que el jugador tiene un juego guardado, sin
+     * contar el guardado automático.
+     *
+     * @param playerName El nombre del jugador.
+     * @return Las ranuras ocupadas, de menor a mayor.
+     */
+    public static List<Integer> getSavedSlots(String playerName) {
+        List<Integer> slots = new ArrayList<>();
+        for (int slot = 0; slot < GameConstants.SAVE_SLOTS; slot++) {
+            if (hasGameSaved(playerName, slot)) {
+                slots.add(slot);
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Elimina el juego guardado en una ranura del jugador.
+     *
+     * @param playerName El nombre del jugador.
+     * @param slot La ranura de guardado.
+     * @return true si se eliminó un juego, false en caso contrario.
+     */
+    public static boolean deleteGame(String playerName, int slot) {
+        try {
+            boolean deleted = Files.deleteIfExists(slotPath(playerName, slot));
+            return Files.deleteIfExists(legacySlotPath(playerName, slot)) || deleted;
         } catch (Exception e) {
-            e.printStackTrace();
+            LOG.log(Level.ERROR, "Error al borrar la partida guardada", e);
             return false;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Obtiene la ruta del archivo de una ranura de guardado.
+     * El nombre del jugador se codifica para que sea un nombre de carpeta válido.
+     */
+    private static Path slotPath(String playerName, int slot) throws UnsupportedEncodingException {
+        return slotPath(playerName, slot, ".fsv");
+    }
+
+    /**
+     * Obtiene la ruta del archivo XML con que se guardaba antes una ranura.
+     */
+    private static Path legacySlotPath(String playerName, int slot) throws UnsupportedEncodingException {
+        return slotPath(playerName, slot, ".xml");
+    }
+
+    private static Path slotPath(String playerName, int slot, String extension) throws UnsupportedEncodingException {
+        if ((slot < 0 || slot >= GameConstants.SAVE_SLOTS) && slot != GameConstants.AUTOSAVE_SLOT) {
+            throw new IllegalArgumentException("Ranura de guardado inválida: " + slot);
+        }
+        String folder = URLEncoder.encode(playerName, "UTF-8").replace(".", "%2E").replace("*", "%2A");
+        String name = slot == GameConstants.AUTOSAVE_SLOT ? "autoguardado" : "ranura" + slot;
+        return Paths.get(FileConstants.SAVES_DIR, folder, name + extension);
+    }
+
+    /**
+     * Carga la partida de un jugador desde el antiguo archivo compartido.
+     */
+    private static GameState loadLegacyGame(String playerName) throws Exception {
+        Element gameElement = findLegacyGame(playerName);
+        return gameElement == null ? null : readGame(gameElement);
+    }
+
+    /**
+     * Busca la partida de un jugador en el antiguo archivo compartido.
+     */
+    private static Element findLegacyGame(String playerName) throws Exception {
+        File file = new File(FileConstants.CURRENT_GAME_FILE);
+        if (!file.exists()) {
+            return null;
+        }
+
+        NodeList gamesList = XMLPool.parse(file).getElementsByTagName("game");
+        for (int i = 0; i < gamesList.getLength(); i++) {
+            Element gameElement = (Element) gamesList.item(i);
+            String savedPlayer = gameElement.getElementsByTagName("player").item(0).getTextContent();
+            if (savedPlayer.equals(playerName)) {
+                return gameElement;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Crea el estado del juego a partir de un elemento {@code <game>}.
+     */
+    private static GameState readGame(Element gameElement) {
+        Element stateElement = (Element) gameElement.getElementsByTagName("gameState").item(0);
+        String difficulty = stateElement.getElementsByTagName("difficulty").item(0).getTextContent();
+
+        Element boardElement = (Element) stateElement.getElementsByTagName("board").item(0);
+        int size = Integer.parseInt(boardElement.getAttribute("size"));
+        FutoshikiBoard board = new FutoshikiBoard(size);
+        if (boardElement.hasAttribute("puzzleId")) {
+            board.setPuzzleId(PuzzleId.parse(boardElement.getAttribute("puzzleId")));
+        }
+
+        NodeList cells = boardElement.getElementsByTagName("cell");
+        for (int j = 0; j < cells.getLength(); j++) {
+            Element cell = (Element) cells.item(j);
+            int row = Integer.parseInt(cell.getAttribute("row"));
+            int col = Integer.parseInt(cell.getAttribute("col"));
+            int value = Integer.parseInt(cell.getAttribute("value"));
+            boolean constant = Boolean.parseBoolean(cell.getAttribute("constant"));
+
+            if (constant) {
+                board.setConstant(row, col, value);
+            } else if (value > 0) {
+                board.restoreValue(row, col, value);
+            }
+
+            // Respetar el sentido de la desigualdad guardada
+            if (cell.hasAttribute("rightInequality")) {
+                boolean lesser = GameConstants.SYMBOL_LESSER.equals(cell.getAttribute("rightInequality"));
+                board.setInequality(lesser ? "mef" : "maf", row, col);
+            }
+            if (cell.hasAttribute("bottomInequality")) {
+                boolean lesser = GameConstants.SYMBOL_LESSER_COL.equals(cell.getAttribute("bottomInequality"));
+                board.setInequality(lesser ? "mec" : "mac", row, col);
+            }
+        }
+
+        GameState gameState = new GameState(board, difficulty, "");
+        NodeList timers = gameElement.getElementsByTagName("timer");
+        if (timers.getLength() > 0) {
+            Element timer = (Element) timers.item(0);
+            gameState.setSavedTimer(timer.getAttribute("type"),
+                Integer.parseInt(timer.getAttribute("hours")),
+                Integer.parseInt(timer.getAttribute("minutes")),
+                Integer.parseInt(timer.getAttribute("seconds")));
+        }
+        return gameState;
+    }
+}
@@ -0,0 +1,205 @@
+package persistence;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Predicate;
+
+import util.log.Logs;
+
+/**
+ * Journal de cambios que acompaña a una foto XML, como la de
+ * {@link Top10Manager} o la de {@link PlayerStore}.
+ *
+ * Cada cambio se agrega como una línea al final del archivo, con un número de
+ * secuencia y sus campos separados por tabulador, así que registrarlo es una
+ * única escritura secuencial pequeña. La foto guarda el número de la última
+ * entrada que incluye: al cargar solo se aplican las posteriores, y al
+ * compactar se quitan del journal las que ya están en la foto. Una línea
+ * incompleta (por ejemplo, por un cierre inesperado) se ignora.
+ *
+ * No es seguro para varios hilos; quien lo usa sincroniza el acceso.
+ */
+class Journal {
+    private static final Logger LOG = Logs.get(Journal.class);
+    // Separador de campos
+    private static final char SEPARATOR = '\t';
+
+    private final Path path;
+    private final String description;
+    // Número de la última entrada del journal y de la última incluida en la foto
+    private long lastSequence;
+    private long snapshotSequence;
+
+    /**
+     * Constructor de Journal.
+     *
+     * @param path La ruta del journal.
+     * @param description Qué guarda, para los mensajes (por ejemplo "del Top 10").
+     * @param snapshotSequence La última entrada incluida en la foto.
+     */
+    Journal(String path, String description, long snapshotSequence) {
+        this.path = Paths.get(path);
+        this.description = description;
+        this.snapshotSequence = snapshotSequence;
+        this.lastSequence = Math.max(snapshotSequence, readLastSequence());
+    }
+
+    /**
+     * Agrega una entrada al final del journal.
+     *
+     * @param fields Los campos de la entrada; los tabuladores y saltos de línea se reemplazan por espacios.
+     * @return El número de la entrada.
+     * @throws IOException si no se pudo escribir.
+     */
+    long append(String... fields) throws IOException {
+        StringBuilder line = new StringBuilder(128);
+        line.append(lastSequence + 1);
+        for (String field : fields) {
+            line.append(SEPARATOR).append(clean(field));
+        }
+        line.append('\n');
+
+        long start = System.nanoTime();
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writer.write(line.toString());
+        } finally {
+            FileTimings.record("Journal.append", start);
+        }
+        return ++lastSequence;
+    }
+
+    /**
+     * Recorre las entradas posteriores a la foto. Una entrada cuyos números no
+     * se pueden leer se informa y se salta.
+     *
+     * @param action Recibe los campos de cada entrada, con el número en la
+     *               posición 0, y devuelve true si la aplicó.
+     * @return La cantidad de entradas aplicadas.
+     */
+    int replay(Predicate<String[]> action) {
+        if (!Files.exists(path)) return 0;
+
+        int applied = 0;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split(String.valueOf(SEPARATOR), -1);
+                try {
+                    if (fields.length < 2 || Long.parseLong(fields[0]) <= snapshotSequence) continue;
+                    if (action.test(fields)) {
+                        applied++;
+                    }
+                } catch (NumberFormatException e) {
+                    LOG.log(Level.WARNING, "Entrada inválida en el journal " + description + ": " + line);
+                }
+            }
+        } catch (IOException e) {
+            LOG.log(Level.ERROR, "Error al leer el journal " + description, e);
+        }
+        return applied;
+    }
+
+    /**
+     * Indica si el journal acumula suficientes entradas para compactarlo.
+     *
+     * @param threshold La cantidad de entradas fuera de la foto que lo justifica.
+     * @return true si conviene compactar, false en caso contrario.
+     */
+    boolean isCompactionDue(int threshold) {
+        return lastSequence - snapshotSequence >= threshold;
+    }
+
+    /**
+     * Registra que la foto ya incluye las entradas hasta un número y las quita
+     * del journal. Las posteriores, escritas mientras se generaba la foto, se
+     * conservan.
+     *
+     * @param includedSequence La última entrada incluida en la foto.
+     */
+    void truncate(long includedSequence) {
+        snapshotSequence = includedSequence;
+        try {
+            if (includedSequence >= lastSequence) {
+                Files.write(path, new byte[0]);
+                return;
+            }
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+                    BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (sequenceOf(line) > includedSequence) {
+                        writer.write(line);
+                        writer.write('\n');
+                    }
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // Las entradas que queden ya están en la foto y se ignoran al volver a cargar
+            LOG.log(Level.WARNING, "No se pudo vaciar el journal " + description, e);
+        }
+    }
+
+    /**
+     * Obtiene el número de la última entrada escrita.
+     *
+     * @return El número, o el de la foto si el journal está vacío.
+     */
+    long getLastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Obtiene el número de la última entrada incluida en la foto.
+     *
+     * @return El número de la entrada.
+     */
+    long getSnapshotSequence() {
+        return snapshotSequence;
+    }
+
+    /**
+     * Obtiene el número de la última entrada completa del archivo.
+     */
+    private long readLastSequence() {
+        if (!Files.exists(path)) return 0;
+
+        long last = 0;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                last = Math.max(last, sequenceOf(line));
+            }
+        } catch (IOException e) {
+            LOG.log(Level.ERROR, "Error al leer el journal " + description, e);
+        }
+        return last;
+    }
+
+    /**
+     * Obtiene el número de una línea, o 0 si la línea está incompleta.
+     */
+    private static long sequenceOf(String line) {
+        int end = line.indexOf(SEPARATOR);
+        try {
+            return end > 0 ? Long.parseLong(line.substring(0, end)) : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static String clean(String field) {
+        return field.replace(SEPARATOR, ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+}
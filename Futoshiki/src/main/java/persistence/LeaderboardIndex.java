@@ -0,0 +1,193 @@
+package persistence;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import model.game.GameScore;
+
+/**
+ * Índice de las mejores puntuaciones por dificultad y tamaño de cuadrícula.
+ *
+ * Cada combinación (dificultad, tamaño) guarda sus N mejores puntuaciones en un
+ * arreglo de capacidad fija ordenado por tiempo, junto a un arreglo paralelo
+ * con el tiempo total en segundos. Así, saber si un tiempo entra en las primeras
+ * K posiciones es leer una celda, y la posición de un score nuevo se busca por
+ * búsqueda binaria. A igual tiempo queda primero el score que llegó antes.
+ *
+ * Cada combinación se sincroniza por separado, de modo que puntuaciones de
+ * combinaciones distintas pueden registrarse a la vez.
+ */
+public class LeaderboardIndex {
+    private final int capacity;
+    private final ConcurrentMap<String, Board> boards = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor de la clase LeaderboardIndex.
+     *
+     * @param capacity Cantidad de puntuaciones que se guardan por combinación.
+     */
+    public LeaderboardIndex(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacidad inválida: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Obtiene la cantidad de puntuaciones que se guardan por combinación.
+     *
+     * @return La capacidad de cada combinación.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Registra una puntuación.
+     *
+     * @param score La puntuación a registrar.
+     * @return La posición (desde 0) en que quedó, o -1 si no entra entre las N mejores.
+     */
+    public int add(GameScore score) {
+        return boards.computeIfAbsent(key(score.getDifficulty(), score.getGridSize()), k -> new Board(capacity))
+            .add(score, totalSeconds(score));
+    }
+
+    /**
+     * Indica si un tiempo entraría entre las primeras posiciones de una combinación.
+     *
+     * @param difficulty La dificultad.
+     * @param size El tamaño del tablero.
+     * @param totalSeconds El tiempo total en segundos.
+     * @param limit Cantidad de posiciones que se consideran (a lo sumo la capacidad).
+     * @return true si el tiempo entraría, false en caso contrario.
+     */
+    public boolean qualifies(String difficulty, int size, int totalSeconds, int limit) {
+        Board board = boards.get(key(difficulty, size));
+        return board == null || board.qualifies(totalSeconds, Math.min(limit, capacity));
+    }
+
+    /**
+     * Obtiene las mejores puntuaciones de una combinación.
+     *
+     * @param difficulty La dificultad.
+     * @param size El tamaño del tablero.
+     * @param limit Cantidad máxima de puntuaciones a devolver.
+     * @return Las puntuaciones ordenadas de menor a mayor tiempo.
+     */
+    public List<GameScore> top(String difficulty, int size, int limit) {
+        Board board = boards.get(key(difficulty, size));
+        return board == null ? new ArrayList<>() : board.top(limit);
+    }
+
+    /**
+     * Obtiene todas las puntuaciones de una dificultad, agrupadas por tamaño.
+     *
+     * @param difficulty La dificultad.
+     * @return Las puntuaciones de cada tamaño, de menor a mayor tamaño y tiempo.
+     */
+    public List<GameScore> getLevel(String difficulty) {
+        List<GameScore> scores = new ArrayList<>();
+        for (int size : sizes(difficulty)) {
+            scores.addAll(top(difficulty, size, capacity));
+        }
+        return scores;
+    }
+
+    /**
+     * Obtiene las dificultades que tienen alguna puntuación.
+     *
+     * @return Las dificultades registradas.
+     */
+    public Set<String> getDifficulties() {
+        Set<String> difficulties = new TreeSet<>();
+        for (String key : boards.keySet()) {
+            difficulties.add(key.substring(0, key.lastIndexOf(':')));
+        }
+        return difficulties;
+    }
+
+    private Set<Integer> sizes(String difficulty) {
+        Set<Integer> sizes = new TreeSet<>();
+        String prefix = difficulty + ":";
+        for (String key : boards.keySet()) {
+            if (key.startsWith(prefix) && key.indexOf(':', prefix.length()) < 0) {
+                sizes.add(Integer.parseInt(key.substring(prefix.length())));
+            }
+        }
+        return sizes;
+    }
+
+    private static int totalSeconds(GameScore score) {
+        return score.getHours() * 3600 + score.getMinutes() * 60 + score.getSeconds();
+    }
+
+    private static String key(String difficulty, int size) {
+        return difficulty + ":" + size;
+    }
+
+    /**
+     * Mejores puntuaciones de una combinación, en un arreglo ordenado de capacidad fija.
+     */
+    private static class Board {
+        private final GameScore[] scores;
+        private final int[] times;
+        private int count;
+        // Tiempo que hay que mejorar para entrar; Integer.MAX_VALUE mientras haya lugar
+        private volatile int cutoff = Integer.MAX_VALUE;
+
+        Board(int capacity) {
+            scores = new GameScore[capacity];
+            times = new int[capacity];
+        }
+
+        synchronized int add(GameScore score, int time) {
+            // Primera posición con un tiempo mayor: los empates quedan detrás
+            int low = 0;
+            int high = count;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (times[mid] <= time) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            if (low == scores.length) {
+                return -1;
+            }
+
+            int moved = Math.min(count, scores.length - 1) - low;
+            System.arraycopy(scores, low, scores, low + 1, moved);
+            System.arraycopy(times, low, times, low + 1, moved);
+            scores[low] = score;
+            times[low] = time;
+            if (count < scores.length) {
+                count++;
+            }
+            if (count == scores.length) {
+                cutoff = times[count - 1];
+            }
+            return low;
+        }
+
+        boolean qualifies(int time, int limit) {
+            if (limit == scores.length) {
+                return time < cutoff;
+            }
+            synchronized (this) {
+                return count < limit || time < times[limit - 1];
+            }
+        }
+
+        synchronized List<GameScore> top(int limit) {
+            int n = Math.min(limit, count);
+            return new ArrayList<>(Arrays.asList(scores).subList(0, n));
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package persistence;
+
+import java.io.IOException;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import model.game.GameScore;
+import model.player.Player;
+import persistence.XMLPlayerManager.PlayerUpdate;
+import util.constants.FileConstants;
+import util.constants.GameConstants;
+import util.log.Logs;
+
+/**
+ * Almacén de jugadores con actualizaciones por registro.
+ *
+ * La foto completa de los jugadores sigue siendo el XML de
+ * {@link XMLPlayerManager}. Cada cambio posterior se agrega al final de un
+ * {@link Journal}: los datos de cuenta de un jugador (al registrarse,
+ * cambiar la contraseña o pedir un token) o una puntuación nueva. Así, el costo
+ * de un cambio no depende de cuántas cuentas existan. Al cargar se lee la foto y
+ * se aplican las entradas del journal posteriores a ella. Cada cierta cantidad
+ * de entradas la foto se reescribe en segundo plano con los cambios del
+ * journal, y las entradas incluidas se quitan de él.
+ *
+ * Formato de las líneas del journal:
+ * <pre>
+ * número | P | nombre | hash de la contraseña | email | token ("" si no tiene)
+ * número | S | nombre | dificultad | horas | minutos | segundos | tamaño
+ * </pre>
+ */
+public class PlayerStore {
+    private static final Logger LOG = Logs.get(PlayerStore.class);
+    private static final String ACCOUNT = "P";
+    private static final String SCORE = "S";
+
+    private final String snapshotPath;
+    private final Journal journal;
+    private final ExecutorService compactor;
+    // La última compactación programada, o null si no hubo ninguna
+    private CompletableFuture<Boolean> compaction;
+
+    /**
+     * Constructor de PlayerStore con los archivos por defecto.
+     */
+    public PlayerStore() {
+        this(FileConstants.PLAYERS_FILE, FileConstants.PLAYERS_JOURNAL_FILE);
+    }
+
+    /**
+     * Constructor de PlayerStore con rutas de archivo explícitas.
+     *
+     * @param snapshotPath La ruta del XML de jugadores.
+     * @param journalPath La ruta del journal de jugadores.
+     */
+    public PlayerStore(String snapshotPath, String journalPath) {
+        this.snapshotPath = snapshotPath;
+        this.journal = new Journal(journalPath, "de jugadores", XMLPlayerManager.readJournalSequence(snapshotPath));
+        this.compactor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "player-compaction");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Carga todos los jugadores: la foto más los cambios del journal.
+     *
+     * @return Un mapa que asocia nombres de jugadores con sus objetos Player.
+     */
+    public synchronized Map<String, Player> loadPlayers() {
+        Map<String, Player> players = XMLPlayerManager.loadPlayers(snapshotPath);
+        int applied = replayJournal(players);
+        LOG.log(Level.INFO, () -> applied + " entradas del journal aplicadas");
+        return players;
+    }
+
+    /**
+     * Carga solo los datos de cuenta de todos los jugadores, sin sus
+     * puntuaciones. Es lo único que hace falta para iniciar sesión.
+     *
+     * @return Un mapa de nombres a jugadores, con las listas de puntuaciones vacías.
+     */
+    public synchronized Map<String, Player> loadAccounts() {
+        Map<String, Player> accounts = XMLPlayerManager.loadAccounts(snapshotPath);
+        journal.replay(fields -> {
+            if (isAccount(fields)) {
+                accounts.put(fields[2], toPlayer(fields));
+                return true;
+            }
+            return false;
+        });
+        return accounts;
+    }
+
+    /**
+     * Carga las puntuaciones de un jugador.
+     *
+     * @param playerName El nombre del jugador.
+     * @return Las puntuaciones del jugador, en el orden en que se registraron.
+     */
+    public synchronized List<GameScore> loadScores(String playerName) {
+        List<GameScore> scores = XMLPlayerManager.loadScores(snapshotPath, playerName);
+        journal.replay(fields -> {
+            if (isScore(fields) && playerName.equals(fields[2])) {
+                scores.add(toScore(fields));
+                return true;
+            }
+            return false;
+        });
+        return scores;
+    }
+
+    /**
+     * Guarda los datos de cuenta de un jugador (nombre, contraseña, email y token).
+     * Sus puntuaciones no se reescriben.
+     *
+     * @param player El jugador.
+     * @return true si se guardó correctamente, false en caso contrario.
+     */
+    public synchronized boolean savePlayer(Player player) {
+        String token = player.getRecoveryToken();
+        return append(ACCOUNT, player.getName(), player.getPasswordHash(), player.getEmail(),
+            token == null ? "" : token);
+    }
+
+    /**
+     * Guarda una puntuación nueva de un jugador.
+     *
+     * @param playerName El nombre del jugador.
+     * @param score La puntuación.
+     * @return true si se guardó correctamente, false en caso contrario.
+     */
+    public synchronized boolean addScore(String playerName, GameScore score) {
+        return append(SCORE, playerName, score.getDifficulty(),
+            String.valueOf(score.getHours()), String.valueOf(score.getMinutes()),
+            String.valueOf(score.getSeconds()), String.valueOf(score.getGridSize()));
+    }
+
+    /**
+     * Programa la compactación en segundo plano: la foto se reescribe con los
+     * cambios del journal y esas entradas se quitan de él. La foto se recorre en
+     * streaming, sin cargar todos los jugadores, y mientras tanto se pueden
+     * seguir registrando cambios. Si ya hay una compactación en curso, se
+     * devuelve esa.
+     *
+     * @return Se completa con true si la compactación se completó, false en caso contrario.
+     */
+    public synchronized CompletableFuture<Boolean> compact() {
+        if (compaction == null || compaction.isDone()) {
+            compaction = CompletableFuture.supplyAsync(this::runCompaction, compactor);
+        }
+        return compaction;
+    }
+
+    private boolean append(String... fields) {
+        try {
+            journal.append(fields);
+        } catch (IOException e) {
+            LOG.log(Level.ERROR, "Error al guardar el jugador", e);
+            return false;
+        }
+
+        if (journal.isCompactionDue(GameConstants.PLAYERS_COMPACTION_THRESHOLD)) {
+            compact();
+        }
+        return true;
+    }
+
+    // Se ejecuta solo en el hilo de compactación
+    private boolean runCompaction() {
+        long includedSequence;
+        Map<String, PlayerUpdate> updates;
+        synchronized (this) {
+            includedSequence = journal.getLastSequence();
+            if (includedSequence == journal.getSnapshotSequence()) {
+                return true;
+            }
+            updates = collectUpdates();
+        }
+
+        // Solo este hilo reemplaza la foto, así que se puede leer sin el candado
+        long start = System.nanoTime();
+        Path snapshot = Paths.get(snapshotPath);
+        Path temp = snapshot.resolveSibling(snapshot.getFileName() + ".compact");
+        try {
+            XMLPlayerManager.compactPlayers(snapshotPath, temp, includedSequence, updates);
+            // La foto y el journal cambian juntos para quien los lea
+            synchronized (this) {
+                Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                journal.truncate(includedSequence);
+            }
+        } catch (Exception e) {
+            LOG.log(Level.ERROR, "Error al compactar los jugadores", e);
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException deleteError) {
+                LOG.log(Level.WARNING, "No se pudo borrar " + temp, deleteError);
+            }
+            return false;
+        } finally {
+            FileTimings.record("PlayerStore.compact", start);
+        }
+        LOG.log(Level.DEBUG, () -> "Jugadores compactados hasta la entrada " + includedSequence +
+                ", " + updates.size() + " jugadores con cambios");
+        return true;
+    }
+
+    /**
+     * Agrupa por jugador las entradas del journal posteriores a la foto.
+     */
+    private Map<String, PlayerUpdate> collectUpdates() {
+        Map<String, PlayerUpdate> updates = new LinkedHashMap<>();
+        journal.replay(fields -> {
+            if (!isAccount(fields) && !isScore(fields)) return false;
+            PlayerUpdate update = updates.computeIfAbsent(fields[2], name -> new PlayerUpdate());
+            if (isAccount(fields)) {
+                update.account = toPlayer(fields);
+            } else {
+                GameScore score = toScore(fields);
+                if (update.account == null) {
+                    update.scoresBeforeAccount++;
+                }
+                update.scores.add(score);
+            }
+            return true;
+        });
+        return updates;
+    }
+
+    /**
+     * Aplica a un mapa de jugadores las entradas del journal posteriores a la foto.
+     */
+    private int replayJournal(Map<String, Player> players) {
+        return journal.replay(fields -> {
+            if (isAccount(fields)) {
+                Player player = toPlayer(fields);
+                // Los datos de cuenta cambian, las puntuaciones se conservan
+                Player previous = players.get(player.getName());
+                if (previous != null) {
+                    for (GameScore score : previous.getScores()) {
+                        player.addScore(score);
+                    }
+                }
+                players.put(player.getName(), player);
+                return true;
+            }
+            Player player = isScore(fields) ? players.get(fields[2]) : null;
+            if (player != null) {
+                player.addScore(toScore(fields));
+                return true;
+            }
+            return false;
+        });
+    }
+
+    // Las entradas incompletas no son de ningún tipo y se ignoran
+    private static boolean isAccount(String[] fields) {
+        return fields.length == 6 && ACCOUNT.equals(fields[1]);
+    }
+
+    private static boolean isScore(String[] fields) {
+        return fields.length == 8 && SCORE.equals(fields[1]);
+    }
+
+    private static Player toPlayer(String[] fields) {
+        Player player = new Player(fields[2], fields[3], fields[4]);
+        if (!fields[5].isEmpty()) {
+            player.setRecoveryToken(fields[5]);
+        }
+        return player;
+    }
+
+    private static GameScore toScore(String[] fields) {
+        return new GameScore(fields[2],
+            Integer.parseInt(fields[4]),
+            Integer.parseInt(fields[5]),
+            Integer.parseInt(fields[6]),
+            fields[3],
+            Integer.parseInt(fields[7]));
+    }
+}
@@ -0,0 +1,211 @@
+package persistence;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Stack;
+
+import model.config.Configuration;
+import model.game.FutoshikiBoard;
+import model.game.GameState;
+import model.game.Move;
+import model.game.PuzzleId;
+
+/**
+ * Formato binario compacto de una partida guardada.
+ *
+ * Formato (enteros de largo fijo en big-endian, textos con {@link DataOutputStream#writeUTF}):
+ * <pre>
+ * encabezado:    "FTSV" | versión (byte)
+ * partida:       jugador | dificultad | identificador de la partida ("" si no tiene) | tamaño (byte)
+ * pistas:        tamaño² bytes, con el formato de celda de {@link BinaryCatalog}
+ * jugadas:       valores puestos por el jugador, dos celdas por byte (4 bits cada una)
+ * temporizador:  tipo | horas | minutos | segundos (varint) | vencido (byte)
+ * configuración: tamaño (byte) | dificultad | multinivel (byte) | posición del panel
+ * historial:     cantidad (varint) + jugadas para deshacer, cantidad (varint) + jugadas para rehacer
+ * </pre>
+ * Cada jugada del historial se guarda como la diferencia con la celda de la
+ * jugada anterior (varint en zigzag) seguida de un byte con el valor nuevo en
+ * los 4 bits altos y el anterior en los 4 bajos, así que las jugadas seguidas en
+ * celdas cercanas ocupan dos bytes.
+ */
+public class SaveCodec {
+    /** Marca de inicio del archivo ("FTSV") */
+    private static final int MAGIC = 0x46545356;
+    /** Versión del formato */
+    private static final int VERSION = 1;
+    private static final int NIBBLE_MASK = 0x0F;
+
+    /**
+     * Codifica una partida.
+     *
+     * @param gameState El estado del juego.
+     * @param playerName El nombre del jugador.
+     * @param config La configuración del juego.
+     * @param timerType El tipo de temporizador.
+     * @param hours Las horas transcurridas.
+     * @param minutes Los minutos transcurridos.
+     * @param seconds Los segundos transcurridos.
+     * @param expired true si el temporizador se venció.
+     * @return Los bytes de la partida guardada.
+     * @throws IOException Si no se pudo codificar.
+     */
+    public static byte[] encode(GameState gameState, String playerName, Configuration config,
+                                String timerType, int hours, int minutes, int seconds, boolean expired) throws IOException {
+        FutoshikiBoard board = gameState.getBoard();
+        int size = board.getSize();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + size * size * 2);
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeUTF(playerName);
+        out.writeUTF(gameState.getDifficulty());
+        out.writeUTF(board.getPuzzleId() == null ? "" : board.getPuzzleId().toString());
+        out.writeByte(size);
+
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                out.writeByte(BinaryCatalog.packCell(board, i, j));
+            }
+        }
+
+        byte[] entered = new byte[(size * size + 1) / 2];
+        for (int cell = 0; cell < size * size; cell++) {
+            int row = cell / size;
+            int col = cell % size;
+            if (!board.isConstant(row, col)) {
+                int shift = (cell & 1) * 4;
+                entered[cell >> 1] = (byte) (entered[cell >> 1] | (board.getValue(row, col) << shift));
+            }
+        }
+        out.write(entered);
+
+        out.writeUTF(timerType == null ? "" : timerType);
+        writeVarint(out, hours);
+        writeVarint(out, minutes);
+        writeVarint(out, seconds);
+        out.writeBoolean(expired);
+
+        out.writeByte(config.getGridSize());
+        out.writeUTF(config.getDifficulty());
+        out.writeBoolean(config.isMultiLevel());
+        out.writeUTF(config.getDigitPanelPosition());
+
+        writeMoves(out, gameState.getMoves(), size);
+        writeMoves(out, gameState.getUndoneMoves(), size);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodifica una partida.
+     *
+     * @param data Los bytes de la partida guardada.
+     * @return El estado del juego, con su temporizador y su historial de jugadas.
+     * @throws IOException Si los bytes no tienen el formato esperado.
+     */
+    public static GameState decode(byte[] data) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("No es una partida guardada");
+        }
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Versión de partida guardada no soportada: " + version);
+        }
+
+        in.readUTF(); // jugador
+        String difficulty = in.readUTF();
+        String puzzleId = in.readUTF();
+        int size = in.readUnsignedByte();
+
+        FutoshikiBoard board = new FutoshikiBoard(size);
+        if (!puzzleId.isEmpty()) {
+            board.setPuzzleId(PuzzleId.parse(puzzleId));
+        }
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                BinaryCatalog.unpackCell(board, i, j, in.readUnsignedByte());
+            }
+        }
+
+        byte[] entered = new byte[(size * size + 1) / 2];
+        in.readFully(entered);
+        for (int cell = 0; cell < size * size; cell++) {
+            int value = (entered[cell >> 1] >> ((cell & 1) * 4)) & NIBBLE_MASK;
+            if (value > 0) {
+                board.restoreValue(cell / size, cell % size, value);
+            }
+        }
+
+        GameState gameState = new GameState(board, difficulty, "");
+        String timerType = in.readUTF();
+        int hours = readVarint(in);
+        int minutes = readVarint(in);
+        int seconds = readVarint(in);
+        in.readBoolean(); // vencido
+        if (!timerType.isEmpty()) {
+            gameState.setSavedTimer(timerType, hours, minutes, seconds);
+        }
+
+        // La configuración se guarda como referencia; al cargar se usa la actual
+        in.readUnsignedByte();
+        in.readUTF();
+        in.readBoolean();
+        in.readUTF();
+
+        readMoves(in, gameState.getMoves(), size);
+        readMoves(in, gameState.getUndoneMoves(), size);
+        return gameState;
+    }
+
+    private static void writeMoves(DataOutputStream out, Stack<Move> moves, int size) throws IOException {
+        writeVarint(out, moves.size());
+        int previous = 0;
+        for (Move move : moves) {
+            int cell = move.getRow() * size + move.getColumn();
+            int delta = cell - previous;
+            writeVarint(out, (delta << 1) ^ (delta >> 31));
+            out.writeByte(move.getValue() << 4 | move.getPreviousValue());
+            previous = cell;
+        }
+    }
+
+    private static void readMoves(DataInputStream in, Stack<Move> moves, int size) throws IOException {
+        int count = readVarint(in);
+        int previous = 0;
+        for (int i = 0; i < count; i++) {
+            int zigzag = readVarint(in);
+            int cell = previous + ((zigzag >>> 1) ^ -(zigzag & 1));
+            int values = in.readUnsignedByte();
+            if (cell < 0 || cell >= size * size) {
+                throw new IOException("Jugada fuera del tablero: " + cell);
+            }
+            moves.push(new Move(cell / size, cell % size, values >>> 4, values & NIBBLE_MASK));
+            previous = cell;
+        }
+    }
+
+    private static void writeVarint(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarint(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Varint demasiado largo");
+    }
+}
@@ -1,207 +1,205 @@
 package persistence;
 
-import java.io.File;
-import java.util.ArrayList;
+import java.io.IOException;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
+import java.util.Set;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
-import view.game.ScoreboardView;
 
 import model.game.GameScore;
 import util.constants.FileConstants;
 import util.constants.GameConstants;
+import util.log.Logs;
 
+/**
+ * Administrador del Top 10.
+ *
+ * Los scores en memoria, guardados en un {@link LeaderboardIndex} por
+ * dificultad y tamaño, son la fuente de verdad. Cada score nuevo que entra al
+ * índice se agrega al final de un {@link Journal}. Cada cierta cantidad de
+ * entradas el journal se compacta: se reescribe la foto completa en el XML del
+ * Top 10 y se vacía el journal. Al iniciar se carga la foto y se vuelven a
+ * aplicar las entradas del journal posteriores a ella.
+ *
+ * Formato de las líneas del journal:
+ * <pre>
+ * número | dificultad | tamaño | horas | minutos | segundos | jugador
+ * </pre>
+ */
 public class Top10Manager {
-    private Map<String, List<GameScore>> scoresByLevel;
+    private static final Logger LOG = Logs.get(Top10Manager.class);
+
+    private final LeaderboardIndex leaderboard;
     private static Top10Manager instance;
 
+    private final String snapshotPath;
+    private final Journal journal;
+
     /**
      * Constructor de Top10Manager.
      * Inicializa el mapa de scores por nivel y carga los scores desde el archivo.
      */
     public Top10Manager() {
-        scoresByLevel = new HashMap<>();
-        scoresByLevel.put(GameConstants.LEVEL_EASY, new ArrayList<>());
-        scoresByLevel.put(GameConstants.LEVEL_MEDIUM, new ArrayList<>());
-        scoresByLevel.put(GameConstants.LEVEL_HARD, new ArrayList<>());
-        loadScores();
+        this(FileConstants.TOP10_FILE, FileConstants.TOP10_JOURNAL_FILE);
     }
-    
+
     /**
-     * Intenta agregar un nuevo score al Top 10.
-     * 
-     * @param score El score a agregar.
-     * @return true si el score fue agregado (entró al top 10), false en caso contrario.
+     * Constructor de Top10Manager con rutas de archivo explícitas.
+     *
+     * @param snapshotPath La ruta de la foto XML del Top 10.
+     * @param journalPath La ruta del journal de scores.
      */
-    public boolean addScore(GameScore score) {
-        System.out.println("\n=== AÑADIENDO NUEVO SCORE ===");
-        System.out.println("Score a añadir:");
-        System.out.println("- Jugador: " + score.getPlayerName());
-        System.out.println("- Tiempo: " + score.getHours() + ":" + 
-                          score.getMinutes() + ":" + score.getSeconds());
-        System.out.println("- Dificultad: " + score.getDifficulty());
-        System.out.println("- Tamaño: " + score.getGridSize());
-
-        try {
-            // Cargar scores existentes primero
-            Document doc;
-            Element rootElement;
-            File file = new File(FileConstants.TOP10_FILE);
-            
-            if (file.exists()) {
-                DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-                DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-                doc = dBuilder.parse(file);
-                rootElement = doc.getDocumentElement();
-            } else {
-                DocumentBuilderFactory docFactory = DocumentBuilderFactory.newInstance();
-                DocumentBuilder docBuilder = docFactory.newDocumentBuilder();
-                doc = docBuilder.newDocument();
-                rootElement = doc.createElement("top10");
-                doc.appendChild(rootElement);
-            }
+    public Top10Manager(String snapshotPath, String journalPath) {
+        this(snapshotPath, journalPath, GameConstants.LEADERBOARD_SIZE);
+    }
 
-            // Buscar o crear el elemento del nivel
-            Element nivelElement = null;
-            NodeList niveles = doc.getElementsByTagName("nivel");
-            for (int i = 0; i < niveles.getLength(); i++) {
-                Element nivel = (Element) niveles.item(i);
-                if (nivel.getAttribute("dificultad").equals(score.getDifficulty())) {
-                    nivelElement = nivel;
-                    break;
-                }
-            }
+    /**
+     * Constructor de Top10Manager con rutas de archivo y capacidad explícitas.
+     *
+     * @param snapshotPath La ruta de la foto XML del Top 10.
+     * @param journalPath La ruta del journal de scores.
+     * @param capacity Cantidad de scores que se guardan por dificultad y tamaño
+     *                 (al menos {@link GameConstants#TOP_10_SIZE}).
+     */
+    public Top10Manager(String snapshotPath, String journalPath, int capacity) {
+        this.snapshotPath = snapshotPath;
+        this.leaderboard = new LeaderboardIndex(Math.max(capacity, GameConstants.TOP_10_SIZE));
+        this.journal = new Journal(journalPath, "del Top 10", loadScores());
+        replayJournal();
+    }
 
-            if (nivelElement == null) {
-                nivelElement = doc.createElement("nivel");
-                nivelElement.setAttribute("dificultad", score.getDifficulty());
-                rootElement.appendChild(nivelElement);
-            }
+    /**
+     * Intenta agregar un nuevo score al Top 10.
+     *
+     * @param score El score a agregar.
+     * @return true si el score fue agregado (entró entre los mejores guardados), false en caso contrario.
+     */
+    public synchronized boolean addScore(GameScore score) {
+        LOG.log(Level.DEBUG, () -> "Añadiendo score de " + score.getPlayerName() +
+                ": " + score.getHours() + ":" + score.getMinutes() + ":" + score.getSeconds() +
+                ", " + score.getDifficulty() + " " + score.getGridSize() + "x" + score.getGridSize());
 
-            // Crear nuevo elemento score
-            Element scoreElement = doc.createElement("score");
-            scoreElement.setAttribute("jugador", score.getPlayerName());
-            scoreElement.setAttribute("horas", String.valueOf(score.getHours()));
-            scoreElement.setAttribute("minutos", String.valueOf(score.getMinutes()));
-            scoreElement.setAttribute("segundos", String.valueOf(score.getSeconds()));
-            scoreElement.setAttribute("tamano", String.valueOf(score.getGridSize()));
-
-            // Añadir nuevo score
-            nivelElement.appendChild(scoreElement);
-
-            // Ordenar y mantener solo los mejores 10 scores por nivel y tamaño
-            List<Element> scoreElements = new ArrayList<>();
-            NodeList scores = nivelElement.getElementsByTagName("score");
-            for (int i = 0; i < scores.getLength(); i++) {
-                scoreElements.add((Element) scores.item(i));
-            }
+        if (leaderboard.add(score) < 0) {
+            LOG.log(Level.DEBUG, "El score no entra al Top 10");
+            return false;
+        }
 
-            // Ordenar por tiempo y filtrar por tamaño
-            final int finalSize = score.getGridSize();
-            scoreElements.removeIf(e -> Integer.parseInt(e.getAttribute("tamano")) != finalSize);
-            scoreElements.sort((a, b) -> compareScores(a, b));
+        try {
+            journal.append(score.getDifficulty(), String.valueOf(score.getGridSize()),
+                String.valueOf(score.getHours()), String.valueOf(score.getMinutes()),
+                String.valueOf(score.getSeconds()), score.getPlayerName());
+        } catch (IOException e) {
+            LOG.log(Level.ERROR, "Error al guardar el score", e);
+            return false;
+        }
+        LOG.log(Level.DEBUG, "Score guardado en el journal");
 
-            // Mantener solo los mejores 10
-            while (scoreElements.size() > 10) {
-                Element lastScore = scoreElements.remove(scoreElements.size() - 1);
-                nivelElement.removeChild(lastScore);
-            }
+        if (journal.isCompactionDue(GameConstants.TOP_10_COMPACTION_THRESHOLD)) {
+            compact();
+        }
+        return true;
+    }
 
-            // Guardar el documento
-            TransformerFactory transformerFactory = TransformerFactory.newInstance();
-            Transformer transformer = transformerFactory.newTransformer();
-            transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-            transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "4");
-            
-            DOMSource source = new DOMSource(doc);
-            StreamResult result = new StreamResult(file);
-            transformer.transform(source, result);
-            
-            System.out.println("Score guardado exitosamente en " + file.getAbsolutePath());
-            return true;
-            
-        } catch (Exception e) {
-            System.err.println("Error al guardar el score: " + e.getMessage());
-            e.printStackTrace();
+    /**
+     * Reescribe la foto del Top 10 con los scores en memoria y vacía el journal.
+     *
+     * @return true si la compactación se completó, false en caso contrario.
+     */
+    public synchronized boolean compact() {
+        if (!saveScores()) {
             return false;
         }
+        journal.truncate(journal.getLastSequence());
+        return true;
     }
 
-    private int compareScores(Element a, Element b) {
-        int hoursA = Integer.parseInt(a.getAttribute("horas"));
-        int minutesA = Integer.parseInt(a.getAttribute("minutos"));
-        int secondsA = Integer.parseInt(a.getAttribute("segundos"));
-        
-        int hoursB = Integer.parseInt(b.getAttribute("horas"));
-        int minutesB = Integer.parseInt(b.getAttribute("minutos"));
-        int secondsB = Integer.parseInt(b.getAttribute("segundos"));
-        
-        int totalSecondsA = hoursA * 3600 + minutesA * 60 + secondsA;
-        int totalSecondsB = hoursB * 3600 + minutesB * 60 + secondsB;
-        
-        return Integer.compare(totalSecondsA, totalSecondsB);
-    }
-    
     /**
      * Obtiene los scores de un nivel específico.
-     * 
+     *
      * @param level El nivel de dificultad.
      * @return Una lista de scores para el nivel especificado.
      */
     public List<GameScore> getScoresByLevel(String level) {
-        return new ArrayList<>(scoresByLevel.get(level));
+        List<GameScore> scores = leaderboard.getLevel(level);
+        sortScores(scores);
+        return scores;
     }
-    
+
     /**
      * Obtiene los scores de un nivel y tamaño específico.
-     * 
+     *
      * @param difficulty La dificultad del nivel.
      * @param size El tamaño del tablero.
      * @return Una lista de scores para el nivel y tamaño especificado.
      */
     public List<GameScore> getScoresByLevelAndSize(String difficulty, int size) {
-        List<GameScore> allScores = new ArrayList<>();
-        for (GameScore score : scoresByLevel.get(difficulty)) {
-            if (score.getGridSize() == size) {
-                allScores.add(score);
-            }
-        }
-        Collections.sort(allScores);
-        return allScores.size() > GameConstants.TOP_10_SIZE ? allScores.subList(0, GameConstants.TOP_10_SIZE) : allScores;
+        return getScoresByLevelAndSize(difficulty, size, GameConstants.TOP_10_SIZE);
+    }
+
+    /**
+     * Obtiene los mejores scores de un nivel y tamaño específico.
+     *
+     * @param difficulty La dificultad del nivel.
+     * @param size El tamaño del tablero.
+     * @param limit La cantidad máxima de scores.
+     * @return Una lista de scores ordenada de menor a mayor tiempo.
+     */
+    public List<GameScore> getScoresByLevelAndSize(String difficulty, int size, int limit) {
+        return leaderboard.top(difficulty, size, limit);
+    }
+
+    /**
+     * Aplica las entradas del journal posteriores a la foto cargada.
+     */
+    private void replayJournal() {
+        int applied = journal.replay(fields -> {
+            if (fields.length != 7) return false;
+            leaderboard.add(new GameScore(
+                fields[6],
+                Integer.parseInt(fields[3]),
+                Integer.parseInt(fields[4]),
+                Integer.parseInt(fields[5]),
+                fields[1],
+                Integer.parseInt(fields[2])
+            ));
+            return true;
+        });
+        LOG.log(Level.INFO, () -> applied + " entradas del journal aplicadas");
     }
 
     /**
      * Carga los scores desde el archivo.
+     *
+     * @return La última entrada del journal incluida en el archivo, o 0 si no se pudo leer.
      */
-    private void loadScores() {
+    private long loadScores() {
+        Path path = Paths.get(snapshotPath);
+        if (!Files.exists(path)) return 0;
+
+        long snapshotSequence = 0;
+        long start = System.nanoTime();
         try {
-            File file = new File(FileConstants.TOP10_FILE);
-            if (!file.exists()) return;
+            Document doc = XMLPool.parse(path.toFile());
 
-            DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-            Document doc = dBuilder.parse(file);
-            doc.getDocumentElement().normalize();
+            String journalAttribute = doc.getDocumentElement().getAttribute("journal");
+            snapshotSequence = journalAttribute.isEmpty() ? 0 : Long.parseLong(journalAttribute);
 
             NodeList niveles = doc.getElementsByTagName("nivel");
             for (int i = 0; i < niveles.getLength(); i++) {
                 Element nivelElement = (Element) niveles.item(i);
                 String dificultad = nivelElement.getAttribute("dificultad");
-                
-                List<GameScore> levelScores = new ArrayList<>();
+
                 NodeList scores = nivelElement.getElementsByTagName("score");
-                
+
                 for (int j = 0; j < scores.getLength(); j++) {
                     Element scoreElement = (Element) scores.item(j);
                     GameScore score = new GameScore(
@@ -212,122 +210,100 @@ public class Top10Manager {
                         dificultad,
                         Integer.parseInt(scoreElement.getAttribute("tamano"))
                     );
-                    levelScores.add(score);
+                    leaderboard.add(score);
                 }
-                
-                scoresByLevel.put(dificultad, levelScores);
             }
 
         } catch (Exception e) {
-            e.printStackTrace();
+            LOG.log(Level.ERROR, "Error al cargar los scores", e);
+        } finally {
+            FileTimings.record("Top10Manager.loadScores", start);
         }
+        return snapshotSequence;
     }
-    
+
     /**
-     * Guarda los scores en el archivo.
+     * Guarda los scores en el archivo con {@link XMLPool#write}.
      */
     private boolean saveScores() {
+        long start = System.nanoTime();
         try {
-            DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-            Document doc = dBuilder.newDocument();
+            Document doc = XMLPool.newDocument();
 
-            // Elemento raíz
+            // Elemento raíz, con la última entrada del journal incluida en la foto
             Element rootElement = doc.createElement("top10");
+            rootElement.setAttribute("journal", String.valueOf(journal.getLastSequence()));
             doc.appendChild(rootElement);
 
             // Por cada nivel de dificultad
-            for (Map.Entry<String, List<GameScore>> entry : scoresByLevel.entrySet()) {
+            Set<String> levels = new LinkedHashSet<>(Arrays.asList(
+                GameConstants.LEVEL_EASY, GameConstants.LEVEL_MEDIUM, GameConstants.LEVEL_HARD));
+            levels.addAll(leaderboard.getDifficulties());
+            for (String level : levels) {
                 Element levelElement = doc.createElement("nivel");
-                levelElement.setAttribute("dificultad", entry.getKey());
+                levelElement.setAttribute("dificultad", level);
 
-                // Agregar cada score
-                for (GameScore score : entry.getValue()) {
+                // Agregar cada score, agrupados por tamaño
+                for (GameScore score : leaderboard.getLevel(level)) {
                     Element scoreElement = doc.createElement("score");
                     scoreElement.setAttribute("jugador", score.getPlayerName());
                     scoreElement.setAttribute("horas", String.valueOf(score.getHours()));
                     scoreElement.setAttribute("minutos", String.valueOf(score.getMinutes()));
                     scoreElement.setAttribute("segundos", String.valueOf(score.getSeconds()));
                     scoreElement.setAttribute("tamano", String.valueOf(score.getGridSize()));
-                    
+
                     levelElement.appendChild(scoreElement);
                 }
-                
+
                 rootElement.appendChild(levelElement);
             }
 
             // Escribir el documento
-            TransformerFactory transformerFactory = TransformerFactory.newInstance();
-            Transformer transformer = transformerFactory.newTransformer();
-            transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-            
-            DOMSource source = new DOMSource(doc);
-            StreamResult result = new StreamResult(new File(FileConstants.TOP10_FILE));
-            transformer.transform(source, result);
-
-            System.out.println("Guardando scores en: " + FileConstants.TOP10_FILE);
+            XMLPool.write(doc, Paths.get(snapshotPath), XMLPool.transformer(4));
+
+            LOG.log(Level.DEBUG, () -> "Scores guardados en: " + snapshotPath);
             return true;
         } catch (Exception e) {
-            System.err.println("Error al guardar scores: " + e.getMessage());
-            e.printStackTrace();
+            LOG.log(Level.ERROR, "Error al guardar scores", e);
             return false;
+        } finally {
+            FileTimings.record("Top10Manager.saveScores", start);
         }
     }
-    
+
     /**
      * Ordena la lista de scores por tiempo (menor a mayor).
-     * 
+     *
      * @param scores La lista de scores a ordenar.
      */
     private void sortScores(List<GameScore> scores) {
         Collections.sort(scores);
     }
-    
+
     /**
      * Verifica si un tiempo calificaría para el Top 10.
-     * 
+     *
      * @param level El nivel de dificultad.
      * @param totalSeconds El tiempo total en segundos.
      * @param size El tamaño del tablero.
      * @return true si el tiempo calificaría para el Top 10, false en caso contrario.
      */
     public boolean wouldQualifyForTop10(String level, int totalSeconds, int size) {
-        System.out.println("\n=== VERIFICACIÓN DE CALIFICACIÓN TOP 10 ===");
-        System.out.println("Verificando para:");
-        System.out.println("- Dificultad: " + level);
-        System.out.println("- Tiempo: " + totalSeconds + " segundos");
-        System.out.println("- Tamaño: " + size);
-
-        List<GameScore> levelScores = getScoresByLevelAndSize(level, size);
-        System.out.println("Scores actuales para esta categoría: " + levelScores.size());
-
-        // Si no hay 10 scores, cualquier tiempo califica
-        if (levelScores.size() < GameConstants.TOP_10_SIZE) {
-            System.out.println("Califica automáticamente - Menos de 10 scores");
-            return true;
-        }
-        
-        // Comparar con el último score
-        GameScore lastScore = levelScores.get(levelScores.size() - 1);
-        int lastScoreSeconds = lastScore.getHours() * 3600 + 
-                             lastScore.getMinutes() * 60 + 
-                             lastScore.getSeconds();
-        
-        System.out.println("Último tiempo en top 10: " + lastScoreSeconds + " segundos");
-        System.out.println("¿Nuevo tiempo califica?: " + (totalSeconds < lastScoreSeconds));
-        
-        return totalSeconds < lastScoreSeconds;
+        boolean qualifies = leaderboard.qualifies(level, size, totalSeconds, GameConstants.TOP_10_SIZE);
+        LOG.log(Level.DEBUG, () -> totalSeconds + " segundos en " + level + " " + size + "x" + size +
+                           (qualifies ? " califica" : " no califica") + " para el Top 10");
+        return qualifies;
     }
 
     /**
      * Obtiene la instancia única de Top10Manager.
-     * 
+     *
      * @return La instancia de Top10Manager.
      */
-    public static Top10Manager getInstance() {
+    public static synchronized Top10Manager getInstance() {
         if (instance == null) {
             instance = new Top10Manager();
         }
         return instance;
     }
-}
\ No newline at end of file
+}
@@ -1,28 +1,51 @@
 package persistence;
 
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-
-import controller.game.RandomGames;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
+import model.game.FutoshikiBoard;
 import model.game.Inequality;
 import util.constants.FileConstants;
+import util.log.Logs;
 
+/**
+ * Lectura del catálogo de partidas.
+ *
+ * El archivo se recorre con StAX, una {@code <partida>} a la vez, así que la
+ * memoria no crece con el tamaño del catálogo: cada partida se guarda como un
+ * {@link GameData} compacto y las que no interesan se descartan sin crear
+ * objetos. {@link GameIndex} usa esto para contar las partidas por nivel y
+ * tamaño y cargar solo las que se piden.
+ */
 public class XMLHandler {
-    
+    private static final Logger LOG = Logs.get(XMLHandler.class);
+    // Tipos de desigualdad en el orden de sus códigos compactos
+    private static final String[] INEQUALITY_TYPES = {"maf", "mef", "mac", "mec"};
+
+    /**
+     * Filtro de partidas por nivel y tamaño, que se evalúa antes de crear el {@link GameData}.
+     */
+    public interface GameFilter {
+        boolean accept(String nivel, int tamano);
+    }
+
     /**
      * Carga las partidas desde el archivo XML.
-     * 
+     *
      * @return Un mapa que asocia el nivel de dificultad con una lista de datos de juego.
      */
     public static Map<String, List<GameData>> loadGames() {
@@ -30,110 +53,386 @@ public class XMLHandler {
         games.put("Facil", new ArrayList<>());
         games.put("Intermedio", new ArrayList<>());
         games.put("Dificil", new ArrayList<>());
-        
+
         try {
-            File xmlFile = new File(FileConstants.GAMES_FILE);
-            DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-            Document doc = dBuilder.parse(xmlFile);
-            doc.getDocumentElement().normalize();
-            
-            NodeList partidas = doc.getElementsByTagName("partida");
-            
-            for (int i = 0; i < partidas.getLength(); i++) {
-                Node partidaNode = partidas.item(i);
-                
-                if (partidaNode.getNodeType() == Node.ELEMENT_NODE) {
-                    Element partida = (Element) partidaNode;
-                    GameData gameData = parseGameData(partida);
-                    games.get(gameData.getNivel()).add(gameData);
-                }
-            }
-            
+            ParseStats stats = streamGames(FileConstants.GAMES_FILE, (nivel, tamano) -> true,
+                gameData -> games.computeIfAbsent(gameData.getNivel(), k -> new ArrayList<>()).add(gameData));
+            LOG.log(Level.INFO, () -> stats.toString());
         } catch (Exception e) {
-            e.printStackTrace();
+            LOG.log(Level.ERROR, "Error al cargar las partidas", e);
         }
-        
+
         return games;
     }
 
     /**
-     * Parsea los datos de una partida desde un elemento XML.
-     * 
-     * @param partida El elemento XML que representa una partida.
-     * @return Un objeto GameData con los datos de la partida.
+     * Crea el índice perezoso del catálogo de partidas.
+     *
+     * @return El índice, vacío si el archivo no se pudo leer.
+     */
+    public static GameIndex indexGames() {
+        return GameIndex.build(FileConstants.GAMES_FILE);
+    }
+
+    /**
+     * Recorre las partidas de un archivo una por una.
+     *
+     * @param path La ruta del archivo de partidas.
+     * @param filter Las partidas que se deben materializar.
+     * @param consumer Recibe cada partida aceptada por el filtro, en el orden del archivo.
+     * @return Las estadísticas de lectura.
+     * @throws Exception si el archivo no se puede leer o no es XML válido.
      */
+    public static ParseStats streamGames(String path, GameFilter filter, Consumer<GameData> consumer) throws Exception {
+        File file = new File(path);
+        long start = System.nanoTime();
+        int parsed = 0;
+        int accepted = 0;
 
-    private static GameData parseGameData(Element partida) {
-        String nivel = getElementContent(partida, "nivel");
-        int tamano = Integer.parseInt(getElementContent(partida, "cuadricula"));
-        
-        // Parsear desigualdades
-        List<Inequality> desigualdades = new ArrayList<>();
-        NodeList desigNodes = partida.getElementsByTagName("desigualdades");
-        for (int i = 0; i < desigNodes.getLength(); i++) {
-            String[] parts = desigNodes.item(i).getTextContent().split(",");
-            desigualdades.add(new Inequality(
-                parts[0],  // tipo
-                Integer.parseInt(parts[1].trim()),  // fila
-                Integer.parseInt(parts[2].trim())   // columna
-            ));
-        }
-        
-        // Parsear constantes
-        Map<String, Integer> constantes = new HashMap<>();
-        NodeList constNodes = partida.getElementsByTagName("constantes");
-        for (int i = 0; i < constNodes.getLength(); i++) {
-            String[] parts = constNodes.item(i).getTextContent().split(",");
-            String key = parts[1].trim() + "," + parts[2].trim(); // fila,columna
-            constantes.put(key, Integer.parseInt(parts[0].trim()));
-        }
-        
-        return new GameData(nivel, tamano, desigualdades, constantes);
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            XMLStreamReader reader = XMLPool.createReader(in);
+            try {
+                PartidaBuffer buffer = new PartidaBuffer();
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT && reader.getLocalName().equals("partida")) {
+                        buffer.read(reader);
+                        parsed++;
+                        if (buffer.nivel != null && filter.accept(buffer.nivel, buffer.tamano)) {
+                            consumer.accept(buffer.toGameData());
+                            accepted++;
+                        }
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } finally {
+            FileTimings.record("XMLHandler.streamGames", start);
+        }
+        return new ParseStats(parsed, accepted, file.length(), System.nanoTime() - start);
+    }
+
+    private static int typeCode(CharSequence text, int end) {
+        for (int code = 0; code < INEQUALITY_TYPES.length; code++) {
+            String type = INEQUALITY_TYPES[code];
+            if (end == type.length() && type.contentEquals(text.subSequence(0, end))) {
+                return code;
+            }
+        }
+        return -1;
+    }
+
+    // Estado reutilizable para leer una partida sin crear objetos intermedios
+    private static class PartidaBuffer {
+        private final StringBuilder text = new StringBuilder(16);
+        private final int[] fields = new int[3];
+        private String nivel;
+        private int tamano;
+        private byte[] desigualdades = new byte[48];
+        private int desigualdadesLength;
+        private byte[] constantes = new byte[48];
+        private int constantesLength;
+
+        /**
+         * Lee desde el inicio de {@code <partida>} hasta su cierre.
+         */
+        void read(XMLStreamReader reader) throws XMLStreamException {
+            nivel = null;
+            tamano = 0;
+            desigualdadesLength = 0;
+            constantesLength = 0;
+
+            int depth = 1;
+            while (depth > 0 && reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                } else if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if (name.equals("nivel")) {
+                        readText(reader);
+                        nivel = intern(text);
+                    } else if (name.equals("cuadricula")) {
+                        readText(reader);
+                        tamano = parseInts(text, 0, 1) == 1 ? fields[0] : 0;
+                    } else if (name.equals("desigualdades")) {
+                        readText(reader);
+                        int comma = indexOf(text, ',');
+                        int code = comma < 0 ? -1 : typeCode(text, comma);
+                        if (code >= 0 && parseInts(text, comma + 1, 2) == 2) {
+                            desigualdades = append(desigualdades, desigualdadesLength, code, fields[0], fields[1]);
+                            desigualdadesLength += 3;
+                        } else {
+                            LOG.log(Level.WARNING, "Desigualdad inválida ignorada: " + text);
+                        }
+                    } else if (name.equals("constantes")) {
+                        readText(reader);
+                        if (parseInts(text, 0, 3) == 3) {
+                            constantes = append(constantes, constantesLength, fields[0], fields[1], fields[2]);
+                            constantesLength += 3;
+                        } else {
+                            LOG.log(Level.WARNING, "Constante inválida ignorada: " + text);
+                        }
+                    } else {
+                        depth++;
+                    }
+                }
+            }
+        }
+
+        GameData toGameData() {
+            return new GameData(nivel, tamano,
+                Arrays.copyOf(desigualdades, desigualdadesLength),
+                Arrays.copyOf(constantes, constantesLength));
+        }
+
+        // Acumula el texto del elemento actual hasta su cierre, que se consume
+        private void readText(XMLStreamReader reader) throws XMLStreamException {
+            text.setLength(0);
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                        || event == XMLStreamConstants.SPACE) {
+                    text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    break;
+                }
+            }
+        }
+
+        /**
+         * Lee enteros separados por comas a partir de una posición.
+         *
+         * @return La cantidad de enteros leídos en {@code fields}.
+         */
+        private int parseInts(CharSequence s, int from, int count) {
+            int read = 0;
+            int i = from;
+            int length = s.length();
+            while (read < count && i < length) {
+                while (i < length && Character.isWhitespace(s.charAt(i))) i++;
+                int value = 0;
+                int digits = 0;
+                while (i < length && s.charAt(i) >= '0' && s.charAt(i) <= '9') {
+                    value = value * 10 + (s.charAt(i++) - '0');
+                    digits++;
+                }
+                if (digits == 0) {
+                    return read;
+                }
+                fields[read++] = value;
+                while (i < length && Character.isWhitespace(s.charAt(i))) i++;
+                if (i < length && s.charAt(i) == ',') i++;
+            }
+            return read;
+        }
+
+        private static int indexOf(CharSequence s, char c) {
+            for (int i = 0; i < s.length(); i++) {
+                if (s.charAt(i) == c) return i;
+            }
+            return -1;
+        }
+
+        private static byte[] append(byte[] data, int length, int a, int b, int c) {
+            if (length + 3 > data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+            }
+            data[length] = (byte) a;
+            data[length + 1] = (byte) b;
+            data[length + 2] = (byte) c;
+            return data;
+        }
+
+        // Los niveles conocidos se comparten en vez de crear una cadena por partida
+        private static String intern(CharSequence s) {
+            String value = s.toString().trim();
+            switch (value) {
+                case "Facil":
+                    return "Facil";
+                case "Intermedio":
+                    return "Intermedio";
+                case "Dificil":
+                    return "Dificil";
+                default:
+                    return value;
+            }
+        }
     }
-    
+
     /**
-     * Obtiene el contenido de texto de un elemento hijo especificado.
-     * 
-     * @param parent El elemento padre.
-     * @param tagName El nombre de la etiqueta del elemento hijo.
-     * @return El contenido de texto del elemento hijo, o una cadena vacía si no se encuentra.
+     * Estadísticas de una lectura del catálogo.
      */
-    private static String getElementContent(Element parent, String tagName) {
-        NodeList nodes = parent.getElementsByTagName(tagName);
-        if (nodes.getLength() > 0) {
-            return nodes.item(0).getTextContent();
+    public static class ParseStats {
+        private final int parsed;
+        private final int accepted;
+        private final long bytes;
+        private final long nanos;
+
+        ParseStats(int parsed, int accepted, long bytes, long nanos) {
+            this.parsed = parsed;
+            this.accepted = accepted;
+            this.bytes = bytes;
+            this.nanos = nanos;
+        }
+
+        // Getters
+        public int getParsed() { return parsed; }
+        public int getAccepted() { return accepted; }
+        public long getBytes() { return bytes; }
+        public long getNanos() { return nanos; }
+
+        /**
+         * Obtiene la velocidad de lectura en partidas por segundo.
+         *
+         * @return Las partidas leídas por segundo.
+         */
+        public double getGamesPerSecond() {
+            return nanos == 0 ? 0 : parsed * 1_000_000_000.0 / nanos;
+        }
+
+        /**
+         * Obtiene la velocidad de lectura en megabytes por segundo.
+         *
+         * @return Los megabytes leídos por segundo.
+         */
+        public double getMegabytesPerSecond() {
+            return nanos == 0 ? 0 : bytes * 1000.0 / nanos / 1.048576;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d partidas leídas (%d cargadas) en %.2f ms: %.0f partidas/s, %.2f MB/s",
+                parsed, accepted, nanos / 1_000_000.0, getGamesPerSecond(), getMegabytesPerSecond());
         }
-        return "";
     }
-    
+
     // Clase interna para almacenar los datos de una partida
     public static class GameData {
         private String nivel;
         private int tamano;
-        private List<Inequality> desigualdades;
-        private Map<String, Integer> constantes;
-        
+        // Tripletas (tipo, fila, columna) con el tipo como índice en INEQUALITY_TYPES
+        private byte[] desigualdades;
+        // Tripletas (valor, fila, columna)
+        private byte[] constantes;
+
         /**
          * Constructor para crear una instancia de GameData.
-         * 
+         *
          * @param nivel El nivel de dificultad del juego.
          * @param tamano El tamaño de la cuadrícula del juego.
          * @param desigualdades La lista de desigualdades en el juego.
          * @param constantes Un mapa de constantes en el juego, indexado por "fila,columna".
          */
-        public GameData(String nivel, int tamano, List<Inequality> desigualdades, 
+        public GameData(String nivel, int tamano, List<Inequality> desigualdades,
                        Map<String, Integer> constantes) {
             this.nivel = nivel;
             this.tamano = tamano;
+            this.desigualdades = new byte[desigualdades.size() * 3];
+            this.constantes = new byte[constantes.size() * 3];
+
+            int length = 0;
+            for (Inequality inequality : desigualdades) {
+                int code = Arrays.asList(INEQUALITY_TYPES).indexOf(inequality.getType());
+                if (code >= 0) {
+                    this.desigualdades[length++] = (byte) code;
+                    this.desigualdades[length++] = (byte) inequality.getRow1();
+                    this.desigualdades[length++] = (byte) inequality.getCol1();
+                }
+            }
+            this.desigualdades = Arrays.copyOf(this.desigualdades, length);
+
+            length = 0;
+            for (Map.Entry<String, Integer> entry : constantes.entrySet()) {
+                String[] coords = entry.getKey().split(",");
+                this.constantes[length++] = entry.getValue().byteValue();
+                this.constantes[length++] = (byte) Integer.parseInt(coords[0].trim());
+                this.constantes[length++] = (byte) Integer.parseInt(coords[1].trim());
+            }
+        }
+
+        GameData(String nivel, int tamano, byte[] desigualdades, byte[] constantes) {
+            this.nivel = nivel;
+            this.tamano = tamano;
             this.desigualdades = desigualdades;
             this.constantes = constantes;
         }
-        
+
         // Getters
         public String getNivel() { return nivel; }
         public int getTamano() { return tamano; }
-        public List<Inequality> getDesigualdades() { return desigualdades; }
-        public Map<String, Integer> getConstantes() { return constantes; }
+
+        /**
+         * Obtiene las desigualdades de la partida. La lista se crea en cada llamada.
+         *
+         * @return La lista de desigualdades.
+         */
+        public List<Inequality> getDesigualdades() {
+            List<Inequality> list = new ArrayList<>(desigualdades.length / 3);
+            for (int i = 0; i < desigualdades.length; i += 3) {
+                list.add(new Inequality(INEQUALITY_TYPES[desigualdades[i]], desigualdades[i + 1], desigualdades[i + 2]));
+            }
+            return list;
+        }
+
+        /**
+         * Obtiene las constantes de la partida, indexadas por "fila,columna". El mapa se crea en cada llamada.
+         *
+         * @return El mapa de constantes.
+         */
+        public Map<String, Integer> getConstantes() {
+            Map<String, Integer> map = new HashMap<>();
+            for (int i = 0; i < constantes.length; i += 3) {
+                map.put(constantes[i + 1] + "," + constantes[i + 2], (int) constantes[i]);
+            }
+            return map;
+        }
+
+        /**
+         * Escribe la partida con el formato de celda de {@link BinaryCatalog}: un byte por
+         * celda con el valor constante y las desigualdades hacia la derecha y hacia abajo.
+         * Se ignoran las pistas fuera del tablero.
+         *
+         * @param cells Arreglo de {@code tamano * tamano} bytes, que debe venir en cero.
+         */
+        void packInto(byte[] cells) {
+            for (int i = 0; i < constantes.length; i += 3) {
+                int row = constantes[i + 1];
+                int col = constantes[i + 2];
+                // Como en FutoshikiBoard.setConstant, la primera constante de una celda es la que queda
+                if (inside(row, col) && constantes[i] > 0 && constantes[i] <= BinaryCatalog.VALUE_MASK
+                        && (cells[row * tamano + col] & BinaryCatalog.VALUE_MASK) == 0) {
+                    cells[row * tamano + col] |= constantes[i];
+                }
+            }
+            for (int i = 0; i < desigualdades.length; i += 3) {
+                int row = desigualdades[i + 1];
+                int col = desigualdades[i + 2];
+                if (inside(row, col)) {
+                    int cell = row * tamano + col;
+                    cells[cell] = BinaryCatalog.withInequality(cells[cell], INEQUALITY_TYPES[desigualdades[i]]);
+                }
+            }
+        }
+
+        private boolean inside(int row, int col) {
+            return row >= 0 && row < tamano && col >= 0 && col < tamano;
+        }
+
+        /**
+         * Crea un tablero con las constantes y desigualdades de la partida.
+         *
+         * @return El tablero de Futoshiki.
+         */
+        public FutoshikiBoard toBoard() {
+            FutoshikiBoard board = new FutoshikiBoard(tamano);
+            for (int i = 0; i < constantes.length; i += 3) {
+                board.setConstant(constantes[i + 1], constantes[i + 2], constantes[i]);
+            }
+            for (int i = 0; i < desigualdades.length; i += 3) {
+                board.setInequality(INEQUALITY_TYPES[desigualdades[i]], desigualdades[i + 1], desigualdades[i + 2]);
+            }
+            return board;
+        }
     }
-}
\ No newline at end of file
+}
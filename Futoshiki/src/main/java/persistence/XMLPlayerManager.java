@@ -1,16 +1,27 @@
 package persistence;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -20,9 +31,25 @@ import org.w3c.dom.NodeList;
 import model.game.GameScore;
 import model.player.Player;
 import util.constants.FileConstants;
+import util.log.Logs;
 
 public class XMLPlayerManager {
+    private static final Logger LOG = Logs.get(XMLPlayerManager.class);
     private static final String PLAYERS_FILE = FileConstants.PLAYERS_FILE;
+    private static final String INDENT = "    ";
+
+    /**
+     * Cambios del journal de {@link PlayerStore} para un jugador, que se
+     * aplican al compactar el archivo.
+     */
+    static class PlayerUpdate {
+        // Últimos datos de cuenta, o null si solo hay puntuaciones nuevas
+        Player account;
+        // Puntuaciones nuevas, en el orden en que se registraron
+        final List<GameScore> scores = new ArrayList<>();
+        // Cuántas de ellas se registraron antes que los primeros datos de cuenta
+        int scoresBeforeAccount;
+    }
     
     /**
      * Guarda la lista de jugadores en un archivo XML.
@@ -31,13 +58,27 @@ public class XMLPlayerManager {
      * @return true si los jugadores se guardaron correctamente, false en caso de error.
      */
     public static boolean savePlayers(Map<String, Player> players) {
+        return savePlayers(players, PLAYERS_FILE, 0);
+    }
+
+    /**
+     * Guarda la lista de jugadores en un archivo XML con {@link XMLPool#write}.
+     * 
+     * @param players Un mapa que asocia nombres de jugadores con sus objetos Player.
+     * @param path La ruta del archivo.
+     * @param journalSequence La última entrada del journal de {@link PlayerStore} incluida.
+     * @return true si los jugadores se guardaron correctamente, false en caso de error.
+     */
+    public static boolean savePlayers(Map<String, Player> players, String path, long journalSequence) {
+        long start = System.nanoTime();
         try {
-            DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-            Document doc = dBuilder.newDocument();
+            Document doc = XMLPool.newDocument();
             
             // Elemento raíz
             Element rootElement = doc.createElement("jugadores");
+            if (journalSequence > 0) {
+                rootElement.setAttribute("journal", String.valueOf(journalSequence));
+            }
             doc.appendChild(rootElement);
             
             // Agregar cada jugador
@@ -70,6 +111,7 @@ public class XMLPlayerManager {
                     scoreElement.setAttribute("hours", String.valueOf(score.getHours()));
                     scoreElement.setAttribute("minutes", String.valueOf(score.getMinutes()));
                     scoreElement.setAttribute("seconds", String.valueOf(score.getSeconds()));
+                    scoreElement.setAttribute("size", String.valueOf(score.getGridSize()));
                     scoresElement.appendChild(scoreElement);
                 }
                 playerElement.appendChild(scoresElement);
@@ -78,18 +120,14 @@ public class XMLPlayerManager {
             }
             
             // Escribir al archivo
-            TransformerFactory transformerFactory = TransformerFactory.newInstance();
-            Transformer transformer = transformerFactory.newTransformer();
-            transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-            
-            DOMSource source = new DOMSource(doc);
-            StreamResult result = new StreamResult(new File(PLAYERS_FILE));
-            transformer.transform(source, result);
+            XMLPool.write(doc, Paths.get(path), XMLPool.transformer());
             
             return true;
         } catch (Exception e) {
-            e.printStackTrace();
+            LOG.log(Level.ERROR, "Error al guardar los jugadores", e);
             return false;
+        } finally {
+            FileTimings.record("XMLPlayerManager.savePlayers", start);
         }
     }
     
@@ -99,21 +137,29 @@ public class XMLPlayerManager {
      * @return Un mapa que asocia nombres de jugadores con sus objetos Player.
      */
     public static Map<String, Player> loadPlayers() {
+        return loadPlayers(PLAYERS_FILE);
+    }
+
+    /**
+     * Carga la lista de jugadores desde un archivo XML.
+     * 
+     * @param path La ruta del archivo.
+     * @return Un mapa que asocia nombres de jugadores con sus objetos Player.
+     */
+    public static Map<String, Player> loadPlayers(String path) {
         Map<String, Player> players = new HashMap<>();
+        long start = System.nanoTime();
         
         try {
-            File file = new File(PLAYERS_FILE);
-            System.out.println("XMLPlayerManager: Cargando jugadores desde " + file.getAbsolutePath());
+            File file = new File(path);
+            LOG.log(Level.DEBUG, () -> "Cargando jugadores desde " + file.getAbsolutePath());
             
             if (!file.exists()) {
-                System.out.println("XMLPlayerManager: Archivo de jugadores no existe");
+                LOG.log(Level.INFO, "Archivo de jugadores no existe");
                 return players;
             }
             
-            DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-            Document doc = dBuilder.parse(file);
-            doc.getDocumentElement().normalize();
+            Document doc = XMLPool.parse(file);
 
             NodeList playerNodes = doc.getElementsByTagName("jugador");
             
@@ -128,10 +174,7 @@ public class XMLPlayerManager {
                     String email = getElementContent(playerElement, "email");
                     String token = getElementContent(playerElement, "token");
 
-                    System.out.println("XMLPlayerManager: Jugador encontrado - " + name);
-                    System.out.println("XMLPlayerManager: Contraseña hash - " + passwordHash);
-                    System.out.println("XMLPlayerManager: Email - " + email);
-                    System.out.println("XMLPlayerManager: Token - " + token);
+                    LOG.log(Level.TRACE, () -> "Jugador encontrado - " + name);
                     
                     Player player = new Player(name, passwordHash, email);
                     if (token != null && !token.isEmpty()) {
@@ -146,8 +189,10 @@ public class XMLPlayerManager {
                         int hours = Integer.parseInt(scoreElement.getAttribute("hours"));
                         int minutes = Integer.parseInt(scoreElement.getAttribute("minutes"));
                         int seconds = Integer.parseInt(scoreElement.getAttribute("seconds"));
+                        // Los archivos anteriores no guardaban el tamaño
+                        int size = scoreElement.hasAttribute("size") ? Integer.parseInt(scoreElement.getAttribute("size")) : 5;
                         
-                        GameScore score = new GameScore(name, hours, minutes, seconds, difficulty, 5);
+                        GameScore score = new GameScore(name, hours, minutes, seconds, difficulty, size);
                         player.addScore(score);
                     }
                     
@@ -156,12 +201,312 @@ public class XMLPlayerManager {
             }
             
         } catch (Exception e) {
-            e.printStackTrace();
+            LOG.log(Level.ERROR, "Error al cargar los jugadores", e);
+        } finally {
+            FileTimings.record("XMLPlayerManager.loadPlayers", start);
         }
         
         return players;
     }
     
+    /**
+     * Obtiene la última entrada del journal de jugadores incluida en un archivo XML.
+     * 
+     * @param path La ruta del archivo.
+     * @return El número de la entrada, o 0 si el archivo no existe o no la indica.
+     */
+    public static long readJournalSequence(String path) {
+        File file = new File(path);
+        if (!file.exists()) {
+            return 0;
+        }
+        // Solo hace falta el elemento raíz, no se lee el resto del archivo
+        try (InputStream in = new FileInputStream(file)) {
+            XMLStreamReader reader = XMLPool.createReader(in);
+            try {
+                reader.nextTag();
+                String sequence = reader.getAttributeValue(null, "journal");
+                return sequence == null ? 0 : Long.parseLong(sequence);
+            } finally {
+                reader.close();
+            }
+        } catch (Exception e) {
+            LOG.log(Level.ERROR, "Error al leer la secuencia del journal de jugadores", e);
+            return 0;
+        }
+    }
+
+    /**
+     * Carga solo los datos de cuenta de los jugadores (nombre, contraseña, email
+     * y token), sin sus puntuaciones. El archivo se recorre con StAX y las
+     * puntuaciones se saltan sin crear objetos.
+     * 
+     * @param path La ruta del archivo.
+     * @return Un mapa de nombres a jugadores, con las listas de puntuaciones vacías.
+     */
+    public static Map<String, Player> loadAccounts(String path) {
+        Map<String, Player> players = new HashMap<>();
+        File file = new File(path);
+        if (!file.exists()) {
+            return players;
+        }
+
+        long start = System.nanoTime();
+        try (InputStream in = new FileInputStream(file)) {
+            XMLStreamReader reader = XMLPool.createReader(in);
+            try {
+                String name = null, passwordHash = null, email = null, token = null;
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        switch (reader.getLocalName()) {
+                            case "jugador": name = passwordHash = email = token = null; break;
+                            case "nombre": name = reader.getElementText(); break;
+                            case "password": passwordHash = reader.getElementText(); break;
+                            case "email": email = reader.getElementText(); break;
+                            case "token": token = reader.getElementText(); break;
+                            case "scores": skipElement(reader); break;
+                            default: break;
+                        }
+                    } else if (event == XMLStreamConstants.END_ELEMENT && "jugador".equals(reader.getLocalName())
+                            && name != null && passwordHash != null) {
+                        Player player = new Player(name, passwordHash, email == null ? "" : email);
+                        if (token != null && !token.isEmpty()) {
+                            player.setRecoveryToken(token);
+                        }
+                        players.put(name, player);
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (Exception e) {
+            LOG.log(Level.ERROR, "Error al cargar las cuentas", e);
+        } finally {
+            FileTimings.record("XMLPlayerManager.loadAccounts", start);
+        }
+        return players;
+    }
+
+    /**
+     * Carga las puntuaciones de un jugador, sin crear las de los demás.
+     * 
+     * @param path La ruta del archivo.
+     * @param playerName El nombre del jugador.
+     * @return Las puntuaciones del jugador, vacía si no está en el archivo.
+     */
+    public static List<GameScore> loadScores(String path, String playerName) {
+        List<GameScore> scores = new ArrayList<>();
+        File file = new File(path);
+        if (!file.exists()) {
+            return scores;
+        }
+
+        long start = System.nanoTime();
+        try (InputStream in = new FileInputStream(file)) {
+            XMLStreamReader reader = XMLPool.createReader(in);
+            try {
+                boolean found = false;
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        String element = reader.getLocalName();
+                        if ("nombre".equals(element)) {
+                            found = playerName.equals(reader.getElementText());
+                        } else if ("scores".equals(element) && !found) {
+                            skipElement(reader);
+                        } else if ("score".equals(element)) {
+                            scores.add(readScore(reader, playerName));
+                        }
+                    } else if (event == XMLStreamConstants.END_ELEMENT && found && "jugador".equals(reader.getLocalName())) {
+                        break;
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (Exception e) {
+            LOG.log(Level.ERROR, "Error al cargar las puntuaciones", e);
+        } finally {
+            FileTimings.record("XMLPlayerManager.loadScores", start);
+        }
+        return scores;
+    }
+
+    /**
+     * Escribe una copia del archivo de jugadores con los cambios del journal
+     * aplicados. El archivo se recorre con StAX y cada jugador se escribe en
+     * cuanto se termina de leer, así que en memoria solo están los cambios y el
+     * jugador en curso. Los datos de cuenta nuevos reemplazan a los del archivo
+     * y las puntuaciones nuevas se agregan a las que tenía; los jugadores que
+     * solo están en el journal se escriben al final.
+     * 
+     * @param sourcePath La ruta del archivo actual, que puede no existir.
+     * @param target La ruta donde se escribe la copia.
+     * @param journalSequence La última entrada del journal incluida en la copia.
+     * @param updates Los cambios, por nombre de jugador.
+     * @throws Exception Si no se pudo leer el archivo o escribir la copia.
+     */
+    static void compactPlayers(String sourcePath, Path target, long journalSequence,
+            Map<String, PlayerUpdate> updates) throws Exception {
+        long start = System.nanoTime();
+        Set<String> written = new HashSet<>();
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(target))) {
+            XMLStreamWriter writer = XMLPool.createWriter(out);
+            try {
+                writer.writeStartDocument("UTF-8", "1.0");
+                writer.writeCharacters("\n");
+                writer.writeStartElement("jugadores");
+                if (journalSequence > 0) {
+                    writer.writeAttribute("journal", String.valueOf(journalSequence));
+                }
+
+                File source = new File(sourcePath);
+                if (source.exists()) {
+                    try (InputStream in = new BufferedInputStream(new FileInputStream(source))) {
+                        XMLStreamReader reader = XMLPool.createReader(in);
+                        try {
+                            copyPlayers(reader, writer, updates, written);
+                        } finally {
+                            reader.close();
+                        }
+                    }
+                }
+
+                for (Map.Entry<String, PlayerUpdate> entry : updates.entrySet()) {
+                    PlayerUpdate update = entry.getValue();
+                    // Las puntuaciones de alguien que todavía no tenía cuenta no se guardan
+                    if (update.account != null && !written.contains(entry.getKey())) {
+                        Player player = update.account;
+                        writePlayer(writer, player.getName(), player.getPasswordHash(), player.getEmail(),
+                            player.getRecoveryToken(),
+                            update.scores.subList(update.scoresBeforeAccount, update.scores.size()));
+                    }
+                }
+
+                writer.writeCharacters("\n");
+                writer.writeEndElement();
+                writer.writeEndDocument();
+                writer.flush();
+            } finally {
+                writer.close();
+            }
+        } finally {
+            FileTimings.record("XMLPlayerManager.compactPlayers", start);
+        }
+    }
+
+    /**
+     * Copia los jugadores de un lector a un escritor, de a uno, aplicando sus cambios.
+     */
+    private static void copyPlayers(XMLStreamReader reader, XMLStreamWriter writer,
+            Map<String, PlayerUpdate> updates, Set<String> written) throws XMLStreamException {
+        String name = null, passwordHash = null, email = null, token = null;
+        List<GameScore> scores = new ArrayList<>();
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                    case "jugador": name = passwordHash = email = token = null; scores.clear(); break;
+                    case "nombre": name = reader.getElementText(); break;
+                    case "password": passwordHash = reader.getElementText(); break;
+                    case "email": email = reader.getElementText(); break;
+                    case "token": token = reader.getElementText(); break;
+                    case "score": scores.add(readScore(reader, name)); break;
+                    default: break;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT && "jugador".equals(reader.getLocalName())
+                    && name != null && passwordHash != null) {
+                PlayerUpdate update = updates.get(name);
+                if (update != null) {
+                    // Los datos de cuenta cambian, las puntuaciones se conservan
+                    if (update.account != null) {
+                        passwordHash = update.account.getPasswordHash();
+                        email = update.account.getEmail();
+                        token = update.account.getRecoveryToken();
+                    }
+                    scores.addAll(update.scores);
+                }
+                writePlayer(writer, name, passwordHash, email, token, scores);
+                written.add(name);
+            }
+        }
+    }
+
+    /**
+     * Escribe un jugador con el mismo formato que {@link #savePlayers}.
+     */
+    private static void writePlayer(XMLStreamWriter writer, String name, String passwordHash, String email,
+            String token, List<GameScore> scores) throws XMLStreamException {
+        newLine(writer, 1);
+        writer.writeStartElement("jugador");
+        writeElement(writer, "nombre", name);
+        writeElement(writer, "password", passwordHash);
+        writeElement(writer, "email", email == null ? "" : email);
+        if (token != null && !token.isEmpty()) {
+            writeElement(writer, "token", token);
+        }
+
+        newLine(writer, 2);
+        writer.writeStartElement("scores");
+        for (GameScore score : scores) {
+            newLine(writer, 3);
+            writer.writeEmptyElement("score");
+            writer.writeAttribute("difficulty", score.getDifficulty());
+            writer.writeAttribute("hours", String.valueOf(score.getHours()));
+            writer.writeAttribute("minutes", String.valueOf(score.getMinutes()));
+            writer.writeAttribute("seconds", String.valueOf(score.getSeconds()));
+            writer.writeAttribute("size", String.valueOf(score.getGridSize()));
+        }
+        if (!scores.isEmpty()) {
+            newLine(writer, 2);
+        }
+        writer.writeEndElement();
+
+        newLine(writer, 1);
+        writer.writeEndElement();
+    }
+
+    private static void writeElement(XMLStreamWriter writer, String name, String text) throws XMLStreamException {
+        newLine(writer, 2);
+        writer.writeStartElement(name);
+        writer.writeCharacters(text);
+        writer.writeEndElement();
+    }
+
+    private static void newLine(XMLStreamWriter writer, int depth) throws XMLStreamException {
+        writer.writeCharacters("\n" + INDENT.repeat(depth));
+    }
+
+    /**
+     * Lee la puntuación en la que está posicionado el lector.
+     */
+    private static GameScore readScore(XMLStreamReader reader, String playerName) {
+        // Los archivos anteriores no guardaban el tamaño
+        String size = reader.getAttributeValue(null, "size");
+        return new GameScore(playerName,
+            Integer.parseInt(reader.getAttributeValue(null, "hours")),
+            Integer.parseInt(reader.getAttributeValue(null, "minutes")),
+            Integer.parseInt(reader.getAttributeValue(null, "seconds")),
+            reader.getAttributeValue(null, "difficulty"),
+            size == null ? 5 : Integer.parseInt(size));
+    }
+
+    /**
+     * Avanza el lector hasta el cierre del elemento en que está posicionado.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
     /**
      * Obtiene el contenido de texto de un elemento hijo especificado.
      * 
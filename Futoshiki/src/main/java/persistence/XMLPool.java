@@ -0,0 +1,204 @@
+package persistence;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.w3c.dom.Document;
+
+/**
+ * Recursos XML compartidos por las clases de persistencia.
+ *
+ * Crear una fábrica de JAXP hace una búsqueda de proveedores en el classpath, lo
+ * que es lento, así que las fábricas se crean una sola vez. Los
+ * {@link DocumentBuilder} y {@link Transformer} no se pueden compartir entre
+ * hilos, por lo que cada hilo reutiliza los suyos y se reinician antes de cada
+ * uso. Las fábricas no garantizan ser seguras entre hilos, así que la creación
+ * de objetos a partir de ellas se sincroniza.
+ */
+public class XMLPool {
+    private static final String INDENT_AMOUNT = "{http://xml.apache.org/xslt}indent-amount";
+
+    private static final DocumentBuilderFactory BUILDER_FACTORY = DocumentBuilderFactory.newInstance();
+    private static final TransformerFactory TRANSFORMER_FACTORY = TransformerFactory.newInstance();
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+    private static final ThreadLocal<DocumentBuilder> BUILDERS = new ThreadLocal<>();
+    private static final ThreadLocal<Transformer> TRANSFORMERS = new ThreadLocal<>();
+
+    private XMLPool() {
+    }
+
+    /**
+     * Obtiene el DocumentBuilder del hilo actual, listo para usarse.
+     *
+     * @return El DocumentBuilder del hilo.
+     * @throws ParserConfigurationException Si no se pudo crear.
+     */
+    public static DocumentBuilder builder() throws ParserConfigurationException {
+        DocumentBuilder builder = BUILDERS.get();
+        if (builder == null) {
+            synchronized (BUILDER_FACTORY) {
+                builder = BUILDER_FACTORY.newDocumentBuilder();
+            }
+            BUILDERS.set(builder);
+        } else {
+            builder.reset();
+        }
+        return builder;
+    }
+
+    /**
+     * Crea un documento vacío.
+     *
+     * @return El documento nuevo.
+     * @throws ParserConfigurationException Si no se pudo crear el DocumentBuilder.
+     */
+    public static Document newDocument() throws ParserConfigurationException {
+        return builder().newDocument();
+    }
+
+    /**
+     * Lee un archivo XML completo.
+     *
+     * @param file El archivo.
+     * @return El documento, normalizado.
+     * @throws Exception Si el archivo no se puede leer o no es XML válido.
+     */
+    public static Document parse(File file) throws Exception {
+        Document doc = builder().parse(file);
+        doc.getDocumentElement().normalize();
+        return doc;
+    }
+
+    /**
+     * Obtiene el Transformer del hilo actual, sin propiedades de salida salvo la
+     * codificación UTF-8 y la indentación.
+     *
+     * @return El Transformer del hilo.
+     * @throws TransformerConfigurationException Si no se pudo crear.
+     */
+    public static Transformer transformer() throws TransformerConfigurationException {
+        Transformer transformer = TRANSFORMERS.get();
+        if (transformer == null) {
+            synchronized (TRANSFORMER_FACTORY) {
+                transformer = TRANSFORMER_FACTORY.newTransformer();
+            }
+            TRANSFORMERS.set(transformer);
+        } else {
+            transformer.reset();
+        }
+        transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
+        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+        return transformer;
+    }
+
+    /**
+     * Obtiene el Transformer del hilo actual con una cantidad de espacios de indentación.
+     *
+     * @param indentAmount Los espacios por nivel.
+     * @return El Transformer del hilo.
+     * @throws TransformerConfigurationException Si no se pudo crear.
+     */
+    public static Transformer transformer(int indentAmount) throws TransformerConfigurationException {
+        Transformer transformer = transformer();
+        transformer.setOutputProperty(INDENT_AMOUNT, String.valueOf(indentAmount));
+        return transformer;
+    }
+
+    /**
+     * Escribe un documento en un archivo. Se escribe un temporal que luego
+     * reemplaza al archivo con un movimiento atómico, así que quien lea el
+     * archivo, incluso después de un cierre inesperado, encuentra el contenido
+     * anterior o el nuevo completo, nunca uno a medio escribir.
+     *
+     * @param doc El documento.
+     * @param target La ruta del archivo.
+     * @param transformer El Transformer con las propiedades de salida deseadas.
+     * @throws Exception Si no se pudo escribir.
+     */
+    public static void write(Document doc, Path target, Transformer transformer) throws Exception {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            transformer.transform(new DOMSource(doc), new StreamResult(temp.toFile()));
+        } catch (TransformerException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Escribe bytes en un archivo, reemplazándolo como {@link #write(Document, Path, Transformer)}.
+     *
+     * @param data Los bytes.
+     * @param target La ruta del archivo.
+     * @throws IOException Si no se pudo escribir.
+     */
+    public static void write(byte[] data, Path target) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            Files.write(temp, data);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Crea un lector StAX sobre un flujo, con DTD y entidades externas desactivadas.
+     *
+     * @param in El flujo a leer.
+     * @return El lector.
+     * @throws XMLStreamException Si no se pudo crear.
+     */
+    public static XMLStreamReader createReader(InputStream in) throws XMLStreamException {
+        synchronized (INPUT_FACTORY) {
+            return INPUT_FACTORY.createXMLStreamReader(in);
+        }
+    }
+
+    /**
+     * Crea un escritor StAX sobre un flujo, en UTF-8. Cerrar el escritor no
+     * cierra el flujo.
+     *
+     * @param out El flujo a escribir.
+     * @return El escritor.
+     * @throws XMLStreamException Si no se pudo crear.
+     */
+    public static XMLStreamWriter createWriter(OutputStream out) throws XMLStreamException {
+        synchronized (OUTPUT_FACTORY) {
+            return OUTPUT_FACTORY.createXMLStreamWriter(out, "UTF-8");
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        return factory;
+    }
+}
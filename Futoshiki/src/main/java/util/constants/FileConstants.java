@@ -9,10 +9,14 @@ public class FileConstants {
     
     // Definir las rutas relativas de los archivos
     public static final String GAMES_FILE = BASE_PATH + "futoshiki2024partidas.xml";
+    public static final String GAMES_CATALOG_FILE = BASE_PATH + "futoshiki2024partidas.bin";
     public static final String CONFIG_FILE = BASE_PATH + "futoshiki2024configuracion.xml";
     public static final String CURRENT_GAME_FILE = BASE_PATH + "futoshiki2024juegoactual.xml";
+    public static final String SAVES_DIR = BASE_PATH + "futoshiki2024juegos/";
     public static final String TOP10_FILE = BASE_PATH + "futoshiki2024top10.xml";
+    public static final String TOP10_JOURNAL_FILE = BASE_PATH + "futoshiki2024top10.journal";
     public static final String PLAYERS_FILE = BASE_PATH + "futoshiki2024players.xml";
+    public static final String PLAYERS_JOURNAL_FILE = BASE_PATH + "futoshiki2024players.journal";
     
     /**
      * Método para obtener la ruta absoluta de un archivo dado su ruta relativa.
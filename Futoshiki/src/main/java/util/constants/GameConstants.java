@@ -29,6 +29,14 @@ public class GameConstants {
     /** Símbolo de menor en columna (^) */
     public static final String SYMBOL_LESSER_COL = "^";
     
+    // Códigos compactos de desigualdades (relación de una celda con su vecina derecha o de abajo)
+    /** Sin desigualdad */
+    public static final int INEQUALITY_NONE = 0;
+    /** La celda es menor que su vecina (< o ^) */
+    public static final int INEQUALITY_LESSER = 1;
+    /** La celda es mayor que su vecina (> o v) */
+    public static final int INEQUALITY_GREATER = 2;
+    
     // Tipos de temporizador
     /** Temporizador tipo cronómetro */
     public static final String TIMER_CHRONOMETER = "chronometer";
@@ -43,6 +51,12 @@ public class GameConstants {
     /** Panel de dígitos a la izquierda */
     public static final String PANEL_LEFT = "left";
     
+    // Formas de dibujar el tablero
+    /** Tablero armado con un botón y dos etiquetas por celda */
+    public static final String BOARD_COMPONENTS = "componentes";
+    /** Tablero dibujado en un solo componente */
+    public static final String BOARD_PAINTED = "dibujado";
+    
     // Valores por defecto
     /** Tamaño de cuadrícula por defecto */
     public static final int DEFAULT_GRID_SIZE = 5;
@@ -54,6 +68,16 @@ public class GameConstants {
     public static final String DEFAULT_TIMER = TIMER_CHRONOMETER;
     /** Posición del panel por defecto */
     public static final String DEFAULT_PANEL_POSITION = PANEL_RIGHT;
+    /** Forma de dibujar el tablero por defecto */
+    public static final String DEFAULT_BOARD_RENDERER = BOARD_COMPONENTS;
+    /** Tiempo máximo para buscar la solución de un tablero por defecto, en segundos */
+    public static final int DEFAULT_SOLVE_TIME_LIMIT = 10;
+    /** Tableros listos por cada tamaño y dificultad por defecto */
+    public static final int DEFAULT_PUZZLE_QUEUE_DEPTH = 3;
+    /** Hilos que generan tableros en segundo plano por defecto */
+    public static final int DEFAULT_PUZZLE_WORKERS = 2;
+    /** Tiempo mínimo entre dos guardados automáticos por defecto, en segundos */
+    public static final int DEFAULT_AUTOSAVE_INTERVAL = 2;
     
     // Límites
     /** Tamaño mínimo de la cuadrícula */
@@ -64,4 +88,62 @@ public class GameConstants {
     public static final int MAX_PLAYER_NAME_LENGTH = 30;
     /** Tamaño del top 10 */
     public static final int TOP_10_SIZE = 10;
-}
\ No newline at end of file
+    /** Scores que se guardan por dificultad y tamaño (al menos TOP_10_SIZE) */
+    public static final int LEADERBOARD_SIZE = TOP_10_SIZE;
+    /** Entradas del journal del top 10 antes de compactarlo en el XML */
+    public static final int TOP_10_COMPACTION_THRESHOLD = 50;
+    /** Entradas del journal de jugadores antes de compactarlo en el XML */
+    public static final int PLAYERS_COMPACTION_THRESHOLD = 200;
+    /** Jugadores con sus puntuaciones cargadas en memoria */
+    public static final int PLAYER_CACHE_SIZE = 32;
+    /** Ranuras de guardado por jugador */
+    public static final int SAVE_SLOTS = 3;
+    /** Ranura de guardado por defecto, donde se lee la partida del archivo compartido anterior */
+    public static final int DEFAULT_SAVE_SLOT = 0;
+    /** Ranura del guardado automático, aparte de las SAVE_SLOTS del jugador */
+    public static final int AUTOSAVE_SLOT = SAVE_SLOTS;
+    /** Tiempo mínimo entre dos guardados automáticos que se puede configurar, en segundos */
+    public static final int MIN_AUTOSAVE_INTERVAL = 0;
+    /** Tiempo máximo entre dos guardados automáticos que se puede configurar, en segundos */
+    public static final int MAX_AUTOSAVE_INTERVAL = 60;
+    /** Espera máxima para escribir los guardados pendientes al cerrar, en milisegundos */
+    public static final long AUTOSAVE_SHUTDOWN_MS = 3000;
+    /** Cada cuánto se redibuja el reloj en pantalla, en milisegundos */
+    public static final int TIMER_REFRESH_MS = 200;
+    
+    // Generación de partidas en segundo plano
+    /** Tableros listos por tamaño y dificultad mínimos que se pueden configurar */
+    public static final int MIN_PUZZLE_QUEUE_DEPTH = 1;
+    /** Tableros listos por tamaño y dificultad máximos que se pueden configurar */
+    public static final int MAX_PUZZLE_QUEUE_DEPTH = 10;
+    /** Hilos de generación mínimos que se pueden configurar */
+    public static final int MIN_PUZZLE_WORKERS = 1;
+    /** Hilos de generación máximos que se pueden configurar */
+    public static final int MAX_PUZZLE_WORKERS = 4;
+    /** Intentos del generador para obtener la dificultad pedida según el calificador */
+    public static final int GRADING_ATTEMPTS = 16;
+    
+    // Resolución en segundo plano
+    /** Nodos que explora el solver entre cada revisión de cancelación y tiempo (potencia de 2) */
+    public static final int SOLVE_CHECK_NODES = 1024;
+    /** Cada cuánto se informa el progreso de la búsqueda, en milisegundos */
+    public static final int SOLVE_PROGRESS_MS = 250;
+    /** Tareas por hilo en que se divide una búsqueda paralela, para repartir ramas desbalanceadas */
+    public static final int PARALLEL_TASKS_PER_THREAD = 8;
+    /** Tamaño desde el que la verificación del catálogo divide la búsqueda de cada partida entre hilos */
+    public static final int PARALLEL_SOLVE_MIN_SIZE = 9;
+    /** Espera antes de mostrar el progreso, para no mostrarlo en búsquedas cortas, en milisegundos */
+    public static final int SOLVE_DIALOG_DELAY_MS = 300;
+    /** Tiempo de búsqueda mínimo que se puede configurar, en segundos */
+    public static final int MIN_SOLVE_TIME_LIMIT = 1;
+    /** Tiempo de búsqueda máximo que se puede configurar, en segundos */
+    public static final int MAX_SOLVE_TIME_LIMIT = 600;
+    
+    // Registro
+    /** Propiedad del sistema con los niveles de registro, por ejemplo "INFO,view.game=DEBUG" */
+    public static final String LOG_LEVELS_PROPERTY = "futoshiki.log";
+    /** Nivel de registro cuando no se configura ninguno */
+    public static final String DEFAULT_LOG_LEVEL = "INFO";
+    /** Mensajes pendientes de escribir antes de empezar a descartar los de menor nivel */
+    public static final int LOG_QUEUE_CAPACITY = 4096;
+}
@@ -0,0 +1,52 @@
+package util.log;
+
+import java.lang.System.Logger;
+import java.text.MessageFormat;
+import java.util.ResourceBundle;
+
+/**
+ * Logger con un nivel mínimo que deja los mensajes en un {@link LogWriter}.
+ *
+ * El nivel se guarda como severidad en un campo volátil, así que comprobar si un
+ * nivel está activo es una lectura y una comparación. Los métodos con
+ * {@code Supplier} que hereda de {@link System.Logger} hacen esa comprobación
+ * antes de pedir el mensaje.
+ */
+class LevelLogger implements Logger {
+    private final String name;
+    private final LogWriter writer;
+    private volatile int minSeverity;
+
+    LevelLogger(String name, Level threshold, LogWriter writer) {
+        this.name = name;
+        this.writer = writer;
+        setThreshold(threshold);
+    }
+
+    void setThreshold(Level threshold) {
+        this.minSeverity = threshold.getSeverity();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean isLoggable(Level level) {
+        return level != Level.OFF && level.getSeverity() >= minSeverity;
+    }
+
+    @Override
+    public void log(Level level, ResourceBundle bundle, String msg, Throwable thrown) {
+        if (!isLoggable(level)) return;
+        writer.enqueue(level, name, msg, thrown);
+    }
+
+    @Override
+    public void log(Level level, ResourceBundle bundle, String format, Object... params) {
+        if (!isLoggable(level)) return;
+        String msg = params == null || params.length == 0 ? format : MessageFormat.format(format, params);
+        writer.enqueue(level, name, msg, null);
+    }
+}
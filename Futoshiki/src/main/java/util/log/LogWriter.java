@@ -0,0 +1,135 @@
+package util.log;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.System.Logger.Level;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Escribe los mensajes del registro en la consola desde un hilo propio.
+ *
+ * Quien registra solo deja el mensaje en una cola y sigue; el hilo escritor le
+ * da formato y lo escribe, varios mensajes por cada escritura. Los errores y
+ * avisos van a la salida de error y el resto a la salida estándar. Si la cola se
+ * llena, los mensajes de nivel INFO o menor se descartan y se informa cuántos;
+ * los avisos y errores esperan a que haya lugar.
+ */
+class LogWriter {
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss.SSS")
+        .withZone(ZoneId.systemDefault());
+
+    private final BlockingQueue<Entry> queue;
+    private final LongAdder dropped = new LongAdder();
+    private final PrintStream out = System.out;
+    private final PrintStream err = System.err;
+    // Un solo escritor a la vez: el hilo propio o flush()
+    private final Object writeLock = new Object();
+
+    LogWriter(int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        Thread thread = new Thread(this::run, "futoshiki-log");
+        thread.setDaemon(true);
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "futoshiki-log-flush"));
+    }
+
+    void enqueue(Level level, String name, String msg, Throwable thrown) {
+        Entry entry = new Entry(System.currentTimeMillis(), level, name,
+            Thread.currentThread().getName(), msg, thrown);
+        if (level.getSeverity() >= Level.WARNING.getSeverity()) {
+            try {
+                queue.put(entry);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        } else if (!queue.offer(entry)) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Escribe todo lo que haya en la cola desde el hilo que llama.
+     */
+    void flush() {
+        synchronized (writeLock) {
+            List<Entry> batch = new ArrayList<>();
+            queue.drainTo(batch);
+            write(batch);
+        }
+    }
+
+    private void run() {
+        List<Entry> batch = new ArrayList<>();
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            synchronized (writeLock) {
+                queue.drainTo(batch);
+                write(batch);
+            }
+            batch.clear();
+        }
+    }
+
+    private void write(List<Entry> batch) {
+        StringBuilder outText = new StringBuilder();
+        StringBuilder errText = new StringBuilder();
+        long lost = dropped.sumThenReset();
+        if (lost > 0) {
+            errText.append(lost).append(" mensajes de registro descartados por falta de espacio\n");
+        }
+        for (Entry entry : batch) {
+            entry.format(entry.level.getSeverity() >= Level.WARNING.getSeverity() ? errText : outText);
+        }
+        if (outText.length() > 0) {
+            out.print(outText);
+            out.flush();
+        }
+        if (errText.length() > 0) {
+            err.print(errText);
+            err.flush();
+        }
+    }
+
+    private static class Entry {
+        final long millis;
+        final Level level;
+        final String name;
+        final String thread;
+        final String msg;
+        final Throwable thrown;
+
+        Entry(long millis, Level level, String name, String thread, String msg, Throwable thrown) {
+            this.millis = millis;
+            this.level = level;
+            this.name = name;
+            this.thread = thread;
+            this.msg = msg;
+            this.thrown = thrown;
+        }
+
+        void format(StringBuilder sb) {
+            TIME.formatTo(Instant.ofEpochMilli(millis), sb);
+            sb.append(' ').append(level.getName())
+              .append(" [").append(thread).append("] ")
+              .append(name, name.lastIndexOf('.') + 1, name.length())
+              .append(" - ").append(msg).append('\n');
+            if (thrown != null) {
+                StringWriter trace = new StringWriter();
+                thrown.printStackTrace(new PrintWriter(trace));
+                sb.append(trace);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package util.log;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import util.constants.GameConstants;
+
+/**
+ * Punto de acceso al registro de la aplicación.
+ *
+ * Cada clase obtiene su {@link System.Logger} con {@link #get(Class)} y lo usa
+ * con los métodos de siempre. Para que un mensaje desactivado no cueste nada,
+ * los que se arman concatenando se pasan como {@code Supplier}:
+ * <pre>
+ * LOG.log(Level.DEBUG, () -> "Celda [" + row + "," + col + "]");
+ * </pre>
+ *
+ * El nivel mínimo se configura por paquete o por clase con la propiedad
+ * {@code futoshiki.log}, una lista separada por comas en la que el primer
+ * elemento sin nombre es el nivel general:
+ * <pre>
+ * -Dfutoshiki.log=WARNING,persistence=INFO,view.game.GameBoard=DEBUG
+ * </pre>
+ * Para cada logger se usa la regla con el nombre más largo que lo contiene.
+ * Los mensajes se escriben en un hilo aparte (ver {@link LogWriter}).
+ */
+public final class Logs {
+    // Nombre vacío: nivel general
+    private static final Map<String, Level> THRESHOLDS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, LevelLogger> LOGGERS = new ConcurrentHashMap<>();
+    private static final LogWriter WRITER = new LogWriter(GameConstants.LOG_QUEUE_CAPACITY);
+
+    static {
+        THRESHOLDS.put("", Level.valueOf(GameConstants.DEFAULT_LOG_LEVEL));
+        configure(System.getProperty(GameConstants.LOG_LEVELS_PROPERTY));
+    }
+
+    private Logs() {
+    }
+
+    /**
+     * Obtiene el logger de una clase.
+     *
+     * @param owner La clase.
+     * @return El logger, con el nombre completo de la clase.
+     */
+    public static Logger get(Class<?> owner) {
+        return get(owner.getName());
+    }
+
+    /**
+     * Obtiene un logger por nombre. Los nombres van separados por puntos, como los paquetes.
+     *
+     * @param name El nombre del logger.
+     * @return El logger.
+     */
+    public static Logger get(String name) {
+        return LOGGERS.computeIfAbsent(name, n -> new LevelLogger(n, thresholdFor(n), WRITER));
+    }
+
+    /**
+     * Cambia el nivel mínimo de un paquete o clase y de todo lo que contiene.
+     *
+     * @param name El paquete o clase, o "" para el nivel general.
+     * @param level El nivel mínimo.
+     */
+    public static synchronized void setLevel(String name, Level level) {
+        THRESHOLDS.put(name, level);
+        for (LevelLogger logger : LOGGERS.values()) {
+            logger.setThreshold(thresholdFor(logger.getName()));
+        }
+    }
+
+    /**
+     * Aplica una lista de niveles con el formato de la propiedad {@code futoshiki.log}.
+     * Las reglas que no se entienden se ignoran con un aviso.
+     *
+     * @param spec La lista de niveles, o null para no cambiar nada.
+     */
+    public static synchronized void configure(String spec) {
+        if (spec == null || spec.isBlank()) return;
+
+        for (String rule : spec.split(",")) {
+            rule = rule.trim();
+            if (rule.isEmpty()) continue;
+            int eq = rule.indexOf('=');
+            String name = eq < 0 ? "" : rule.substring(0, eq).trim();
+            String levelName = (eq < 0 ? rule : rule.substring(eq + 1)).trim().toUpperCase(Locale.ROOT);
+            try {
+                setLevel(name, Level.valueOf(levelName));
+            } catch (IllegalArgumentException e) {
+                get(Logs.class).log(Level.WARNING, "Regla de registro inválida ignorada: " + rule);
+            }
+        }
+    }
+
+    /**
+     * Escribe los mensajes pendientes. Se llama sola al cerrar la aplicación.
+     */
+    public static void flush() {
+        WRITER.flush();
+    }
+
+    /**
+     * Busca el nivel de la regla más específica que aplica a un nombre.
+     */
+    private static Level thresholdFor(String name) {
+        String key = name;
+        while (true) {
+            Level level = THRESHOLDS.get(key);
+            if (level != null) return level;
+            if (key.isEmpty()) return Level.INFO;
+            int dot = key.lastIndexOf('.');
+            key = dot < 0 ? "" : key.substring(0, dot);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package view.dialogs;
 
 import java.awt.*;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
 
 import javax.swing.ButtonGroup;
 import javax.swing.JButton;
@@ -16,8 +18,11 @@ import javax.swing.border.EmptyBorder;
 import javax.swing.JLabel;
 
 import model.config.Configuration;
+import util.constants.GameConstants;
+import util.log.Logs;
 
 public class ConfigurationDialog extends JDialog {
+    private static final Logger LOG = Logs.get(ConfigurationDialog.class);
     private JComboBox<String> gridSizeCombo;
     private JComboBox<String> difficultyCombo;
     private JCheckBox multiLevelCheck;
@@ -31,6 +36,13 @@ public class ConfigurationDialog extends JDialog {
     private ButtonGroup digitPanelGroup;
     private JRadioButton rightPanelButton;
     private JRadioButton leftPanelButton;
+    private ButtonGroup boardRendererGroup;
+    private JRadioButton componentsBoardButton;
+    private JRadioButton paintedBoardButton;
+    private JSpinner solveLimitSpinner;
+    private JSpinner queueDepthSpinner;
+    private JSpinner workersSpinner;
+    private JSpinner autosaveSpinner;
     private JTextField playerNameField;
     private JButton okButton;
     private JButton cancelButton;
@@ -90,6 +102,28 @@ public class ConfigurationDialog extends JDialog {
         digitPanelGroup.add(leftPanelButton);
         rightPanelButton.setSelected(true);
 
+        // Forma de dibujar el tablero
+        boardRendererGroup = new ButtonGroup();
+        componentsBoardButton = new JRadioButton("Componentes");
+        paintedBoardButton = new JRadioButton("Dibujado");
+        boardRendererGroup.add(componentsBoardButton);
+        boardRendererGroup.add(paintedBoardButton);
+        componentsBoardButton.setSelected(true);
+
+        // Tiempo máximo para resolver
+        solveLimitSpinner = new JSpinner(new SpinnerNumberModel(GameConstants.DEFAULT_SOLVE_TIME_LIMIT,
+            GameConstants.MIN_SOLVE_TIME_LIMIT, GameConstants.MAX_SOLVE_TIME_LIMIT, 1));
+
+        // Generación de partidas en segundo plano
+        queueDepthSpinner = new JSpinner(new SpinnerNumberModel(GameConstants.DEFAULT_PUZZLE_QUEUE_DEPTH,
+            GameConstants.MIN_PUZZLE_QUEUE_DEPTH, GameConstants.MAX_PUZZLE_QUEUE_DEPTH, 1));
+        workersSpinner = new JSpinner(new SpinnerNumberModel(GameConstants.DEFAULT_PUZZLE_WORKERS,
+            GameConstants.MIN_PUZZLE_WORKERS, GameConstants.MAX_PUZZLE_WORKERS, 1));
+
+        // Tiempo entre guardados automáticos
+        autosaveSpinner = new JSpinner(new SpinnerNumberModel(GameConstants.DEFAULT_AUTOSAVE_INTERVAL,
+            GameConstants.MIN_AUTOSAVE_INTERVAL, GameConstants.MAX_AUTOSAVE_INTERVAL, 1));
+
         // Nombre del jugador
         playerNameField = new JTextField(20);
 
@@ -116,6 +150,16 @@ public class ConfigurationDialog extends JDialog {
         secondsSpinner.setValue(config.getTimerSeconds());
         rightPanelButton.setSelected(config.getDigitPanelPosition().equals("right"));
         leftPanelButton.setSelected(config.getDigitPanelPosition().equals("left"));
+        paintedBoardButton.setSelected(GameConstants.BOARD_PAINTED.equals(config.getBoardRenderer()));
+        componentsBoardButton.setSelected(!paintedBoardButton.isSelected());
+        solveLimitSpinner.setValue(Math.max(GameConstants.MIN_SOLVE_TIME_LIMIT,
+            Math.min(GameConstants.MAX_SOLVE_TIME_LIMIT, config.getSolveTimeLimit())));
+        queueDepthSpinner.setValue(Math.max(GameConstants.MIN_PUZZLE_QUEUE_DEPTH,
+            Math.min(GameConstants.MAX_PUZZLE_QUEUE_DEPTH, config.getPuzzleQueueDepth())));
+        workersSpinner.setValue(Math.max(GameConstants.MIN_PUZZLE_WORKERS,
+            Math.min(GameConstants.MAX_PUZZLE_WORKERS, config.getPuzzleWorkers())));
+        autosaveSpinner.setValue(Math.max(GameConstants.MIN_AUTOSAVE_INTERVAL,
+            Math.min(GameConstants.MAX_AUTOSAVE_INTERVAL, config.getAutosaveInterval())));
         playerNameField.setText(config.getPlayerName());
         isConfirmed = false;
     }
@@ -126,7 +170,7 @@ public class ConfigurationDialog extends JDialog {
     private void layoutComponents() {
         setLayout(new BorderLayout());
         
-        JPanel mainPanel = new JPanel(new GridLayout(6, 1, 10, 10));
+        JPanel mainPanel = new JPanel(new GridLayout(10, 1, 10, 10));
         mainPanel.setBorder(new EmptyBorder(10, 20, 10, 20));
 
         // Panel para el tamaño de cuadrícula
@@ -161,6 +205,33 @@ public class ConfigurationDialog extends JDialog {
         positionPanel.add(leftPanelButton);
         mainPanel.add(positionPanel);
 
+        // Panel para la forma de dibujar el tablero
+        JPanel boardPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        boardPanel.add(new JLabel("Tablero:"));
+        boardPanel.add(componentsBoardButton);
+        boardPanel.add(paintedBoardButton);
+        mainPanel.add(boardPanel);
+
+        // Panel para el tiempo máximo de resolución
+        JPanel solvePanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        solvePanel.add(new JLabel("Límite para resolver (s):"));
+        solvePanel.add(solveLimitSpinner);
+        mainPanel.add(solvePanel);
+
+        // Panel para la generación de partidas (se aplica al reiniciar)
+        JPanel supplyPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        supplyPanel.add(new JLabel("Partidas en reserva:"));
+        supplyPanel.add(queueDepthSpinner);
+        supplyPanel.add(new JLabel("Hilos:"));
+        supplyPanel.add(workersSpinner);
+        mainPanel.add(supplyPanel);
+
+        // Panel para el guardado automático (se aplica al reiniciar)
+        JPanel autosavePanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        autosavePanel.add(new JLabel("Autoguardado cada (s):"));
+        autosavePanel.add(autosaveSpinner);
+        mainPanel.add(autosavePanel);
+
         // Panel de spinners
         JPanel spinnerPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
         spinnerPanel.add(new JLabel("H:"));
@@ -198,8 +269,7 @@ public class ConfigurationDialog extends JDialog {
      * Cierra el diálogo.
      */
     private void exit() {
-        System.out.println(getTimerType());
-        System.out.println(secondsSpinner.getValue());
+        LOG.log(Level.DEBUG, () -> "Cerrando con timer " + getTimerType() + ", segundos " + secondsSpinner.getValue());
         dispose();
     }
 
@@ -242,6 +312,12 @@ public class ConfigurationDialog extends JDialog {
         config.setGridSize(getGridSize());
         // Establecer la posición del panel
         config.setDigitPanelPosition(leftPanelButton.isSelected() ? "left" : "right");
+        config.setBoardRenderer(paintedBoardButton.isSelected()
+            ? GameConstants.BOARD_PAINTED : GameConstants.BOARD_COMPONENTS);
+        config.setSolveTimeLimit((Integer) solveLimitSpinner.getValue());
+        config.setPuzzleQueueDepth((Integer) queueDepthSpinner.getValue());
+        config.setPuzzleWorkers((Integer) workersSpinner.getValue());
+        config.setAutosaveInterval((Integer) autosaveSpinner.getValue());
         return config;
     }
 
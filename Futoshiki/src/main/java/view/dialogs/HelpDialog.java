@@ -3,11 +3,16 @@ package view.dialogs;
 import javax.swing.*;
 import java.awt.*;
 import java.io.File;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+
+import util.log.Logs;
 
 /**
  * Clase HelpDialog que representa un diálogo de ayuda con imágenes de un manual de usuario.
  */
 public class HelpDialog extends JDialog {
+    private static final Logger LOG = Logs.get(HelpDialog.class);
     private static final String[] HELP_IMAGES = {
         "manual2.png","manual3.png", "manual4.png","manual5.png"
     };
@@ -58,7 +63,7 @@ public class HelpDialog extends JDialog {
     private void showImage(int index) {
         try {
             File imageFile = new File(IMAGE_PATH + HELP_IMAGES[index]);
-            System.out.println("Intentando cargar imagen desde: " + imageFile.getAbsolutePath());
+            LOG.log(Level.DEBUG, () -> "Intentando cargar imagen desde: " + imageFile.getAbsolutePath());
             
             if (!imageFile.exists()) {
                 throw new Exception("La imagen no existe: " + imageFile.getAbsolutePath());
@@ -73,7 +78,7 @@ public class HelpDialog extends JDialog {
             imageLabel.setIcon(new ImageIcon(scaledImage));
             currentImageIndex = index;
         } catch (Exception e) {
-            e.printStackTrace();
+            LOG.log(Level.ERROR, "Error al cargar la imagen de ayuda", e);
             JOptionPane.showMessageDialog(this, 
                 "Error al cargar la imagen: " + e.getMessage(),
                 "Error",
@@ -11,6 +11,8 @@ import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
 
 import javax.swing.BorderFactory;
 import javax.swing.BoxLayout;
@@ -27,11 +29,13 @@ import javax.swing.border.EmptyBorder;
 import javax.swing.border.MatteBorder;
 
 import model.player.PlayerManager;
+import util.log.Logs;
 
 /**
  * Clase PlayerLoginDialog que representa un diálogo para el inicio de sesión y registro de jugadores.
  */
 public class PlayerLoginDialog extends JDialog {
+    private static final Logger LOG = Logs.get(PlayerLoginDialog.class);
     // Colores del tema
     private static final Color PRIMARY_COLOR = new Color(25, 118, 210);     // Azul
     private static final Color BACKGROUND_COLOR = new Color(245, 245, 245); // Gris muy claro
@@ -363,7 +367,7 @@ public class PlayerLoginDialog extends JDialog {
         String name = loginNameField.getText();
         String password = new String(loginPasswordField.getPassword());
 
-        System.out.println("Intentando login con usuario: " + name + " y contraseña: " + password);
+        LOG.log(Level.DEBUG, () -> "Intentando login con usuario: " + name);
         
         String error = playerManager.login(name, password);
         if (error == null) {
@@ -420,7 +424,7 @@ public class PlayerLoginDialog extends JDialog {
                 "Token de Recuperación",
                 JOptionPane.INFORMATION_MESSAGE);
 
-            System.out.println("Token de recuperación: " + result);
+            LOG.log(Level.DEBUG, () -> "Token de recuperación generado para " + name);
             // Después de mostrar el token, abrir diálogo para resetear contraseña
             showPasswordResetDialog(name);
         }
@@ -0,0 +1,88 @@
+package view.dialogs;
+
+import java.awt.BorderLayout;
+import java.awt.FlowLayout;
+import java.awt.Frame;
+import java.awt.GridLayout;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JProgressBar;
+import javax.swing.WindowConstants;
+import javax.swing.border.EmptyBorder;
+
+/**
+ * Diálogo que muestra el avance de la búsqueda de la solución y permite cancelarla.
+ *
+ * No es modal: la búsqueda corre en segundo plano y la ventana sigue respondiendo.
+ * La barra muestra qué parte del tiempo máximo se lleva usada. Cerrar el diálogo
+ * equivale a pulsar Cancelar.
+ */
+public class SolveProgressDialog extends JDialog {
+    private final JLabel statsLabel;
+    private final JProgressBar budgetBar;
+    private final JButton cancelButton;
+    private final long budgetMillis;
+
+    /**
+     * Constructor de la clase SolveProgressDialog.
+     *
+     * @param owner El frame propietario del diálogo.
+     * @param budgetMillis El tiempo máximo de la búsqueda, en milisegundos.
+     * @param onCancel Se ejecuta al pulsar Cancelar o cerrar el diálogo.
+     */
+    public SolveProgressDialog(Frame owner, long budgetMillis, Runnable onCancel) {
+        super(owner, "Buscando solución", false);
+        this.budgetMillis = Math.max(1, budgetMillis);
+        setDefaultCloseOperation(WindowConstants.DO_NOTHING_ON_CLOSE);
+        setLayout(new BorderLayout(10, 10));
+
+        JPanel mainPanel = new JPanel(new GridLayout(3, 1, 5, 5));
+        mainPanel.setBorder(new EmptyBorder(10, 20, 0, 20));
+        mainPanel.add(new JLabel("Buscando la solución del tablero..."));
+        statsLabel = new JLabel(" ");
+        mainPanel.add(statsLabel);
+        budgetBar = new JProgressBar(0, 1000);
+        mainPanel.add(budgetBar);
+
+        cancelButton = new JButton("Cancelar");
+        cancelButton.addActionListener(e -> {
+            cancelButton.setEnabled(false);
+            onCancel.run();
+        });
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttonPanel.add(cancelButton);
+
+        add(mainPanel, BorderLayout.CENTER);
+        add(buttonPanel, BorderLayout.SOUTH);
+
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                cancelButton.doClick();
+            }
+        });
+
+        pack();
+        setLocationRelativeTo(owner);
+    }
+
+    /**
+     * Actualiza el avance mostrado.
+     *
+     * @param nodes Los nodos explorados.
+     * @param nodesPerSecond La velocidad de la búsqueda.
+     * @param elapsedNanos El tiempo de búsqueda.
+     */
+    public void setProgress(long nodes, long nodesPerSecond, long elapsedNanos) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        statsLabel.setText(String.format("%,d nodos, %,d nodos/s, %.1f s",
+            nodes, nodesPerSecond, elapsedMillis / 1000.0));
+        budgetBar.setValue((int) Math.min(1000, elapsedMillis * 1000 / budgetMillis));
+    }
+}
@@ -0,0 +1,99 @@
+package view.game;
+
+import javax.swing.JComponent;
+
+import model.game.Celda;
+import model.game.FutoshikiBoard;
+
+/**
+ * Vista del tablero de juego. Hay dos implementaciones, que se eligen en la
+ * configuración: {@link GameBoard}, armada con componentes de Swing por celda,
+ * y {@link PaintedGameBoard}, que dibuja todo el tablero en un solo componente.
+ */
+public interface BoardView {
+
+    /**
+     * Actualiza el tablero con los valores del modelo FutoshikiBoard.
+     *
+     * @param board El modelo FutoshikiBoard.
+     */
+    void updateBoard(FutoshikiBoard board);
+
+    /**
+     * Actualiza una celda específica con los valores del modelo Celda.
+     *
+     * @param row La fila de la celda.
+     * @param col La columna de la celda.
+     * @param celda El modelo Celda.
+     */
+    void updateCell(int row, int col, Celda celda);
+
+    /**
+     * Muestra un error en una celda específica.
+     *
+     * @param row La fila de la celda.
+     * @param col La columna de la celda.
+     */
+    void showError(int row, int col);
+
+    /**
+     * Establece el tamaño del tablero.
+     *
+     * @param newSize El nuevo tamaño del tablero.
+     */
+    void setSize(int newSize);
+
+    /**
+     * Establece si el tablero es jugable.
+     *
+     * @param playable true si el tablero es jugable, false en caso contrario.
+     */
+    void setPlayable(boolean playable);
+
+    /**
+     * Obtiene si el tablero es jugable.
+     *
+     * @return true si el tablero es jugable, false en caso contrario.
+     */
+    boolean isPlayable();
+
+    /**
+     * Añade un listener para los clicks en las celdas.
+     *
+     * @param listener El listener a añadir.
+     */
+    void addCellClickListener(CellClickListener listener);
+
+    /**
+     * Elimina un listener para los clicks en las celdas.
+     *
+     * @param listener El listener a eliminar.
+     */
+    void removeCellClickListener(CellClickListener listener);
+
+    /**
+     * Reinicia el tablero a su estado inicial.
+     */
+    void reset();
+
+    /**
+     * Obtiene el tablero que se está mostrando.
+     *
+     * @return El último tablero dibujado, o null si la vista está vacía.
+     */
+    FutoshikiBoard getRenderedBoard();
+
+    /**
+     * Obtiene el componente de Swing que se agrega a la ventana.
+     *
+     * @return El componente de la vista.
+     */
+    JComponent getComponent();
+
+    /**
+     * Interfaz para el listener de clicks en celdas.
+     */
+    interface CellClickListener {
+        void onCellClick(int row, int col);
+    }
+}
@@ -2,13 +2,18 @@ package view.game;
 
 import java.awt.*;
 import javax.swing.*;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
 import java.util.ArrayList;
 import java.util.List;
 
+import util.log.Logs;
+
 /**
  * Clase DigitPanel que representa un panel de botones numéricos y un botón de borrador.
  */
 public class DigitPanel extends JPanel {
+    private static final Logger LOG = Logs.get(DigitPanel.class);
     private JButton[] digitButtons;
     private JButton eraserButton;
     private int selectedDigit;
@@ -60,11 +65,7 @@ public class DigitPanel extends JPanel {
         eraserButton.setBorder(BorderFactory.createLineBorder(Color.RED));
 
         eraserButton.addActionListener(e -> {
-            System.out.println("DigitPanel - Botón borrador presionado");
             toggleEraser();
-            System.out.println("DigitPanel - Estado después de toggle:");
-            System.out.println("  eraserSelected: " + eraserSelected);
-            System.out.println("  selectedDigit: " + selectedDigit);
             notifyDigitSelected(-1);
         });
 
@@ -86,7 +87,7 @@ public class DigitPanel extends JPanel {
         button.setPreferredSize(new Dimension(60, 40));
         
         button.addActionListener(e -> {
-            System.out.println("Dígito " + digit + " seleccionado. Estado del borrador: " + eraserSelected);
+            LOG.log(Level.DEBUG, () -> "Dígito " + digit + " seleccionado. Estado del borrador: " + eraserSelected);
             if (!eraserSelected) {
                 setSelectedDigit(digit);
                 notifyDigitSelected(digit);
@@ -102,7 +103,6 @@ public class DigitPanel extends JPanel {
      * @param size El nuevo tamaño máximo de dígitos.
      */
     public void setMaxDigits(int size) {
-        System.out.println("Actualizando panel de dígitos a tamaño: " + size); // Debug
         if (this.maxDigits != size) {
             this.maxDigits = size;
             removeAll();
@@ -124,11 +124,7 @@ public class DigitPanel extends JPanel {
             eraserButton.setBorder(BorderFactory.createLineBorder(Color.RED));
 
             eraserButton.addActionListener(e -> {
-                System.out.println("DigitPanel - Botón borrador presionado");
                 toggleEraser();
-                System.out.println("DigitPanel - Estado después de toggle:");
-                System.out.println("  eraserSelected: " + eraserSelected);
-                System.out.println("  selectedDigit: " + selectedDigit);
                 notifyDigitSelected(-1);
             });
 
@@ -153,7 +149,7 @@ public class DigitPanel extends JPanel {
             revalidate();
             repaint();
             
-            System.out.println("Panel de dígitos actualizado con " + size + " botones"); // Debug
+            LOG.log(Level.DEBUG, () -> "Panel de dígitos actualizado con " + size + " botones");
         }
     }
 
@@ -237,6 +233,7 @@ public class DigitPanel extends JPanel {
         } else {
             eraserButton.setBackground(null);
         }
-        System.out.println("Estado del borrador cambiado a: " + eraserSelected);
+        LOG.log(Level.DEBUG, () -> "Estado del borrador cambiado a: " + eraserSelected +
+                ", dígito seleccionado: " + selectedDigit);
     }
 }
\ No newline at end of file
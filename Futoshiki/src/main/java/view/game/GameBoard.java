@@ -6,13 +6,18 @@ import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.GridLayout;
 import java.awt.Point;
+import java.awt.Rectangle;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 import javax.swing.BorderFactory;
 import javax.swing.JButton;
+import javax.swing.JComponent;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.SwingConstants;
@@ -20,19 +25,30 @@ import javax.swing.Timer;
 import javax.swing.border.Border;
 
 import util.constants.GameConstants;
+import util.log.Logs;
 import model.game.Celda;
 import model.game.FutoshikiBoard;
 
 /**
  * Clase GameBoard que representa el tablero del juego Futoshiki.
+ *
+ * Al actualizarse con el mismo tablero que ya muestra, solo se redibujan las
+ * celdas que el modelo informa como cambiadas ({@link FutoshikiBoard#takeChangedCells()}),
+ * con una sola zona de repintado que las cubre.
  */
-public class GameBoard extends JPanel {
+public class GameBoard extends JPanel implements BoardView {
+    private static final Logger LOG = Logs.get(GameBoard.class);
     // Constantes para estilo
     private static final Color BACKGROUND_COLOR = new Color(245, 245, 245);
     private static final Color CELL_BACKGROUND = Color.WHITE;
     private static final Color CELL_BORDER = new Color(200, 200, 200);
     private static final Color CONSTANT_COLOR = new Color(0, 102, 204);
     private static final Color ERROR_COLOR = new Color(255, 102, 102);
+    private static final Color HOVER_COLOR = new Color(240, 240, 240);
+    private static final Color VALUE_COLOR = Color.BLACK;
+    private static final Font VALUE_FONT = new Font("Arial", Font.PLAIN, 20);
+    private static final Font CONSTANT_FONT = new Font("Arial", Font.BOLD, 20);
+    private static final Font INEQUALITY_FONT = new Font("Arial Unicode MS", Font.BOLD, 20);
     private static final int INEQUALITY_SIZE = 20;
     
     private int size;
@@ -44,6 +60,8 @@ public class GameBoard extends JPanel {
     private volatile boolean isPlayable; // Hacer volátil para asegurar visibilidad entre hilos
     private List<CellClickListener> listeners;
     private Point lastErrorCell;
+    // Tablero que se está mostrando; otro tablero se dibuja completo
+    private FutoshikiBoard renderedBoard;
 
     /**
      * Constructor de GameBoard.
@@ -108,17 +126,17 @@ public class GameBoard extends JPanel {
     private JButton createCellButton(final int row, final int col) {
         JButton button = new JButton();
         button.setPreferredSize(new Dimension(cellSize, cellSize));
-        button.setFont(new Font("Arial", Font.PLAIN, 20));
+        button.setFont(VALUE_FONT);
         button.setFocusPainted(false);
         button.setBackground(CELL_BACKGROUND);
         button.setBorder(createCellBorder());
         
         button.addActionListener(e -> {
-            System.out.println("Click en celda [" + row + "," + col + "]");
+            LOG.log(Level.DEBUG, () -> "Click en celda [" + row + "," + col + "]");
             if (isPlayable) {
                 notifyCellClick(row, col);
             } else {
-                System.out.println("Tablero no jugable");
+                LOG.log(Level.DEBUG, "Tablero no jugable");
             }
         });
         
@@ -127,7 +145,7 @@ public class GameBoard extends JPanel {
             @Override
             public void mouseEntered(MouseEvent e) {
                 if (isPlayable && !button.getFont().isBold()) {
-                    button.setBackground(new Color(240, 240, 240));
+                    button.setBackground(HOVER_COLOR);
                 }
             }
             
@@ -152,7 +170,7 @@ public class GameBoard extends JPanel {
         label.setPreferredSize(new Dimension(INEQUALITY_SIZE, INEQUALITY_SIZE));
         label.setHorizontalAlignment(SwingConstants.CENTER);
         label.setVerticalAlignment(SwingConstants.CENTER);
-        label.setFont(new Font("Arial Unicode MS", Font.BOLD, 20));
+        label.setFont(INEQUALITY_FONT);
         return label;
     }
 
@@ -194,61 +212,39 @@ public class GameBoard extends JPanel {
     }
 
     /**
-     * Actualiza el tablero con los valores del modelo FutoshikiBoard.
+     * Actualiza el tablero con los valores del modelo FutoshikiBoard. Si es el
+     * mismo tablero de la actualización anterior, solo se tocan las celdas que
+     * cambiaron desde entonces.
      * 
      * @param board El modelo FutoshikiBoard.
      */
     public void updateBoard(FutoshikiBoard board) {
-        System.out.println("GameBoard: Iniciando actualización del tablero");
-        
-        for (int row = 0; row < size; row++) {
-            for (int col = 0; col < size; col++) {
-                Celda celda = board.getCellAt(row, col);
-                JButton button = cellButtons[row][col];
-                
-                // Actualizar valor
-                int valor = celda.getValor();
-                button.setText(valor > 0 ? String.valueOf(valor) : "");
-                
-                // Configurar estilo y estado
-                if (celda.isConstant()) {
-                    button.setFont(new Font("Arial", Font.BOLD, 20));
-                    button.setForeground(CONSTANT_COLOR);
-                    button.setEnabled(false);
-                    System.out.println("Celda constante en [" + row + "," + col + "] = " + valor);
-                } else {
-                    button.setFont(new Font("Arial", Font.PLAIN, 20));
-                    button.setForeground(Color.BLACK);
-                    button.setEnabled(isPlayable);
-                }
-                
-                // Actualizar desigualdades
-                if (col < size - 1) {
-                    String rightIneq = celda.getDesDer();
-                    rightLabels[row][col].setText(rightIneq);
-                    if (!rightIneq.equals(" ")) {
-                        System.out.println("Desigualdad horizontal en [" + row + "," + col + "]: " + rightIneq);
-                    }
-                }
-                
-                if (row < size - 1) {
-                    String bottomIneq = celda.getDesAbajo();
-                    bottomLabels[row][col].setText(bottomIneq);
-                    if (!bottomIneq.equals(" ")) {
-                        System.out.println("Desigualdad vertical en [" + row + "," + col + "]: " + bottomIneq);
-                    }
-                }
-            }
+        BitSet changed = board.takeChangedCells();
+        boolean full = board != renderedBoard;
+        if (full) {
+            LOG.log(Level.DEBUG, "Dibujando tablero completo");
+            changed.set(0, size * size);
+            renderedBoard = board;
+        }
+
+        Rectangle dirty = null;
+        for (int index = changed.nextSetBit(0); index >= 0 && index < size * size; index = changed.nextSetBit(index + 1)) {
+            int row = index / size;
+            int col = index % size;
+            renderCell(row, col, board.getCellAt(row, col));
+
+            Rectangle bounds = cellPanels[row][col].getBounds();
+            dirty = dirty == null ? bounds : dirty.union(bounds);
+        }
+
+        if (full) {
+            // Actualizar jugabilidad después de configurar el tablero
+            updateCellsPlayability();
+            repaint();
+        } else if (dirty != null) {
+            // Una sola zona de repintado para todas las celdas cambiadas
+            repaint(dirty);
         }
-        
-        // Actualizar jugabilidad después de configurar el tablero
-        updateCellsPlayability();
-        
-        // Forzar actualización visual
-        revalidate();
-        repaint();
-        
-        System.out.println("GameBoard: Tablero actualizado y jugable: " + isPlayable);
     }
 
     /**
@@ -259,19 +255,33 @@ public class GameBoard extends JPanel {
      * @param celda El modelo Celda.
      */
     public void updateCell(int row, int col, Celda celda) {
-        // Actualizar valor
+        renderCell(row, col, celda);
+        
+        // Limpiar error si existe
+        if (lastErrorCell != null && lastErrorCell.x == row && lastErrorCell.y == col) {
+            cellButtons[row][col].setBackground(CELL_BACKGROUND);
+            lastErrorCell = null;
+        }
+    }
+
+    /**
+     * Actualiza los componentes de una celda. Las fuentes y colores son
+     * compartidos y Swing ignora los valores que no cambian, así que solo se
+     * redibuja lo que realmente cambió.
+     */
+    private void renderCell(int row, int col, Celda celda) {
         JButton button = cellButtons[row][col];
         int valor = celda.getValor();
         button.setText(valor > 0 ? String.valueOf(valor) : "");
         
         // Actualizar estilo según si es constante
         if (celda.isConstant()) {
-            button.setFont(new Font("Arial", Font.BOLD, 20));
+            button.setFont(CONSTANT_FONT);
             button.setForeground(CONSTANT_COLOR);
             button.setEnabled(false);
         } else {
-            button.setFont(new Font("Arial", Font.PLAIN, 20));
-            button.setForeground(Color.BLACK);
+            button.setFont(VALUE_FONT);
+            button.setForeground(VALUE_COLOR);
             button.setEnabled(isPlayable);
         }
         
@@ -282,12 +292,6 @@ public class GameBoard extends JPanel {
         if (row < size - 1) {
             updateInequalityLabel(bottomLabels[row][col], celda.getDesAbajo());
         }
-        
-        // Limpiar error si existe
-        if (lastErrorCell != null && lastErrorCell.x == row && lastErrorCell.y == col) {
-            button.setBackground(CELL_BACKGROUND);
-            lastErrorCell = null;
-        }
     }
 
     /**
@@ -313,12 +317,6 @@ public class GameBoard extends JPanel {
             default:
                 label.setText(" ");
         }
-        
-        // Configurar el estilo visual
-        label.setFont(new Font("Arial Unicode MS", Font.BOLD, 20));
-        label.setForeground(new Color(0, 102, 204)); // Azul oscuro para mejor visibilidad
-        label.setHorizontalAlignment(SwingConstants.CENTER);
-        label.setVerticalAlignment(SwingConstants.CENTER);
     }
 
     /**
@@ -353,11 +351,13 @@ public class GameBoard extends JPanel {
      */
     public void setSize(int newSize) {
         if (this.size != newSize) {
-            System.out.println("GameBoard: Actualizando tamaño de " + this.size + " a " + newSize);
+            int oldSize = this.size;
+            LOG.log(Level.DEBUG, () -> "Actualizando tamaño de " + oldSize + " a " + newSize);
             this.size = newSize;
             this.cellSize = Math.min(60, 600 / size); // Ajustar tamaño de celdas
             
             // Recrear completamente los componentes
+            renderedBoard = null;
             removeAll();
             initializeComponents();
             layoutComponents();
@@ -372,8 +372,7 @@ public class GameBoard extends JPanel {
             // Forzar actualización visual
             revalidate();
             repaint();
-            
-            System.out.println("GameBoard: Actualización de tamaño completada");
+
         }
     }
 
@@ -399,7 +398,7 @@ public class GameBoard extends JPanel {
                 }
             }
         }
-        System.out.println("GameBoard: Estado de celdas actualizado. Jugable: " + isPlayable);
+        LOG.log(Level.DEBUG, () -> "Estado de celdas actualizado. Jugable: " + isPlayable);
     }
 
     /**
@@ -408,17 +407,14 @@ public class GameBoard extends JPanel {
      * @param playable true si el tablero es jugable, false en caso contrario.
      */
     public void setPlayable(boolean playable) {
-        System.out.println("\n=== SETPLAYABLE LLAMADO ===");
-        System.out.println("Valor anterior: " + this.isPlayable);
-        System.out.println("Nuevo valor: " + playable);
+        boolean previous = this.isPlayable;
+        LOG.log(Level.DEBUG, () -> "Jugable: " + previous + " -> " + playable);
         
         this.isPlayable = playable;
         
         for (int i = 0; i < size; i++) {
             for (int j = 0; j < size; j++) {
                 if (!cellButtons[i][j].getFont().isBold()) {  // No es constante
-                    boolean enabled = cellButtons[i][j].isEnabled();
-                    System.out.println("Celda [" + i + "," + j + "] - Antes: " + enabled + ", Después: " + playable);
                     cellButtons[i][j].setEnabled(playable);
                 }
             }
@@ -464,11 +460,14 @@ public class GameBoard extends JPanel {
         }
     }
 
-    /**
-     * Interfaz para el listener de clicks en celdas.
-     */
-    public interface CellClickListener {
-        void onCellClick(int row, int col);
+    @Override
+    public FutoshikiBoard getRenderedBoard() {
+        return renderedBoard;
+    }
+
+    @Override
+    public JComponent getComponent() {
+        return this;
     }
 
     /**
@@ -479,13 +478,14 @@ public class GameBoard extends JPanel {
             for (int j = 0; j < size; j++) {
                 cellButtons[i][j].setText("");
                 cellButtons[i][j].setBackground(CELL_BACKGROUND);
-                cellButtons[i][j].setFont(new Font("Arial", Font.PLAIN, 20));
-                cellButtons[i][j].setForeground(Color.BLACK);
+                cellButtons[i][j].setFont(VALUE_FONT);
+                cellButtons[i][j].setForeground(VALUE_COLOR);
                 cellButtons[i][j].setEnabled(true);
                 rightLabels[i][j].setText(" ");
                 bottomLabels[i][j].setText(" ");
             }
         }
         lastErrorCell = null;
+        renderedBoard = null;
     }
 }
\ No newline at end of file
@@ -2,11 +2,14 @@ package view.game;
 
 import java.awt.BorderLayout;
 import java.awt.Color;
+import java.awt.Cursor;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
 import java.awt.Font;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
 
 import javax.swing.Box;
 import javax.swing.BoxLayout;
@@ -23,15 +26,19 @@ import controller.game.GameController;
 import controller.timer.TimerController;
 import controller.top10.ScoreController;
 import model.config.Configuration;
+import model.game.FutoshikiBoard;
 import model.player.PlayerManager;
 import persistence.ConfigurationManager;
 import persistence.GameSaver;
+import util.constants.GameConstants;
+import util.log.Logs;
 import view.components.TimerDisplay;
 import view.dialogs.HelpDialog;
 import view.dialogs.PlayerLoginDialog;
 
 
 public class MainWindow extends JFrame {
+    private static final Logger LOG = Logs.get(MainWindow.class);
     // Constantes para estilo
     private static final Color PRIMARY_COLOR = new Color(25, 118, 210);
     private static final Color BACKGROUND_COLOR = new Color(245, 245, 245);
@@ -43,7 +50,7 @@ public class MainWindow extends JFrame {
     private JPanel mainPanel;
     private JPanel gamePanel;
     private DigitPanel digitPanel;
-    private GameBoard gameBoard;
+    private BoardView gameBoard;
     private TimerDisplay timerDisplay;
 
     private Timer timer;
@@ -189,7 +196,7 @@ public class MainWindow extends JFrame {
         gamePanel.setBackground(BACKGROUND_COLOR);
 
         // Tablero
-        gameBoard = new GameBoard(configuration.getGridSize());
+        gameBoard = createBoardView(configuration);
         
         // Panel de dígitos
         digitPanel = new DigitPanel();
@@ -202,7 +209,7 @@ public class MainWindow extends JFrame {
         sidePanel.add(buttonPanel);
 
         // Colocar según configuración
-        gamePanel.add(gameBoard, BorderLayout.CENTER);
+        gamePanel.add(gameBoard.getComponent(), BorderLayout.CENTER);
         
         // Remover paneles existentes para evitar duplicados
         if (mainPanel.getComponentCount() > 0) {
@@ -213,10 +220,45 @@ public class MainWindow extends JFrame {
         // Agregar los paneles en la posición correcta
         if (configuration.getDigitPanelPosition().equals("left")) {
             mainPanel.add(sidePanel, BorderLayout.WEST);
-            gamePanel.add(gameBoard, BorderLayout.CENTER);
+            gamePanel.add(gameBoard.getComponent(), BorderLayout.CENTER);
         } else {
             mainPanel.add(sidePanel, BorderLayout.EAST);
-            gamePanel.add(gameBoard, BorderLayout.CENTER);
+            gamePanel.add(gameBoard.getComponent(), BorderLayout.CENTER);
+        }
+    }
+
+    /**
+     * Crea la vista del tablero que indica la configuración.
+     * 
+     * @param config La configuración.
+     * @return El tablero dibujado en un solo componente o el armado con componentes por celda.
+     */
+    private BoardView createBoardView(Configuration config) {
+        if (GameConstants.BOARD_PAINTED.equals(config.getBoardRenderer())) {
+            return new PaintedGameBoard(config.getGridSize());
+        }
+        return new GameBoard(config.getGridSize());
+    }
+
+    /**
+     * Cambia la vista del tablero si la configuración pide otra forma de
+     * dibujarlo, conservando el tablero mostrado, si es jugable y el listener de clicks.
+     */
+    private void switchBoardViewIfNeeded() {
+        boolean painted = GameConstants.BOARD_PAINTED.equals(configuration.getBoardRenderer());
+        if (painted == (gameBoard instanceof PaintedGameBoard)) {
+            return;
+        }
+        LOG.log(Level.INFO, () -> "Cambiando la forma de dibujar el tablero a " + configuration.getBoardRenderer());
+        BoardView previous = gameBoard;
+        gameBoard = createBoardView(configuration);
+        gameBoard.setPlayable(previous.isPlayable());
+        if (gameController != null) {
+            gameBoard.addCellClickListener((row, col) -> gameController.handleCellClick(row, col));
+        }
+        FutoshikiBoard shown = previous.getRenderedBoard();
+        if (shown != null && shown.getSize() == configuration.getGridSize()) {
+            gameBoard.updateBoard(shown);
         }
     }
 
@@ -267,35 +309,31 @@ public class MainWindow extends JFrame {
     }
 
     /**
-     * Inicia el temporizador.
+     * Inicia el temporizador. El tiempo lo mide el {@link TimerController}; el
+     * timer de Swing solo redibuja el valor, así que un tick atrasado no cambia
+     * el tiempo medido.
      */
     public void startTimer() {
-        System.out.println("MainWindow: Iniciando timer");
+        LOG.log(Level.DEBUG, "Iniciando timer");
         if (timer != null) {
             timer.stop();
         }
         
-        timer = new Timer(1000, e -> {
+        timerController.resume();
+        timer = new Timer(GameConstants.TIMER_REFRESH_MS, e -> {
             timerController.actualizarTiempo();
-            updateTimer(timerController.getHoursPassed(), 
-                        timerController.getMinutesPassed(), 
-                        timerController.getSecondsPassed());
-                        
-            System.out.println("Timer tick: " + 
-                timerController.getHoursPassed() + ":" + 
-                timerController.getMinutesPassed() + ":" + 
-                timerController.getSecondsPassed());
+            setTimer();
         });
+        timer.setCoalesce(true);
         
         timer.start();
-        System.out.println("MainWindow: Timer iniciado");
     }
 
     /**
      * Reinicia el temporizador.
      */
     public void restartTimer() {
-        System.out.println("MainWindow: Reiniciando timer");
+        LOG.log(Level.DEBUG, "Reiniciando timer");
         if (timerController != null) {
             timerController.setHoursPassed(0);
             timerController.setMinutesPassed(0);
@@ -308,10 +346,13 @@ public class MainWindow extends JFrame {
      * Detiene el temporizador.
      */
     public void stopTimer() {
-        System.out.println("MainWindow: Deteniendo timer");
+        LOG.log(Level.DEBUG, "Deteniendo timer");
         if (timer != null) {
             timer.stop();
         }
+        if (timerController != null) {
+            timerController.pause();
+        }
     }
 
     /**
@@ -353,7 +394,9 @@ public class MainWindow extends JFrame {
      * Actualiza la visualización del temporizador.
      */
     private void setTimer() {
-        timerDisplay.updateTime(timerController.getHoursPassed(), timerController.getMinutesPassed(), timerController.getSecondsPassed());
+        // Un solo valor, para que horas, minutos y segundos sean del mismo instante
+        long total = timerController.getDisplaySeconds();
+        timerDisplay.updateTime((int) (total / 3600), (int) (total % 3600 / 60), (int) (total % 60));
     }
 
     /**
@@ -384,7 +427,6 @@ public class MainWindow extends JFrame {
         
         setupButtonListeners();
         gameBoard.addCellClickListener((row, col) -> {
-            System.out.println("MainWindow: Click en celda [" + row + "," + col + "]");
             if (gameController != null) {
                 gameController.handleCellClick(row, col);
             }
@@ -512,6 +554,34 @@ public class MainWindow extends JFrame {
         gameButtons[gameButtons.length - 1].setEnabled(true);
     }
 
+    /**
+     * Deshabilita los botones que cambian la partida (de INICIAR JUEGO a
+     * CARGAR JUEGO) mientras se busca la solución o se genera la partida en
+     * segundo plano. Al terminar
+     * se vuelven a habilitar con {@link #enableGameButtons(boolean)}.
+     */
+    public void disableGameActions() {
+        for (int i = 0; i <= 7; i++) {
+            gameButtons[i].setEnabled(false);
+        }
+    }
+
+    /**
+     * Indica en la ventana que se está generando la partida. Mientras tanto el
+     * tablero no se puede jugar y los botones que cambian la partida quedan
+     * deshabilitados; al terminar los habilita quien empieza la partida.
+     *
+     * @param generating true al empezar a generar, false al terminar.
+     */
+    public void setGenerating(boolean generating) {
+        if (generating) {
+            disableGameActions();
+            gameBoard.setPlayable(false);
+            levelLabel.setText("GENERANDO PARTIDA...");
+        }
+        setCursor(Cursor.getPredefinedCursor(generating ? Cursor.WAIT_CURSOR : Cursor.DEFAULT_CURSOR));
+    }
+
     /**
      * Actualiza el temporizador.
      * 
@@ -547,7 +617,7 @@ public class MainWindow extends JFrame {
      * 
      * @return El tablero del juego.
      */
-    public GameBoard getGameBoard() {
+    public BoardView getGameBoard() {
         return gameBoard;
     }
 
@@ -584,7 +654,7 @@ public class MainWindow extends JFrame {
      * @param config La configuración del juego.
      */
     public void setConfiguration(Configuration config) {
-        System.out.println("MainWindow: Actualizando configuración");
+        LOG.log(Level.DEBUG, "Actualizando configuración");
         this.configuration = config;
         updateConfigurationView();
         // Guardar la configuración cuando se actualiza en la ventana principal
@@ -595,9 +665,10 @@ public class MainWindow extends JFrame {
      * Actualiza la vista según la nueva configuración.
      */
     public void updateConfigurationView() {
-        System.out.println("MainWindow: Actualizando vista con nuevo tamaño: " + configuration.getGridSize());
+        LOG.log(Level.DEBUG, () -> "Actualizando vista con nuevo tamaño: " + configuration.getGridSize());
         
         // Actualizar el tablero con el nuevo tamaño
+        switchBoardViewIfNeeded();
         gameBoard.setSize(configuration.getGridSize());
         digitPanel.setMaxDigits(configuration.getGridSize());
         
@@ -619,10 +690,10 @@ public class MainWindow extends JFrame {
         // Colocar el panel lateral según la configuración
         if (configuration.getDigitPanelPosition().equals("left")) {
             mainPanel.add(sidePanel, BorderLayout.WEST);
-            gamePanel.add(gameBoard, BorderLayout.CENTER);
+            gamePanel.add(gameBoard.getComponent(), BorderLayout.CENTER);
         } else {
             mainPanel.add(sidePanel, BorderLayout.EAST);
-            gamePanel.add(gameBoard, BorderLayout.CENTER);
+            gamePanel.add(gameBoard.getComponent(), BorderLayout.CENTER);
         }
         
         // Forzar actualización visual
@@ -630,8 +701,6 @@ public class MainWindow extends JFrame {
         mainPanel.repaint();
         gamePanel.revalidate();
         gamePanel.repaint();
-        
-        System.out.println("MainWindow: Actualización de vista completada");
     }
 
     /**
@@ -0,0 +1,442 @@
+package view.game;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.JComponent;
+import javax.swing.Timer;
+
+import model.game.Celda;
+import model.game.FutoshikiBoard;
+import util.constants.GameConstants;
+import util.log.Logs;
+
+/**
+ * Tablero de juego dibujado en un solo componente.
+ *
+ * En lugar de un panel, un botón y dos etiquetas por celda como {@link GameBoard},
+ * todo el tablero se dibuja en {@link #paintComponent} y los clicks se traducen
+ * a una celda según su posición. Cambiar de tamaño no crea ni acomoda
+ * componentes. Al actualizarse solo se repinta la zona de las celdas que
+ * cambiaron, y el dibujo se limita a las celdas que tocan la zona de recorte.
+ * Cada número y desigualdad se dibuja una sola vez en una imagen que luego se copia.
+ */
+public class PaintedGameBoard extends JComponent implements BoardView {
+    private static final Logger LOG = Logs.get(PaintedGameBoard.class);
+    // Constantes para estilo, las mismas de GameBoard
+    private static final Color BACKGROUND_COLOR = new Color(245, 245, 245);
+    private static final Color CELL_BACKGROUND = Color.WHITE;
+    private static final Color CELL_BORDER = new Color(200, 200, 200);
+    private static final Color CONSTANT_COLOR = new Color(0, 102, 204);
+    private static final Color ERROR_COLOR = new Color(255, 102, 102);
+    private static final Color HOVER_COLOR = new Color(240, 240, 240);
+    private static final Color VALUE_COLOR = Color.BLACK;
+    private static final Color DISABLED_COLOR = new Color(153, 153, 153);
+    private static final Font VALUE_FONT = new Font("Arial", Font.PLAIN, 20);
+    private static final Font CONSTANT_FONT = new Font("Arial", Font.BOLD, 20);
+    private static final Font INEQUALITY_FONT = new Font("Arial Unicode MS", Font.BOLD, 20);
+    private static final int INEQUALITY_SIZE = 20;
+    private static final int MARGIN = 5;
+
+    private int size;
+    private int cellSize;
+    private byte[] values;
+    private BitSet constants;
+    private byte[] rightRelations;
+    private byte[] bottomRelations;
+    private volatile boolean isPlayable;
+    private final List<CellClickListener> listeners = new ArrayList<>();
+    // Celdas resaltadas, como fila * tamaño + columna, o -1
+    private int errorCell = -1;
+    private int hoverCell = -1;
+    private int pressedCell = -1;
+    private FutoshikiBoard renderedBoard;
+    // Imágenes de los textos ya dibujados, para la escala de pantalla actual
+    private final Map<String, BufferedImage> glyphs = new HashMap<>();
+    private double glyphScale;
+
+    /**
+     * Constructor de PaintedGameBoard.
+     *
+     * @param size El tamaño del tablero.
+     */
+    public PaintedGameBoard(int size) {
+        setOpaque(true);
+        resize(size);
+
+        MouseAdapter mouse = new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                pressedCell = cellAt(e.getX(), e.getY());
+            }
+
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                int cell = cellAt(e.getX(), e.getY());
+                if (cell >= 0 && cell == pressedCell) {
+                    handleClick(cell / PaintedGameBoard.this.size, cell % PaintedGameBoard.this.size);
+                }
+                pressedCell = -1;
+            }
+
+            @Override
+            public void mouseMoved(MouseEvent e) {
+                setHoverCell(cellAt(e.getX(), e.getY()));
+            }
+
+            @Override
+            public void mouseExited(MouseEvent e) {
+                setHoverCell(-1);
+            }
+        };
+        addMouseListener(mouse);
+        addMouseMotionListener(mouse);
+    }
+
+    /**
+     * Actualiza el tablero con los valores del modelo FutoshikiBoard. Si es el
+     * mismo tablero de la actualización anterior, solo se repintan las celdas
+     * que cambiaron desde entonces.
+     *
+     * @param board El modelo FutoshikiBoard.
+     */
+    @Override
+    public void updateBoard(FutoshikiBoard board) {
+        BitSet changed = board.takeChangedCells();
+        if (board != renderedBoard) {
+            changed.set(0, size * size);
+            renderedBoard = board;
+        }
+
+        Rectangle dirty = null;
+        for (int index = changed.nextSetBit(0); index >= 0 && index < size * size; index = changed.nextSetBit(index + 1)) {
+            int row = index / size;
+            int col = index % size;
+            values[index] = (byte) board.getValue(row, col);
+            constants.set(index, board.isConstant(row, col));
+            rightRelations[index] = (byte) board.getRightRelation(row, col);
+            bottomRelations[index] = (byte) board.getBottomRelation(row, col);
+
+            Rectangle area = cellArea(row, col);
+            dirty = dirty == null ? area : dirty.union(area);
+        }
+
+        if (dirty != null) {
+            repaint(dirty);
+        }
+    }
+
+    @Override
+    public void updateCell(int row, int col, Celda celda) {
+        int index = row * size + col;
+        values[index] = (byte) celda.getValor();
+        constants.set(index, celda.isConstant());
+        rightRelations[index] = (byte) relationOf(celda.getDesDer());
+        bottomRelations[index] = (byte) relationOf(celda.getDesAbajo());
+        if (errorCell == index) {
+            errorCell = -1;
+        }
+        repaint(cellArea(row, col));
+    }
+
+    @Override
+    public void showError(int row, int col) {
+        int index = row * size + col;
+        if (errorCell >= 0) {
+            repaintCell(errorCell);
+        }
+        errorCell = index;
+        repaintCell(index);
+
+        // Programar la limpieza del error después de 2 segundos
+        Timer timer = new Timer(2000, e -> {
+            if (errorCell == index) {
+                errorCell = -1;
+                repaintCell(index);
+            }
+        });
+        timer.setRepeats(false);
+        timer.start();
+    }
+
+    /**
+     * Establece el tamaño del tablero. No se crean componentes: solo cambian
+     * los arreglos del estado y el tamaño preferido.
+     *
+     * @param newSize El nuevo tamaño del tablero.
+     */
+    @Override
+    public void setSize(int newSize) {
+        if (this.size != newSize) {
+            int oldSize = this.size;
+            LOG.log(Level.DEBUG, () -> "Actualizando tamaño de " + oldSize + " a " + newSize);
+            resize(newSize);
+            revalidate();
+            repaint();
+        }
+    }
+
+    @Override
+    public void setPlayable(boolean playable) {
+        LOG.log(Level.DEBUG, () -> "Jugable " + playable);
+        this.isPlayable = playable;
+        repaint();
+    }
+
+    @Override
+    public boolean isPlayable() {
+        return isPlayable;
+    }
+
+    @Override
+    public void addCellClickListener(CellClickListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeCellClickListener(CellClickListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public void reset() {
+        Arrays.fill(values, (byte) 0);
+        Arrays.fill(rightRelations, (byte) 0);
+        Arrays.fill(bottomRelations, (byte) 0);
+        constants.clear();
+        errorCell = -1;
+        renderedBoard = null;
+        repaint();
+    }
+
+    @Override
+    public FutoshikiBoard getRenderedBoard() {
+        return renderedBoard;
+    }
+
+    @Override
+    public JComponent getComponent() {
+        return this;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2 = (Graphics2D) g.create();
+        try {
+            double scale = g2.getTransform().getScaleX();
+            if (scale != glyphScale) {
+                glyphs.clear();
+                glyphScale = scale;
+            }
+
+            Rectangle clip = g2.getClipBounds();
+            if (clip == null) {
+                clip = new Rectangle(0, 0, getWidth(), getHeight());
+            }
+            g2.setColor(BACKGROUND_COLOR);
+            g2.fillRect(clip.x, clip.y, clip.width, clip.height);
+
+            // Solo las celdas que tocan la zona de recorte
+            int pitch = pitch();
+            int firstCol = Math.max(0, Math.floorDiv(clip.x - originX(), pitch));
+            int lastCol = Math.min(size - 1, Math.floorDiv(clip.x + clip.width - 1 - originX(), pitch));
+            int firstRow = Math.max(0, Math.floorDiv(clip.y - originY(), pitch));
+            int lastRow = Math.min(size - 1, Math.floorDiv(clip.y + clip.height - 1 - originY(), pitch));
+            for (int row = firstRow; row <= lastRow; row++) {
+                for (int col = firstCol; col <= lastCol; col++) {
+                    paintCell(g2, row, col);
+                }
+            }
+        } finally {
+            g2.dispose();
+        }
+    }
+
+    private void paintCell(Graphics2D g2, int row, int col) {
+        int index = row * size + col;
+        boolean constant = constants.get(index);
+        int x = originX() + col * pitch();
+        int y = originY() + row * pitch();
+
+        if (index == errorCell) {
+            g2.setColor(ERROR_COLOR);
+        } else if (index == hoverCell && isPlayable && !constant) {
+            g2.setColor(HOVER_COLOR);
+        } else {
+            g2.setColor(CELL_BACKGROUND);
+        }
+        g2.fillRect(x, y, cellSize, cellSize);
+        g2.setColor(CELL_BORDER);
+        g2.drawRect(x, y, cellSize - 1, cellSize - 1);
+
+        int value = values[index];
+        if (value > 0) {
+            if (constant) {
+                drawGlyph(g2, String.valueOf(value), CONSTANT_FONT, CONSTANT_COLOR, x, y, cellSize, cellSize);
+            } else {
+                drawGlyph(g2, String.valueOf(value), VALUE_FONT, isPlayable ? VALUE_COLOR : DISABLED_COLOR,
+                    x, y, cellSize, cellSize);
+            }
+        }
+
+        if (col < size - 1 && rightRelations[index] != GameConstants.INEQUALITY_NONE) {
+            String symbol = rightRelations[index] == GameConstants.INEQUALITY_GREATER
+                ? GameConstants.SYMBOL_GREATER : GameConstants.SYMBOL_LESSER;
+            drawGlyph(g2, symbol, INEQUALITY_FONT, VALUE_COLOR, x + cellSize, y, INEQUALITY_SIZE, cellSize);
+        }
+        if (row < size - 1 && bottomRelations[index] != GameConstants.INEQUALITY_NONE) {
+            String symbol = bottomRelations[index] == GameConstants.INEQUALITY_GREATER
+                ? GameConstants.SYMBOL_GREATER_COL : GameConstants.SYMBOL_LESSER_COL;
+            drawGlyph(g2, symbol, INEQUALITY_FONT, VALUE_COLOR, x, y + cellSize, cellSize, INEQUALITY_SIZE);
+        }
+    }
+
+    /**
+     * Copia la imagen de un texto centrada en un rectángulo.
+     */
+    private void drawGlyph(Graphics2D g2, String text, Font font, Color color, int x, int y, int width, int height) {
+        BufferedImage image = glyphs.computeIfAbsent(
+            font.getName() + ":" + font.getStyle() + ":" + color.getRGB() + ":" + text, key -> createGlyph(text, font, color));
+        int w = (int) Math.round(image.getWidth() / glyphScale);
+        int h = (int) Math.round(image.getHeight() / glyphScale);
+        g2.drawImage(image, x + (width - w) / 2, y + (height - h) / 2, w, h, null);
+    }
+
+    /**
+     * Dibuja un texto en una imagen con la resolución de la pantalla.
+     */
+    private BufferedImage createGlyph(String text, Font font, Color color) {
+        double scale = glyphScale > 0 ? glyphScale : 1;
+        FontMetrics metrics = getFontMetrics(font);
+        int width = Math.max(1, (int) Math.ceil(metrics.stringWidth(text) * scale));
+        int height = Math.max(1, (int) Math.ceil((metrics.getAscent() + metrics.getDescent()) * scale));
+
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.scale(scale, scale);
+            g.setFont(font);
+            g.setColor(color);
+            g.drawString(text, 0, metrics.getAscent());
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    private void handleClick(int row, int col) {
+        LOG.log(Level.DEBUG, () -> "Click en celda [" + row + "," + col + "]");
+        if (!isPlayable) {
+            LOG.log(Level.DEBUG, "Tablero no jugable");
+            return;
+        }
+        if (constants.get(row * size + col)) {
+            return;
+        }
+        for (CellClickListener listener : listeners) {
+            listener.onCellClick(row, col);
+        }
+    }
+
+    private void setHoverCell(int cell) {
+        if (cell != hoverCell) {
+            int previous = hoverCell;
+            hoverCell = cell;
+            if (previous >= 0) {
+                repaintCell(previous);
+            }
+            if (cell >= 0) {
+                repaintCell(cell);
+            }
+        }
+    }
+
+    private void repaintCell(int index) {
+        if (index < size * size) {
+            repaint(cellArea(index / size, index % size));
+        }
+    }
+
+    /**
+     * Obtiene la celda en una posición del componente.
+     *
+     * @return La celda como fila * tamaño + columna, o -1 si la posición no está sobre una celda.
+     */
+    private int cellAt(int x, int y) {
+        int px = x - originX();
+        int py = y - originY();
+        if (px < 0 || py < 0) {
+            return -1;
+        }
+        int col = px / pitch();
+        int row = py / pitch();
+        if (row >= size || col >= size || px % pitch() >= cellSize || py % pitch() >= cellSize) {
+            return -1;
+        }
+        return row * size + col;
+    }
+
+    /**
+     * Obtiene la zona de una celda junto con sus desigualdades a la derecha y abajo.
+     */
+    private Rectangle cellArea(int row, int col) {
+        return new Rectangle(originX() + col * pitch(), originY() + row * pitch(), pitch(), pitch());
+    }
+
+    private int pitch() {
+        return cellSize + INEQUALITY_SIZE;
+    }
+
+    // El tablero se centra en el espacio disponible
+    private int originX() {
+        return Math.max(MARGIN, (getWidth() - (pitch() * size - INEQUALITY_SIZE)) / 2);
+    }
+
+    private int originY() {
+        return Math.max(MARGIN, (getHeight() - (pitch() * size - INEQUALITY_SIZE)) / 2);
+    }
+
+    private void resize(int newSize) {
+        this.size = newSize;
+        this.cellSize = Math.min(60, 600 / newSize); // Ajuste dinámico del tamaño de celda
+        this.values = new byte[newSize * newSize];
+        this.constants = new BitSet(newSize * newSize);
+        this.rightRelations = new byte[newSize * newSize];
+        this.bottomRelations = new byte[newSize * newSize];
+        this.errorCell = -1;
+        this.hoverCell = -1;
+        this.renderedBoard = null;
+        setPreferredSize(new Dimension(pitch() * newSize + 2 * MARGIN, pitch() * newSize + 2 * MARGIN));
+    }
+
+    private static int relationOf(String symbol) {
+        switch (symbol) {
+            case GameConstants.SYMBOL_GREATER:
+            case GameConstants.SYMBOL_GREATER_COL:
+                return GameConstants.INEQUALITY_GREATER;
+            case GameConstants.SYMBOL_LESSER:
+            case GameConstants.SYMBOL_LESSER_COL:
+                return GameConstants.INEQUALITY_LESSER;
+            default:
+                return GameConstants.INEQUALITY_NONE;
+        }
+    }
+}